@@ -2,17 +2,36 @@
 precision mediump float;
 #endif
 
+// Set by LightingManager before compiling
+#ifndef MAX_LIGHTS
+#define MAX_LIGHTS 8
+#endif
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
 uniform vec2 u_resolution;
-uniform vec2 u_playerPos;
-uniform float u_radius;
+// x, y (screen pixels) and radius of each light
+uniform vec3 u_lights[MAX_LIGHTS];
+uniform int u_lightCount;
+// 0 = fully lit, 1 = black outside the lights
+uniform float u_darkness;
+// Fraction of each radius over which a light fades out
+uniform float u_softness;
 
 void main() {
-    vec2 fragCoord = gl_FragCoord.xy;
-    float dist = distance(fragCoord, u_playerPos);
+    vec4 scene = v_color * texture2D(u_texture, v_texCoords);
+    vec2 position = v_texCoords * u_resolution;
 
-    if (dist < u_radius) {
-        discard; // torna essa parte visível (sem escurecimento)
-    } else {
-        gl_FragColor = vec4(0.0, 0.0, 0.0, 0.85); // escurece o resto
+    float light = 0.0;
+    for (int i = 0; i < MAX_LIGHTS; i++) {
+        if (i >= u_lightCount) break;
+        float radius = u_lights[i].z;
+        float dist = distance(position, u_lights[i].xy);
+        light = max(light, 1.0 - smoothstep(radius * (1.0 - u_softness), radius, dist));
     }
+
+    float shade = u_darkness * (1.0 - light);
+    gl_FragColor = vec4(scene.rgb * (1.0 - shade), scene.a);
 }
@@ -0,0 +1,52 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import io.github.com.ranie_borges.thejungle.controller.CraftController;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recipe matching against inventories of growing size.
+ * The inventory holds enough sticks and rocks for every built-in recipe plus filler items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CraftingBenchmark {
+    @Param({"8", "64", "512"})
+    public int inventorySize;
+
+    private List<Item> inventory;
+    private Recipe axeRecipe;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        inventory = new ArrayList<>(inventorySize);
+        for (int i = 0; i < 3; i++) {
+            inventory.add(Material.createStick());
+            inventory.add(Material.createSmallRock());
+        }
+        for (int i = inventory.size(); i < inventorySize; i++) {
+            inventory.add(new Material("filler" + i, 0f, 1.0f, "Filler", 0f));
+        }
+        axeRecipe = new Recipe("Axe", Map.of("stick", 2, "rock", 3), Tool::createAxe);
+    }
+
+    @Benchmark
+    public boolean recipeMatches() {
+        return axeRecipe.matches(inventory);
+    }
+
+    @Benchmark
+    public List<Recipe> availableRecipes() {
+        return CraftController.getAvailableRecipes(inventory);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import io.github.com.ranie_borges.thejungle.controller.EventController;
+import io.github.com.ranie_borges.thejungle.model.enums.Discoveries;
+import io.github.com.ranie_borges.thejungle.model.events.Event;
+import io.github.com.ranie_borges.thejungle.model.events.events.Discovery;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of EventController.drawEvent for ambients with a growing number of possible events
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EventBenchmark {
+    @Param({"4", "32", "256"})
+    public int eventCount;
+
+    private EventController eventController;
+    private Ambient ambient;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        GameState gameState = new GameState();
+        eventController = gameState.getEventController();
+        ambient = new Jungle();
+        Discoveries[] types = Discoveries.values();
+        Map<Event, Double> events = new HashMap<>();
+        for (int i = 0; i < eventCount; i++) {
+            events.put(new Discovery("Event " + i, "Benchmark event", 0.5f, types[i % types.length]), 1.0 + i % 5);
+        }
+        ambient.setPossibleEvents(events);
+    }
+
+    @Benchmark
+    public Event drawEvent() {
+        return eventController.drawEvent(ambient);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Sets up just enough of libGDX for the game classes to run without a window.
+ * <p>
+ * Files come from the headless backend (internal assets resolve from the classpath) and every
+ * GL call is a no-op, so textures load their pixels but upload nothing. No application loop is
+ * started, so the benchmark JVM has no stray thread to wait for. The reported screen size is
+ * the 1920x1080 display the game usually runs fullscreen on, since {@code UI.MAP_WIDTH} and
+ * {@code MAP_HEIGHT} are derived from it; this must run before any class reads {@code UI}.
+ */
+final class HeadlessGdx {
+    static final int SCREEN_WIDTH = 1920;
+    static final int SCREEN_HEIGHT = 1080;
+
+    private static boolean started;
+
+    private HeadlessGdx() {
+    }
+
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        GdxNativesLoader.load();
+        Gdx.files = new HeadlessFiles();
+        Gdx.graphics = new MockGraphics() {
+            @Override
+            public int getWidth() {
+                return SCREEN_WIDTH;
+            }
+
+            @Override
+            public int getHeight() {
+                return SCREEN_HEIGHT;
+            }
+        };
+        Gdx.gl = Gdx.gl20 = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> defaultValue(method.getReturnType()));
+        started = true;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
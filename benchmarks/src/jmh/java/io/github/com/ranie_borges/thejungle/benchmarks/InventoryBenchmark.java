@@ -0,0 +1,46 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of Character.insertItemInInventory on large inventories of weightless, distinct items,
+ * so the carry limit never short-circuits the lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InventoryBenchmark {
+    @Param({"16", "256", "4096"})
+    public int inventorySize;
+
+    private Character character;
+    private String lastItemName;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        character = new Survivor("Benchmark", 0, 0);
+        character.setInventoryInitialCapacity(inventorySize);
+        for (int i = 0; i < inventorySize; i++) {
+            character.insertItemInInventory(new Material("item" + i, 0f, 1.0f, "Filler", 0f));
+        }
+        lastItemName = "item" + (inventorySize - 1);
+    }
+
+    /** Worst-case stack: the matching entry is the last one scanned */
+    @Benchmark
+    public void stackOntoLastItem() {
+        character.insertItemInInventory(new Material(lastItemName, 0f, 1.0f, "Filler", 0f));
+    }
+
+    /** A new item against a full inventory: the whole scan, then the capacity check */
+    @Benchmark
+    public void insertIntoFullInventory() {
+        character.insertItemInInventory(new Material("new item", 0f, 1.0f, "Filler", 0f));
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
+import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating one screen-sized map for each ambient
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MapGenerationBenchmark {
+    @Param({"Cave", "Jungle", "LakeRiver", "Mountain", "Ruins"})
+    public String ambientType;
+
+    private Ambient ambient;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        ambient = switch (ambientType) {
+            case "Cave" -> new Cave();
+            case "Jungle" -> new Jungle();
+            case "LakeRiver" -> new LakeRiver();
+            case "Mountain" -> new Mountain();
+            case "Ruins" -> new Ruins();
+            default -> throw new IllegalArgumentException("Unknown ambient: " + ambientType);
+        };
+    }
+
+    @Benchmark
+    public int[][] generateMap() {
+        // A new seed per call, so the numbers are not those of a single lucky layout
+        return ambient.generateMap(UI.MAP_WIDTH, UI.MAP_HEIGHT, seed++);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import io.github.com.ranie_borges.thejungle.controller.managers.SaveManager;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
+import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of SaveManager.saveGame and loadGame in both formats, at several save sizes.
+ * {@code itemCount} is the size of the player's inventory and of the remaining resources
+ * recorded for each of the five visited ambients. Saves go to the regular saves/ directory
+ * under a benchmark-only name and are deleted afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SaveBenchmark {
+    @Param({"10", "100", "1000"})
+    public int itemCount;
+
+    @Param({"JSON", "BINARY"})
+    public SaveManager.SaveFormat format;
+
+    private SaveManager saveManager;
+    private GameState gameState;
+    private String saveName;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        saveManager = new SaveManager(format);
+        saveName = "jmh-" + itemCount + "-" + format.name().toLowerCase();
+        gameState = buildGameState(itemCount);
+        if (!saveManager.saveGame(gameState, saveName)) {
+            throw new IllegalStateException("Initial save failed");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        saveManager.deleteSave(saveName);
+    }
+
+    @Benchmark
+    public boolean saveGame() {
+        return saveManager.saveGame(gameState, saveName);
+    }
+
+    @Benchmark
+    public GameState loadGame() {
+        return saveManager.loadGame(saveName);
+    }
+
+    @Benchmark
+    public GameState roundTrip() {
+        saveManager.saveGame(gameState, saveName);
+        return saveManager.loadGame(saveName);
+    }
+
+    private static GameState buildGameState(int itemCount) {
+        GameState state = new GameState();
+        Character character = new Survivor("Benchmark", 0, 0);
+        character.setInventoryInitialCapacity(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            character.insertItemInInventory(new Material("item" + i, 0f, 1.0f, "Filler", 0f));
+        }
+        state.setPlayerCharacter(character);
+
+        Ambient[] ambients = { new Cave(), new Jungle(), new LakeRiver(), new Mountain(), new Ruins() };
+        for (Ambient ambient : ambients) {
+            List<Item> resources = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                resources.add(i % 2 == 0 ? Material.createStick() : Material.createSmallRock());
+            }
+            state.setAmbientResources(ambient.getName(), resources);
+        }
+        Ambient current = ambients[1];
+        state.setCurrentAmbient(current);
+        state.setCurrentMap(current.generateMap(UI.MAP_WIDTH, UI.MAP_HEIGHT, state.getWorldSeed()));
+        state.setMapWidth(UI.MAP_WIDTH);
+        state.setMapHeight(UI.MAP_HEIGHT);
+        return state;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.com.ranie_borges.thejungle.benchmarks;
+
+import io.github.com.ranie_borges.thejungle.controller.ResourceController;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
+import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of populating a freshly generated map, in the order ProceduralMapScreen spawns.
+ * Creatures come back from the controller's pools after the first invocation, as in the game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SpawnBenchmark {
+    @Param({"Cave", "Jungle", "LakeRiver", "Mountain", "Ruins"})
+    public String ambientType;
+
+    private Ambient ambient;
+    private int[][] map;
+    private ResourceController resourceController;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        ambient = switch (ambientType) {
+            case "Cave" -> new Cave();
+            case "Jungle" -> new Jungle();
+            case "LakeRiver" -> new LakeRiver();
+            case "Mountain" -> new Mountain();
+            case "Ruins" -> new Ruins();
+            default -> throw new IllegalArgumentException("Unknown ambient: " + ambientType);
+        };
+        map = ambient.generateMap(UI.MAP_WIDTH, UI.MAP_HEIGHT, 42L);
+        resourceController = new ResourceController();
+    }
+
+    @Benchmark
+    public void spawnAll(Blackhole blackhole) {
+        resourceController.setSeed(seed++);
+        blackhole.consume(resourceController.spawnCreatures(ambient, map));
+        blackhole.consume(resourceController.spawnCannibals(ambient, map));
+        blackhole.consume(resourceController.spawnResources(ambient, map));
+        blackhole.consume(resourceController.spawnFish(ambient, map));
+        blackhole.consume(resourceController.spawnNPC(ambient, map));
+        blackhole.consume(resourceController.spawnBoat(ambient, map));
+        blackhole.consume(resourceController.spawnRadioGuy(ambient, map));
+    }
+
+    @Benchmark
+    public Object spawnResources() {
+        resourceController.setSeed(seed++);
+        return resourceController.spawnResources(ambient, map);
+    }
+
+    @Benchmark
+    public Object spawnCreatures() {
+        resourceController.setSeed(seed++);
+        return resourceController.spawnCreatures(ambient, map);
+    }
+}
@@ -104,7 +104,7 @@ public class AmbientController {
             if (saveFiles != null && saveFiles.length > 0) {
                 File fileToLoad = null;
                 for (File f : saveFiles) {
-                    if ("autosave.json".equalsIgnoreCase(f.getName())) {
+                    if ("autosave".equalsIgnoreCase(SaveManager.getSaveName(f))) {
                         fileToLoad = f;
                         break;
                     }
@@ -144,10 +144,11 @@ public class AmbientController {
 
     public void loadSpecificSaveGame(String saveName) { // Called if multiple saves were listed and one chosen
         try {
-            String fullFilename = saveName.endsWith(".json") ? saveName : saveName + ".json";
-            String savePath = "saves/" + fullFilename;
+            // SaveManager resolves the extension and detects JSON or binary format
+            String fullFilename = saveName;
+            String savePath = saveName;
 
-            logger.info("Loading specific save game from: {}", savePath);
+            logger.info("Loading specific save game: {}", savePath);
             GameState loadedGameState = saveManager.loadGame(savePath);
 
             if (loadedGameState != null) {
@@ -205,7 +206,7 @@ public class AmbientController {
 
     public void startNewGame() {
         logger.info("Starting new game sequence.");
-        currentSaveFileName = "autosave.json"; // New games will use autosave by default
+        currentSaveFileName = "autosave"; // New games will use autosave by default
         setScreen(new LoadingScreen(game));
     }
 
@@ -213,7 +214,7 @@ public class AmbientController {
         logger.info("Starting game with new character: {}", character.getName());
         this.gameState = new GameState();
         this.gameState.setPlayerCharacter(character);
-        currentSaveFileName = "autosave.json"; // Default save name for new games
+        currentSaveFileName = "autosave"; // Default save name for new games
 
         Ambient startingAmbient = new Jungle();
         this.gameState.setCurrentAmbient(startingAmbient);
@@ -235,7 +236,7 @@ public class AmbientController {
             return currentSaveFileName;
         }
         if (actualScreen instanceof ProceduralMapScreen) {
-            return "autosave.json"; // Default for active games not explicitly loaded from a named save
+            return "autosave"; // Default for active games not explicitly loaded from a named save
         }
         return null; // No active game or save context
     }
@@ -1,18 +1,67 @@
 package io.github.com.ranie_borges.thejungle.controller;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Pool;
 import io.github.com.ranie_borges.thejungle.view.ChatMessage;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * System event chat shown in the right sidebar.
+ * <p>
+ * Messages are kept in a fixed-size ring buffer, newest first, and recycled through a pool once
+ * they fall out of the history. The newest {@link #VISIBLE_MESSAGES} are shown until they expire;
+ * scrolling back shows the whole history. Each message lays out its glyphs once, and the
+ * parchment behind the chat is drawn into a texture once, so a frame of chat only draws cached
+ * glyphs and one quad.
+ */
 public class ChatController implements UI {
-    private final List<ChatMessage> chatMessages = new ArrayList<>();
-    private static final int maxMessages = 5;
+    public static final int DEFAULT_HISTORY = 50;
+    public static final int VISIBLE_MESSAGES = 5;
+    private static final int HISTORY_LINES = 15;
+    private static final float FADE_SECONDS = 2f;
+
+    private static final float CHAT_Y = 350f;
+    private static final float CHAT_HEIGHT = 500f;
+    private static final float FRAME_THICKNESS = 12f;
+    private static final float TEXT_START_Y = 800f;
+    private static final float LINE_HEIGHT = 30f;
+
+    private final ChatMessage[] history;
+    private int newest = -1;
+    private int count;
+    private int scrollOffset;
+    private final Pool<ChatMessage> pool;
+
+    private BitmapFont messageFont;
+    private Texture parchment;
+    private int parchmentWidth;
+
+    public ChatController() {
+        this(DEFAULT_HISTORY);
+    }
+
+    /**
+     * @param historyLength Messages kept for scrolling back
+     */
+    public ChatController(int historyLength) {
+        this.history = new ChatMessage[Math.max(VISIBLE_MESSAGES, historyLength)];
+        this.pool = new Pool<>(history.length, history.length + 1) {
+            @Override
+            protected ChatMessage newObject() {
+                return new ChatMessage();
+            }
+        };
+    }
 
     /**
      * Adds a message to the system event chat
@@ -20,10 +69,7 @@ public class ChatController implements UI {
      * @param message The message to add
      */
     public void addMessage(String message) {
-        chatMessages.add(0, new ChatMessage(message));
-        if (chatMessages.size() > maxMessages) {
-            chatMessages.remove(chatMessages.size() - 1);
-        }
+        addMessage(message, Color.WHITE);
     }
 
     /**
@@ -33,120 +79,211 @@ public class ChatController implements UI {
      * @param color   The color for the message
      */
     public void addMessage(String message, Color color) {
-        chatMessages.add(0, new ChatMessage(message, color));
-        if (chatMessages.size() > maxMessages) {
-            chatMessages.remove(chatMessages.size() - 1);
+        newest = (newest + 1) % history.length;
+        if (count == history.length) {
+            pool.free(history[newest]); // Oldest message falls out of the history
+        } else {
+            count++;
+        }
+        history[newest] = pool.obtain().set(message, color, ChatMessage.DEFAULT_DURATION);
+        if (scrollOffset > 0) {
+            scrollOffset = Math.min(scrollOffset + 1, maxScroll()); // Keep the same lines in view
         }
     }
 
     /**
-     * Removes a specific message by its content
+     * @param index 0 for the newest message
+     * @return The message, or null if the history is shorter
+     */
+    public ChatMessage getMessage(int index) {
+        if (index < 0 || index >= count) {
+            return null;
+        }
+        return history[Math.floorMod(newest - index, history.length)];
+    }
+
+    public int getMessageCount() {
+        return count;
+    }
+
+    public int getHistoryLength() {
+        return history.length;
+    }
+
+    /**
+     * Removes the newest message with that content
      *
      * @param message The message content to remove
      */
     public void removeMessage(String message) {
-        for (int i = 0; i < chatMessages.size(); i++) {
-            if (chatMessages.get(i).getText().equals(message)) {
-                chatMessages.remove(i);
+        for (int i = 0; i < count; i++) {
+            ChatMessage candidate = getMessage(i);
+            if (candidate.getText().equals(message)) {
+                // Shift the older messages up by one; removal is rare, so this stays simple
+                for (int j = i; j < count - 1; j++) {
+                    history[Math.floorMod(newest - j, history.length)] = getMessage(j + 1);
+                }
+                history[Math.floorMod(newest - (count - 1), history.length)] = null;
+                count--;
+                pool.free(candidate);
+                scrollOffset = Math.min(scrollOffset, maxScroll());
                 return;
             }
         }
     }
 
     public List<ChatMessage> getMessages() {
-        return chatMessages;
+        List<ChatMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(getMessage(i));
+        }
+        return messages;
     }
 
     /**
      * Clears all chat messages
      */
     public void clearMessages() {
-        chatMessages.clear();
+        for (int i = 0; i < count; i++) {
+            pool.free(getMessage(i));
+        }
+        Arrays.fill(history, null);
+        newest = -1;
+        count = 0;
+        scrollOffset = 0;
+    }
+
+    /**
+     * Scroll the chat through its history. At 0 the live messages are shown; from 1 on the
+     * history is shown, starting that many messages back from the newest one.
+     *
+     * @param lines Positive to go back to older messages
+     */
+    public void scroll(int lines) {
+        scrollOffset = Math.max(0, Math.min(maxScroll(), scrollOffset + lines));
+    }
+
+    public int getScrollOffset() {
+        return scrollOffset;
+    }
+
+    private int maxScroll() {
+        return count;
     }
 
     /**
-     * Updates the chat messages (removes expired messages)
+     * Counts down the messages on display. Messages expire from newest to oldest, so only the
+     * live ones are visited.
      *
      * @param delta Time elapsed since last frame
      */
     public void update(float delta) {
-        for (int i = chatMessages.size() - 1; i >= 0; i--) {
-            ChatMessage message = chatMessages.get(i);
-            message.setTimeLeft(message.getTimeLeft() - delta);
+        for (int i = 0; i < count && i < VISIBLE_MESSAGES; i++) {
+            ChatMessage message = getMessage(i);
             if (message.getTimeLeft() <= 0) {
-                chatMessages.remove(i);
+                break;
             }
+            message.setTimeLeft(message.getTimeLeft() - delta);
         }
     }
 
+    /**
+     * Draws the chat frame and parchment; the batch must be drawing
+     */
     public void renderChatArea(SpriteBatch batch, ShapeRenderer shapeRenderer, int width, int height,
             float sidebarWidth) {
         float chatX = width - sidebarWidth + 10;
-        float chatY = 350;
         float chatWidth = sidebarWidth - 20;
-        float chatAreaHeight = 500f;
-        float frameThickness = 12f;
-
-        batch.end();
+        Texture background = parchmentTexture((int) chatWidth);
+        batch.draw(background, chatX - FRAME_THICKNESS, CHAT_Y - FRAME_THICKNESS);
+    }
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    /**
+     * Build the framed, stained parchment once per chat width
+     */
+    private Texture parchmentTexture(int chatWidth) {
+        if (parchment != null && parchmentWidth == chatWidth) {
+            return parchment;
+        }
+        if (parchment != null) {
+            parchment.dispose();
+        }
+        int frame = (int) FRAME_THICKNESS;
+        int chatHeight = (int) CHAT_HEIGHT;
+        int totalWidth = chatWidth + frame * 2;
+        int totalHeight = chatHeight + frame * 2;
+        Pixmap pixmap = new Pixmap(totalWidth, totalHeight, Pixmap.Format.RGBA8888);
         // Outer dark brown frame
-        shapeRenderer.setColor(new Color(0.4f, 0.2f, 0.1f, 1f));
-        shapeRenderer.rect(chatX - frameThickness, chatY - frameThickness,
-                chatWidth + frameThickness * 2, chatAreaHeight + frameThickness * 2);
-
+        pixmap.setColor(0.4f, 0.2f, 0.1f, 1f);
+        pixmap.fill();
         // Inner medium brown frame with "grain" effect
-        shapeRenderer.setColor(new Color(0.6f, 0.3f, 0.1f, 1f));
-        shapeRenderer.rect(chatX - frameThickness + 2, chatY - frameThickness + 2,
-                chatWidth + frameThickness * 2 - 4, chatAreaHeight + frameThickness * 2 - 4);
-
+        pixmap.setColor(0.6f, 0.3f, 0.1f, 1f);
+        pixmap.fillRectangle(2, 2, totalWidth - 4, totalHeight - 4);
         // Parchment background (slightly yellowish white)
-        shapeRenderer.setColor(new Color(0.95f, 0.92f, 0.82f, 0.9f));
-        shapeRenderer.rect(chatX, chatY, chatWidth, chatAreaHeight);
-        shapeRenderer.end();
-
-        // Draw "stains" on the parchment for an aged look
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(new Color(0.8f, 0.7f, 0.5f, 0.7f));
-        float stainWidth = 1f;
-        float stainHeight = 1.5f;
-        for (float x = chatX; x < chatX + chatWidth; x += stainWidth * 2) {
-            for (float y = chatY; y < chatY + chatAreaHeight; y += stainHeight * 2) {
-                shapeRenderer.rect(x, y, stainWidth, stainHeight);
+        pixmap.setColor(0.95f, 0.92f, 0.82f, 0.9f);
+        pixmap.fillRectangle(frame, frame, chatWidth, chatHeight);
+        // "Stains" on the parchment for an aged look
+        pixmap.setColor(0.8f, 0.7f, 0.5f, 0.7f);
+        for (int x = 0; x < chatWidth; x += 2) {
+            for (int y = 0; y < chatHeight; y += 3) {
+                pixmap.drawPixel(frame + x, frame + chatHeight - 1 - y);
             }
         }
-        shapeRenderer.end();
-        batch.begin();
+        parchment = new Texture(pixmap);
+        pixmap.dispose();
+        parchmentWidth = chatWidth;
+        return parchment;
     }
 
     /**
-     * Renders all chat messages within the chat area
+     * Renders the live chat messages, or the history when scrolled back, within the chat area
      *
      * @param batch        The SpriteBatch to use for rendering
      * @param width        The screen width
      * @param sidebarWidth The width of the sidebar
      */
     public void renderChatMessages(SpriteBatch batch, int width, float sidebarWidth) {
-        if (chatMessages.isEmpty()) {
+        if (count == 0) {
             return;
         }
+        if (messageFont == null) {
+            messageFont = new BitmapFont();
+            messageFont.getData().setScale(0.8f);
+        }
 
         float chatX = width - sidebarWidth + 20; // Start text a bit inside the frame
-        float startY = 800; // Starting Y position for the first message
-        float lineHeight = 30; // Height of each message line
-
-        BitmapFont messageFont = new BitmapFont();
-        messageFont.getData().setScale(0.8f);
-
-        for (int i = 0; i < chatMessages.size(); i++) {
-            ChatMessage message = chatMessages.get(i);
-            messageFont.setColor(message.getColor());
-
-            float alpha = Math.min(1.0f, message.getTimeLeft() / 2.0f);
-            Color color = messageFont.getColor();
-            messageFont.setColor(color.r, color.g, color.b, alpha);
+        if (scrollOffset > 0) {
+            int first = scrollOffset - 1;
+            for (int line = 0; line < HISTORY_LINES && first + line < count; line++) {
+                BitmapFontCache glyphs = getMessage(first + line).getGlyphs(messageFont);
+                glyphs.setPosition(chatX, TEXT_START_Y - line * LINE_HEIGHT);
+                glyphs.draw(batch);
+            }
+            return;
+        }
+        for (int i = 0; i < count && i < VISIBLE_MESSAGES; i++) {
+            ChatMessage message = getMessage(i);
+            if (message.getTimeLeft() <= 0) {
+                break;
+            }
+            BitmapFontCache glyphs = message.getGlyphs(messageFont);
+            glyphs.setPosition(chatX, TEXT_START_Y - i * LINE_HEIGHT);
+            glyphs.draw(batch, Math.min(1.0f, message.getTimeLeft() / FADE_SECONDS));
+        }
+    }
 
-            messageFont.draw(batch, message.getText(), chatX, startY - i * lineHeight);
+    /**
+     * Release the chat's font and textures; they are recreated if the chat is drawn again
+     */
+    public void dispose() {
+        if (messageFont != null) {
+            messageFont.dispose();
+            messageFont = null;
+        }
+        if (parchment != null) {
+            parchment.dispose();
+            parchment = null;
         }
+        // Glyph caches notice the new font on the next draw and lay their text out again
     }
 }
@@ -2,9 +2,8 @@ package io.github.com.ranie_borges.thejungle.controller;
 
 import com.badlogic.gdx.utils.Array;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventory;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
-import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;
-import io.github.com.ranie_borges.thejungle.model.entity.itens.Weapon;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,16 +12,53 @@ import java.util.*;
 public class CraftController {
     private static final Logger logger = LoggerFactory.getLogger(CraftController.class); // Logger
 
-    private static final List<Recipe> recipes = new ArrayList<>();
+    private static RecipeRegistry registry;
 
-    static {
-        recipes.add(new Recipe("Knife", Map.of("stick", 1, "rock", 1), Tool::createKnife));
-        recipes.add(new Recipe("Axe", Map.of("stick", 2, "rock", 3), Tool::createAxe));
-        recipes.add(new Recipe("Spear", Map.of("stick", 3, "rock", 1), Weapon::createWoodenSpear));
+    /**
+     * The recipes of {@value RecipeRegistry#RECIPES_FILE}, loaded on first use
+     */
+    public static synchronized RecipeRegistry getRegistry() {
+        if (registry == null) {
+            registry = RecipeRegistry.loadDefault();
+        }
+        return registry;
+    }
+
+    /**
+     * Use other recipes instead of {@value RecipeRegistry#RECIPES_FILE}; null loads the file again
+     * on next use
+     */
+    static synchronized void setRegistry(RecipeRegistry recipes) {
+        registry = recipes;
+    }
+
+    public static List<Recipe> getRecipes() {
+        return getRegistry().getAll();
+    }
+
+    /**
+     * The tracker of an inventory's craftable recipes, created and attached on first use. It is
+     * kept as one of the inventory's listeners, so it lives exactly as long as the inventory.
+     * Must only be used from the render thread.
+     */
+    public static CraftingTracker trackerFor(IInventory inventory) {
+        CraftingTracker tracker = inventory.findInventoryListener(CraftingTracker.class);
+        if (tracker == null) {
+            tracker = new CraftingTracker(getRegistry());
+            tracker.attach(inventory);
+        }
+        return tracker;
+    }
+
+    /**
+     * @return The recipes the inventory can craft, kept up to date by its tracker; do not modify
+     */
+    public static Array<Recipe> getAvailableRecipes(IInventory inventory) {
+        return trackerFor(inventory).getCraftable();
     }
 
     public static Item tryCraft(List<Item> items) {
-        for (Recipe recipe : recipes) {
+        for (Recipe recipe : getRecipes()) {
             if (recipe.matches(items)) {
                 return recipe.craft();
             }
@@ -31,123 +67,98 @@ public class CraftController {
     }
 
     public static Item craft(String itemName, List<Item> items) {
-        for (Recipe recipe : recipes) {
-            if (recipe.getResultName().equalsIgnoreCase(itemName) && recipe.matches(items)) {
-                // Note: This version doesn't consume items from the passed list.
-                // It's more of a check and create.
-                return recipe.craft();
-            }
+        Recipe recipe = getRegistry().byResult(itemName);
+        if (recipe != null && recipe.matches(items)) {
+            // Note: This version doesn't consume items from the passed list.
+            // It's more of a check and create.
+            return recipe.craft();
         }
         return null;
     }
 
-    public static Item craft(String itemName, Array<Item> inventory) {
-        for (Recipe recipe : recipes) {
-            if (recipe.getResultName().equalsIgnoreCase(itemName)) {
-                List<Item> itemList = new ArrayList<>();
-                for (int i = 0; i < inventory.size; i++) { // Use indexed loop for GDX Array
-                    Item item = inventory.get(i);
-                    if (item != null) {
-                        itemList.add(item);
-                    }
-                }
-
-                if (recipe.matches(itemList)) {
-                    boolean consumedSuccessfully = consumeIngredients(recipe, inventory);
-                    if (consumedSuccessfully) {
-                        logger.info("Successfully crafted {}. Ingredients consumed.", itemName);
-                        return recipe.craft();
-                    } else {
-                        logger.warn("Could not craft {}: failed to consume all ingredients.", itemName);
-                        return null;
-                    }
-                }
-            }
+    /**
+     * Craft from a character's inventory: the ingredients are consumed through it, so its
+     * quantities and carried weight stay up to date, and every output is put into it. Nothing is
+     * consumed unless all the outputs fit, in slots and in weight, once the ingredients are gone.
+     *
+     * @return The crafted items, empty if the recipe is unknown, cannot be crafted or its
+     *         outputs do not fit
+     */
+    public static List<Item> craftInto(String itemName, IInventory inventory) {
+        Recipe recipe = getRegistry().byResult(itemName);
+        if (recipe == null || !recipe.matches(inventory)) {
+            logger.debug("No matching recipe found for {} or ingredients insufficient.", itemName);
+            return Collections.emptyList();
         }
-        logger.debug("No matching recipe found for {} or ingredients insufficient.", itemName);
-        return null;
-    }
-
-    public static boolean canCraft(String itemName, List<Item> inventory) {
-        for (Recipe recipe : recipes) {
-            if (recipe.getResultName().equalsIgnoreCase(itemName) && recipe.matches(inventory)) {
-                return true;
-            }
+        List<Item> crafted = recipe.craftAll();
+        if (!hasRoomFor(recipe, crafted, inventory)) {
+            logger.info("Could not craft {}: no room in the inventory for the result.", itemName);
+            return Collections.emptyList();
         }
-        return false;
-    }
-
-    public static boolean canCraft(String itemName, Array<Item> inventory) {
-        List<Item> items = new ArrayList<>();
-        for (int i = 0; i < inventory.size; i++) { // Use indexed loop
-            Item item = inventory.get(i);
-            if (item != null) {
-                items.add(item);
+        for (Map.Entry<String, Integer> reqEntry : recipe.getRequiredItems().entrySet()) {
+            if (!inventory.removeItemQuantity(reqEntry.getKey(), reqEntry.getValue())) {
+                logger.warn("Could not craft {}: failed to consume {}.", itemName, reqEntry.getKey());
+                return Collections.emptyList();
             }
         }
-        return canCraft(itemName, items);
-    }
-
-    public static List<Recipe> getAvailableRecipes(List<Item> inventory) {
-        List<Recipe> available = new ArrayList<>();
-        for (Recipe recipe : recipes) {
-            if (recipe.matches(inventory)) {
-                available.add(recipe);
+        for (Item item : crafted) {
+            if (!inventory.insertItemInInventory(item)) {
+                // hasRoomFor should have caught this; report it rather than lose the item quietly
+                logger.error("Crafted {} but {} did not fit in the inventory.", itemName, item.getName());
             }
         }
-        return available;
+        logger.info("Successfully crafted {}. Ingredients consumed.", itemName);
+        return crafted;
     }
 
-    public static boolean consumeIngredients(Recipe recipe, Array<Item> inventory) {
-        Map<String, Integer> required = new HashMap<>(recipe.getRequiredItems());
-        Map<String, Integer> initiallyAvailable = new HashMap<>();
-
-        // 1. Check if all ingredients are available in sufficient quantities
-        for (int i = 0; i < inventory.size; i++) {
-            Item item = inventory.get(i);
-            if (item != null) {
-                String itemNameLower = item.getName().toLowerCase();
-                initiallyAvailable.put(itemNameLower, initiallyAvailable.getOrDefault(itemNameLower, 0) + item.getQuantity());
+    /**
+     * Whether the outputs fit once the ingredients are consumed. Outputs that stack onto a carried
+     * item need no slot; an ingredient used up entirely frees at least one.
+     */
+    private static boolean hasRoomFor(Recipe recipe, List<Item> outputs, IInventory inventory) {
+        float freedWeight = 0f;
+        int freedSlots = 0;
+        Set<String> usedUp = new HashSet<>();
+        for (Map.Entry<String, Integer> reqEntry : recipe.getRequiredItems().entrySet()) {
+            String name = reqEntry.getKey();
+            int carried = inventory.getItemQuantity(name);
+            if (carried <= 0) continue;
+            freedWeight += inventory.getItemWeight(name) * Math.min(reqEntry.getValue(), carried) / carried;
+            if (reqEntry.getValue() >= carried) {
+                freedSlots++;
+                usedUp.add(name.toLowerCase(Locale.ROOT));
             }
         }
-
-        for (Map.Entry<String, Integer> reqEntry : required.entrySet()) {
-            String requiredItemNameLower = reqEntry.getKey().toLowerCase();
-            int amountNeeded = reqEntry.getValue();
-            if (initiallyAvailable.getOrDefault(requiredItemNameLower, 0) < amountNeeded) {
-                logger.warn("Cannot consume ingredients for {}: Not enough {} (need {}, have {}).",
-                    recipe.getResultName(), requiredItemNameLower, amountNeeded, initiallyAvailable.getOrDefault(requiredItemNameLower, 0));
-                return false; // Not enough of an ingredient
+        float addedWeight = 0f;
+        int neededSlots = 0;
+        for (Item output : outputs) {
+            addedWeight += output.getWeight();
+            Item stack = inventory.findItem(output.getName(), output.getClass());
+            if (stack == null || stack.getClass() != output.getClass()
+                || usedUp.contains(output.getName().toLowerCase(Locale.ROOT))) {
+                neededSlots++;
             }
         }
+        return inventory.getInventorySize() - freedSlots + neededSlots <= inventory.getInventoryInitialCapacity()
+            && inventory.canCarryMore(addedWeight - freedWeight);
+    }
 
-        for (Map.Entry<String, Integer> reqEntry : recipe.getRequiredItems().entrySet()) {
-            String requiredItemNameLower = reqEntry.getKey().toLowerCase();
-            int amountToConsume = reqEntry.getValue(); // Total amount needed for this type
-
-            for (int i = 0; i < inventory.size; i++) {
-                if (amountToConsume <= 0) break; // Done with this ingredient type
-
-                Item currentItem = inventory.get(i);
-                if (currentItem != null && currentItem.getName().toLowerCase().equals(requiredItemNameLower)) {
-                    int consumeFromThisStack = Math.min(amountToConsume, currentItem.getQuantity());
-
-                    currentItem.setQuantity(currentItem.getQuantity() - consumeFromThisStack);
-                    amountToConsume -= consumeFromThisStack;
+    public static boolean canCraft(String itemName, IInventory inventory) {
+        return trackerFor(inventory).isCraftable(itemName);
+    }
 
-                    if (currentItem.getQuantity() <= 0) {
-                        inventory.set(i, null); // Mark slot for removal
-                    }
-                }
-            }
-        }
+    public static boolean canCraft(String itemName, List<Item> inventory) {
+        Recipe recipe = getRegistry().byResult(itemName);
+        return recipe != null && recipe.matches(inventory);
+    }
 
-        for (int i = inventory.size - 1; i >= 0; i--) {
-            if (inventory.get(i) == null) {
-                inventory.removeIndex(i);
+    public static List<Recipe> getAvailableRecipes(List<Item> inventory) {
+        List<Recipe> available = new ArrayList<>();
+        for (Recipe recipe : getRecipes()) {
+            if (recipe.matches(inventory)) {
+                available.add(recipe);
             }
         }
-        logger.debug("Ingredients consumed for recipe: {}. Inventory size after consumption: {}", recipe.getResultName(), inventory.size);
-        return true;
+        return available;
     }
 }
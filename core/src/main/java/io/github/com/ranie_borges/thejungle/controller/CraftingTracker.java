@@ -0,0 +1,118 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventory;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventoryListener;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of which recipes an inventory can craft.
+ * <p>
+ * The tracker listens to the inventory and, when an item's quantity changes, re-checks only the
+ * recipes that use that item (see {@link RecipeRegistry#usedBy(String)}). Reading the craftable
+ * recipes is a lookup, so views can ask every frame without scanning the inventory or allocating.
+ */
+public class CraftingTracker implements IInventoryListener {
+    private static final Logger logger = LoggerFactory.getLogger(CraftingTracker.class);
+
+    private final RecipeRegistry registry;
+    private final ObjectSet<Recipe> craftableSet = new ObjectSet<>();
+    private final Array<Recipe> craftable = new Array<>();
+    private IInventory inventory;
+
+    public CraftingTracker(RecipeRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Follow an inventory instead of the current one; null stops tracking
+     */
+    public void attach(IInventory inventory) {
+        if (this.inventory == inventory) {
+            return;
+        }
+        if (this.inventory != null) {
+            this.inventory.removeInventoryListener(this);
+        }
+        this.inventory = inventory;
+        if (inventory != null) {
+            inventory.addInventoryListener(this);
+        }
+        recomputeAll();
+    }
+
+    public IInventory getInventory() {
+        return inventory;
+    }
+
+    public boolean isCraftable(Recipe recipe) {
+        return craftableSet.contains(recipe);
+    }
+
+    public boolean isCraftable(String resultName) {
+        for (int i = 0; i < craftable.size; i++) {
+            if (craftable.get(i).getResultName().equalsIgnoreCase(resultName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The craftable recipes, in the order they became craftable; do not modify
+     */
+    public Array<Recipe> getCraftable() {
+        return craftable;
+    }
+
+    @Override
+    public void onItemQuantityChanged(IInventory inventory, String itemName) {
+        if (inventory != this.inventory) {
+            return;
+        }
+        List<Recipe> affected = registry.usedBy(itemName);
+        for (int i = 0; i < affected.size(); i++) {
+            update(affected.get(i));
+        }
+    }
+
+    @Override
+    public void onInventoryReset(IInventory inventory) {
+        if (inventory == this.inventory) {
+            recomputeAll();
+        }
+    }
+
+    private void recomputeAll() {
+        craftableSet.clear();
+        craftable.clear();
+        if (inventory != null) {
+            for (Recipe recipe : registry.craftable(inventory, new ArrayList<>())) {
+                craftableSet.add(recipe);
+                craftable.add(recipe);
+            }
+        }
+    }
+
+    /**
+     * @return True if the recipe's availability changed
+     */
+    private boolean update(Recipe recipe) {
+        boolean canCraft = inventory != null && recipe.matches(inventory);
+        boolean changed = canCraft ? craftableSet.add(recipe) : craftableSet.remove(recipe);
+        if (changed) {
+            if (canCraft) craftable.add(recipe);
+            else craftable.removeValue(recipe, true);
+        }
+        if (changed && logger.isDebugEnabled()) {
+            logger.debug("Recipe {} is now {}", recipe.getResultName(), canCraft ? "craftable" : "not craftable");
+        }
+        return changed;
+    }
+}
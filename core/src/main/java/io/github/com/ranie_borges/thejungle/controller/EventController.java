@@ -20,6 +20,10 @@ public class EventController {
     private final transient Random random; // Added transient
     private GameState gameState; // Should not be exposed directly if managed by AmbientController
     private static final int MAX_HISTORY_SIZE = 15;
+    // Candidates of the last ambient drawn from; stale when the ambient or a version changes.
+    // Only one is kept: every rotation builds new Ambient instances, so older entries would never be hit again
+    private transient CachedSampler cached;
+    private transient int historyVersion;
 
     public EventController(GameState gameState) {
         this.possibleEvents = new HashMap<>();
@@ -28,6 +32,13 @@ public class EventController {
         this.gameState = gameState;
     }
 
+    /**
+     * Reseed the event stream, e.g. so a simulated playthrough draws the same events every run
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
     // ... (rest of the methods remain the same, ensure 'random' is used where 'new Random()' was)
     public Map<Event, Float>getPossibleEvents() {
         return possibleEvents;
@@ -60,59 +71,74 @@ public class EventController {
     }
 
 
+    /**
+     * Draw one of the ambient's possible events, weighted by its probability, skipping events that
+     * occurred recently. The candidates of the current ambient are kept in an {@link EventSampler}
+     * that is rebuilt only when the ambient, its events, an event's availability or the history
+     * change, so a draw takes constant time however many events an ambient has.
+     */
     public Event drawEvent(Ambient ambient) {
         try {
             if (ambient == null) {
                 logger.debug("Cannot draw event: ambient is null");
                 return null;
             }
-            // Use events defined in the Ambient object itself
-            Map<Event, Double> environmentEvents = ambient.getPossibleEvents();
-            if (environmentEvents == null || environmentEvents.isEmpty()) {
-                logger.debug("No possible events defined for ambient: {}", ambient.getName());
+            EventSampler sampler = samplerFor(ambient);
+            if (sampler == null) {
+                logger.debug("No candidate events available for ambient: {}", ambient.getName());
                 return null;
             }
+            Event event = sampler.sample(random);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Selected event: {} for ambient: {}", event.getName(), ambient.getName());
+            }
+            return event;
+        } catch (Exception e) {
+            logger.error("Error drawing event: {}", e.getMessage(), e);
+            throw new EventControllerException("Error drawing event", e);
+        }
+    }
+
+    /**
+     * @return The ambient's sampler, rebuilt if it is stale; null if the ambient has no candidate events
+     */
+    private EventSampler samplerFor(Ambient ambient) {
+        int eventsVersion = ambient.getEventsVersion();
+        int availabilityVersion = Event.getAvailabilityVersion();
+        if (cached != null && cached.ambient == ambient && cached.eventsVersion == eventsVersion
+                && cached.availabilityVersion == availabilityVersion && cached.historyVersion == historyVersion) {
+            return cached.sampler;
+        }
 
-            List<Event> candidateEvents = new ArrayList<>();
+        Map<Event, Double> environmentEvents = ambient.getPossibleEvents();
+        List<Event> candidateEvents = new ArrayList<>();
+        if (environmentEvents != null) {
             for (Event event : environmentEvents.keySet()) {
                 if (event.isPossible() && !recentlyOccurred(event)) {
                     candidateEvents.add(event);
                 }
             }
-
-            if (candidateEvents.isEmpty()) {
-                logger.debug("No candidate events available for ambient: {}", ambient.getName());
-                return null;
-            }
-
+        }
+        EventSampler sampler = null;
+        if (!candidateEvents.isEmpty()) {
+            double[] weights = new double[candidateEvents.size()];
             double totalProbability = 0;
-            for (Event event : candidateEvents) {
-                totalProbability += environmentEvents.get(event); // Probability from Ambient's map
+            for (int i = 0; i < weights.length; i++) {
+                Double weight = environmentEvents.get(candidateEvents.get(i));
+                weights[i] = weight != null ? weight : 0;
+                totalProbability += Math.max(0, weights[i]);
             }
-
-            if (totalProbability <= 0) { // Avoid division by zero or infinite loop if all probs are 0
+            if (totalProbability <= 0) {
                 logger.debug("Total probability for candidate events is zero or less for ambient: {}. Selecting randomly.", ambient.getName());
-                return candidateEvents.get(random.nextInt(candidateEvents.size()));
-            }
-
-
-            double randomValue = random.nextDouble() * totalProbability;
-            double cumulativeProbability = 0;
-
-            for (Event event : candidateEvents) {
-                cumulativeProbability += environmentEvents.get(event);
-                if (randomValue <= cumulativeProbability) {
-                    logger.debug("Selected event: {} for ambient: {}", event.getName(), ambient.getName());
-                    return event;
-                }
             }
-            // Fallback if somehow no event is selected by weighted random (should be rare if totalProbability > 0)
-            logger.warn("Weighted random selection failed for ambient: {}. Fallback to random unweighted selection.", ambient.getName());
-            return candidateEvents.get(random.nextInt(candidateEvents.size()));
-        } catch (Exception e) {
-            logger.error("Error drawing event: {}", e.getMessage(), e);
-            throw new EventControllerException("Error drawing event", e);
+            sampler = new EventSampler(candidateEvents, weights);
         }
+        cached = new CachedSampler(ambient, sampler, eventsVersion, availabilityVersion, historyVersion);
+        logger.trace("Rebuilt event sampler for ambient {} with {} candidates", ambient.getName(), candidateEvents.size());
+        return sampler;
+    }
+
+    private record CachedSampler(Ambient ambient, EventSampler sampler, int eventsVersion, int availabilityVersion, int historyVersion) {
     }
 
     public void applyEvent(Event event, Character character, Ambient ambient) {
@@ -198,6 +224,7 @@ public class EventController {
             if (eventHistory.size() > MAX_HISTORY_SIZE) {
                 eventHistory.remove(0);
             }
+            historyVersion++;
             logger.trace("Added event {} to history. History size: {}", event.getName(), eventHistory.size());
         } catch (Exception e) {
             logger.error("Failed to add event to history: {}", e.getMessage(), e);
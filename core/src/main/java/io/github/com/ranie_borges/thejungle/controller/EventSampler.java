@@ -0,0 +1,73 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import io.github.com.ranie_borges.thejungle.model.events.Event;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted draw over a fixed set of events in constant time (Vose's alias method).
+ * <p>
+ * Building the table is O(n); every {@link #sample(Random)} afterwards takes one random index and
+ * one random double, whatever the number of events. Tables are immutable, so they are rebuilt
+ * rather than updated when the candidates change.
+ */
+final class EventSampler {
+    private final Event[] events;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param events Candidates, not empty
+     * @param weights Weight of each candidate; if they do not sum to more than 0 every candidate is equally likely
+     */
+    EventSampler(List<Event> events, double[] weights) {
+        int n = events.size();
+        this.events = events.toArray(new Event[0]);
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double total = 0;
+        for (double weight : weights) {
+            total += Math.max(0, weight);
+        }
+        // Scaled so the average weight is 1; entries below 1 are topped up from an entry above 1
+        double[] scaled = new double[n];
+        for (int i = 0; i < n; i++) {
+            scaled[i] = total > 0 ? Math.max(0, weights[i]) * n / total : 1.0;
+        }
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    Event sample(Random random) {
+        int column = random.nextInt(events.length);
+        return random.nextDouble() < probability[column] ? events[column] : events[alias[column]];
+    }
+
+    int size() {
+        return events.length;
+    }
+}
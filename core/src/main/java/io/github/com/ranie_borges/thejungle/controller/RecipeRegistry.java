@@ -0,0 +1,190 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventory;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.ItemCatalog;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * All crafting recipes, loaded from {@value #RECIPES_FILE} and indexed by result name and by
+ * ingredient, so finding a recipe, the recipes that use an item, or the recipes an inventory can
+ * craft takes time proportional to the matches rather than to the size of the catalog.
+ * <p>
+ * Each entry of the file has a {@code name}, an {@code ingredients} object of item name to
+ * quantity, an optional {@code tools} list of items that must be carried but are not consumed,
+ * and an {@code outputs} list of {@code {"type", "item", "quantity"}} naming items of the
+ * {@link ItemCatalog}. Entries that cannot be used are logged and skipped.
+ */
+public class RecipeRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeRegistry.class);
+    public static final String RECIPES_FILE = "data/recipes.json";
+
+    private final List<Recipe> recipes = new ArrayList<>();
+    private final Map<String, Recipe> byResult = new HashMap<>();
+    private final Map<String, List<Recipe>> byIngredient = new HashMap<>();
+    // Recipes without ingredients are candidates for every inventory
+    private final List<Recipe> withoutIngredients = new ArrayList<>();
+
+    /**
+     * Load {@value #RECIPES_FILE} from the game's assets, or from the working directory when
+     * running without libGDX (the simulator runs from the assets folder)
+     */
+    public static RecipeRegistry loadDefault() {
+        try {
+            String json = Gdx.files != null
+                ? Gdx.files.internal(RECIPES_FILE).readString("UTF-8")
+                : Files.readString(Path.of(RECIPES_FILE));
+            return fromJson(new StringReader(json));
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to load recipes from {}: {}", RECIPES_FILE, e.getMessage());
+            return new RecipeRegistry();
+        }
+    }
+
+    public static RecipeRegistry fromJson(Reader reader) {
+        RecipeFile file = new Gson().fromJson(reader, RecipeFile.class);
+        RecipeRegistry registry = new RecipeRegistry();
+        if (file == null || file.recipes == null) {
+            throw new JsonParseException("No recipes list");
+        }
+        for (RecipeData data : file.recipes) {
+            try {
+                registry.add(data.toRecipe());
+            } catch (IllegalArgumentException e) {
+                logger.error("Skipping recipe {}: {}", data.name, e.getMessage());
+            }
+        }
+        logger.info("Loaded {} recipes", registry.recipes.size());
+        return registry;
+    }
+
+    public void add(Recipe recipe) {
+        String key = recipe.getResultName().toLowerCase(Locale.ROOT);
+        if (byResult.containsKey(key)) {
+            logger.warn("Duplicate recipe {}; keeping the first", recipe.getResultName());
+            return;
+        }
+        recipes.add(recipe);
+        byResult.put(key, recipe);
+        Set<String> uses = new HashSet<>(recipe.getRequiredItems().keySet());
+        uses.addAll(recipe.getRequiredTools());
+        for (String item : uses) {
+            byIngredient.computeIfAbsent(item, k -> new ArrayList<>()).add(recipe);
+        }
+        if (recipe.getRequiredItems().isEmpty() && recipe.getRequiredTools().isEmpty()) {
+            withoutIngredients.add(recipe);
+        }
+    }
+
+    public List<Recipe> getAll() {
+        return Collections.unmodifiableList(recipes);
+    }
+
+    /**
+     * @return The recipe producing that result, case-insensitive, or null
+     */
+    public Recipe byResult(String resultName) {
+        return resultName != null ? byResult.get(resultName.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    /**
+     * @return Recipes that consume or need the item as a tool; empty if none
+     */
+    public List<Recipe> usedBy(String itemName) {
+        List<Recipe> users = itemName != null ? byIngredient.get(itemName.toLowerCase(Locale.ROOT)) : null;
+        return users != null ? Collections.unmodifiableList(users) : Collections.emptyList();
+    }
+
+    /**
+     * Collect the recipes an inventory can craft. Only recipes that use something the inventory
+     * holds are checked, each once.
+     */
+    public <C extends Collection<Recipe>> C craftable(IInventory inventory, C out) {
+        ObjectSet<Recipe> checked = new ObjectSet<>();
+        Array<Item> items = inventory.getInventory();
+        for (int i = 0; i < items.size; i++) {
+            Item item = items.get(i);
+            if (item == null) continue;
+            List<Recipe> users = byIngredient.get(item.getName().toLowerCase(Locale.ROOT));
+            if (users == null) continue;
+            for (Recipe recipe : users) {
+                if (checked.add(recipe) && recipe.matches(inventory)) {
+                    out.add(recipe);
+                }
+            }
+        }
+        out.addAll(withoutIngredients);
+        return out;
+    }
+
+    public int size() {
+        return recipes.size();
+    }
+
+    private static final class RecipeFile {
+        List<RecipeData> recipes;
+    }
+
+    private static final class RecipeData {
+        String name;
+        Map<String, Integer> ingredients;
+        List<String> tools;
+        List<OutputData> outputs;
+
+        Recipe toRecipe() {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("missing name");
+            }
+            Map<String, Integer> required = ingredients != null ? ingredients : Collections.emptyMap();
+            for (Map.Entry<String, Integer> ingredient : required.entrySet()) {
+                if (ingredient.getValue() == null || ingredient.getValue() <= 0) {
+                    throw new IllegalArgumentException("invalid quantity for " + ingredient.getKey());
+                }
+            }
+            List<Supplier<Item>> factories = new ArrayList<>();
+            if (outputs != null) {
+                for (OutputData output : outputs) {
+                    factories.add(output.toFactory());
+                }
+            }
+            return new Recipe(name, required, tools != null ? tools : Collections.emptyList(), factories);
+        }
+    }
+
+    private static final class OutputData {
+        String type;
+        String item;
+        int quantity = 1;
+
+        Supplier<Item> toFactory() {
+            Supplier<? extends Item> factory = ItemCatalog.factory(type, item);
+            if (factory == null) {
+                throw new IllegalArgumentException("unknown item " + (type != null ? type + " " : "") + item);
+            }
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("invalid quantity for " + item);
+            }
+            int amount = quantity;
+            return () -> {
+                Item crafted = factory.get();
+                crafted.setQuantity(amount);
+                return crafted;
+            };
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.com.ranie_borges.thejungle.controller;
 
+import com.badlogic.gdx.utils.Pool;
 import io.github.com.ranie_borges.thejungle.model.entity.Creature;
 import io.github.com.ranie_borges.thejungle.model.entity.creatures.*;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
@@ -13,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Supplier;
 
 public class ResourceController implements UI {
     private static final Logger logger = LoggerFactory.getLogger(ResourceController.class);
@@ -28,6 +30,11 @@ public class ResourceController implements UI {
     private static final float Boat_SPAWN_PROBABILITY = 0.3f;
     private static final float RadioGuy_SPAWN_PROBABILITY = 0.01f;
 
+    // Creatures are recycled across map regenerations instead of being rebuilt on every door
+    private final Pool<Deer> deerPool = poolOf(Deer::new);
+    private final Pool<Cannibal> cannibalPool = poolOf(Cannibal::new);
+    private final Pool<Fish> fishPool = poolOf(Fish::new);
+
     private final Random random = new Random();
     private static final int MAX_NPC_TO_SPAWN = 1;
     private static final int MAX_Boat_TO_SPAWN = 1;
@@ -36,19 +43,48 @@ public class ResourceController implements UI {
 
 
 
+    private static <T extends Creature> Pool<T> poolOf(Supplier<T> factory) {
+        return new Pool<T>(8, 16) {
+            @Override
+            protected T newObject() {
+                return factory.get();
+            }
+        };
+    }
+
+    /**
+     * Return the creatures spawned for the previous map to their pool and clear the list.
+     * Creatures killed or captured since are only removed from the screen's entity store,
+     * so they are recycled here too.
+     */
+    private static <T extends Creature> void recycle(List<T> creatures, Pool<T> pool) {
+        for (T creature : creatures) {
+            pool.free(creature);
+        }
+        creatures.clear();
+    }
+
+    /**
+     * Reseed the spawn stream so the next map is populated reproducibly.
+     * Spawns must then happen in a fixed order, as they share the stream.
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
     public List<Material> spawnResources(Ambient ambient, int[][] map) {
         materialsOnMap.clear();
         try {
             if (ambient instanceof Cave) {
-                materialsOnMap.addAll(Material.spawnSmallRocks(3, map, MAP_WIDTH, MAP_HEIGHT, TILE_CAVE, TILE_SIZE));
+                materialsOnMap.addAll(Material.spawnSmallRocks(3, map, MAP_WIDTH, MAP_HEIGHT, TILE_CAVE, TILE_SIZE, random));
             } else if (ambient instanceof Jungle || ambient instanceof LakeRiver) {
-                materialsOnMap.addAll(Material.spawnSticksAndRocks(5, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE));
-                materialsOnMap.addAll(Material.spawnTrees(3, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE));
-                materialsOnMap.addAll(Material.spawnMedicinalPlants(3, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE));
-                materialsOnMap.addAll(Material.spawnBerryBushes(4, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE));
+                materialsOnMap.addAll(Material.spawnSticksAndRocks(5, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE, random));
+                materialsOnMap.addAll(Material.spawnTrees(3, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE, random));
+                materialsOnMap.addAll(Material.spawnMedicinalPlants(3, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE, random));
+                materialsOnMap.addAll(Material.spawnBerryBushes(4, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE, random));
             } else if (ambient instanceof Ruins) {
                 if (random.nextFloat() < COIN_SPAWN_PROBABILITY) {
-                    materialsOnMap.addAll(Material.spawnCoins(1, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE));
+                    materialsOnMap.addAll(Material.spawnCoins(1, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE, random));
                 }
             }
             logger.debug("Spawned {} materials for ambient: {}", materialsOnMap.size(), ambient.getName());
@@ -60,11 +96,11 @@ public class ResourceController implements UI {
     }
 
     public List<Deer> spawnCreatures(Ambient ambient, int[][] map) {
-        deers.clear();
+        recycle(deers, deerPool);
         try {
             deers.addAll(Creature.regenerateCreatures(
                 5, map, MAP_WIDTH, MAP_HEIGHT, TILE_GRASS, TILE_SIZE,
-                Deer::new, ambient, Deer::canSpawnIn));
+                deerPool::obtain, ambient, Deer::canSpawnIn, random));
             logger.debug("Spawned {} deers in {}", deers.size(), ambient.getName());
             return deers;
         } catch (Exception e) {
@@ -74,11 +110,11 @@ public class ResourceController implements UI {
     }
 
     public List<Cannibal> spawnCannibals(Ambient ambient, int[][] map) {
-        cannibals.clear();
+        recycle(cannibals, cannibalPool);
         try {
             cannibals.addAll(Creature.regenerateCreatures(
                 3, map, MAP_WIDTH, MAP_HEIGHT, TILE_CAVE, TILE_SIZE, // Cannibals prefer caves
-                Cannibal::new, ambient, Cannibal::canSpawnIn));
+                cannibalPool::obtain, ambient, Cannibal::canSpawnIn, random));
             logger.debug("Spawned {} cannibals in {}", cannibals.size(), ambient.getName());
             return cannibals;
         } catch (Exception e) {
@@ -89,7 +125,7 @@ public class ResourceController implements UI {
 
     // New method to spawn fish
     public List<Fish> spawnFish(Ambient ambient, int[][] map) {
-        this.fishes.clear();
+        recycle(this.fishes, fishPool);
         if (!(ambient instanceof LakeRiver)) {
             // logger.debug("Skipping fish spawn, not in LakeRiver ambient. Current ambient: {}", ambient.getName());
             return this.fishes;
@@ -102,9 +138,10 @@ public class ResourceController implements UI {
                 MAP_HEIGHT,
                 TILE_WATER, // Fish spawn in water tiles
                 TILE_SIZE,
-                Fish::new,
+                fishPool::obtain,
                 ambient,
-                Fish::canSpawnIn // Use the static canSpawnIn method from Fish class
+                Fish::canSpawnIn, // Use the static canSpawnIn method from Fish class
+                random
             ));
             logger.debug("Spawned {} fishes in {}", this.fishes.size(), ambient.getName());
             return this.fishes;
@@ -143,7 +180,8 @@ public class ResourceController implements UI {
                 TILE_SIZE, //
                 NPC::new, //
                 ambient, //
-                NPC::canSpawnIn //
+                NPC::canSpawnIn, //
+                random
             ));
             // Corrigir a mensagem de log
             logger.debug("Attempted to spawn {} NPCs in {}. Actually spawned: {}", actualNpcSpawnCount, ambient.getName(), this.NPCS.size()); //
@@ -182,7 +220,8 @@ public class ResourceController implements UI {
                 TILE_SIZE,
                 Boat::new,
                 ambient,
-                Boat::canSpawnIn
+                Boat::canSpawnIn,
+                random
             ));
             logger.debug("Attempted to spawn {} boats in {}. Actually spawned: {}", actualBoatSpawnCount, ambient.getName(), this.boats.size());
             return this.boats;
@@ -220,7 +259,8 @@ public class ResourceController implements UI {
                 TILE_SIZE,
                 RadioGuy::new,
                 ambient,
-                RadioGuy::canSpawnIn
+                RadioGuy::canSpawnIn,
+                random
             ));
             logger.debug("Attempted to spawn {} radioGuys in {}. Actually spawned: {}", actualRadioGuySpawnCount, ambient.getName(), this.radioGuys.size());
             return this.radioGuys;
@@ -0,0 +1,281 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import io.github.com.ranie_borges.thejungle.controller.managers.CharacterManager;
+import io.github.com.ranie_borges.thejungle.controller.managers.MapManager;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.Creature;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPlayerInput;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;
+import io.github.com.ranie_borges.thejungle.model.enums.DeathCause;
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
+import io.github.com.ranie_borges.thejungle.model.events.events.SnakeEventManager;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.EntityStore;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
+import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs the map, turn, event and inventory loop of ProceduralMapScreen without a window.
+ * <p>
+ * Input comes from an {@link IPlayerInput} (usually a ScriptedInput) and the end-of-day ambient
+ * choice from an {@link AmbientChooser}, so nothing here touches Gdx.input, GL or audio. With the
+ * same world seed, character, input and chooser a run is reproducible. Battles are screen-driven
+ * and are not simulated.
+ */
+public class SimulationController implements UI {
+    private static final Logger logger = LoggerFactory.getLogger(SimulationController.class);
+    private static final String CHOOSER_STREAM = "simulation";
+
+    /**
+     * Picks where to go when an ambient completes its cycle, in place of the choice dialog
+     */
+    @FunctionalInterface
+    public interface AmbientChooser {
+        /**
+         * @param cycleCompleted The ambient offered as "Stay Here"
+         * @param options The ambients the dialog would offer
+         * @return One of the options, or null to stay
+         */
+        Ambient choose(Ambient cycleCompleted, List<Ambient> options, Random random);
+    }
+
+    /** Picks uniformly among the options and "Stay Here" */
+    public static final AmbientChooser RANDOM_CHOICE = (cycleCompleted, options, random) -> {
+        int pick = random.nextInt(options.size() + 1);
+        return pick < options.size() ? options.get(pick) : null;
+    };
+
+    private final GameState gameState;
+    private final Character character;
+    private final MapManager mapManager;
+    private final CharacterManager characterManager;
+    private final ResourceController resourceController = new ResourceController();
+    private final TurnController turnController;
+    private final EntityStore entities = new EntityStore(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
+    private final IPlayerInput input;
+    private AmbientChooser ambientChooser = RANDOM_CHOICE;
+
+    private Ambient ambient;
+    private int[][] map;
+    private boolean playerSpawned = false;
+    private boolean gameOver = false;
+    private DeathCause causeOfDeath;
+    private long ticks = 0;
+    private int mapsVisited = 0;
+
+    /**
+     * @param character The player; its position and stats are driven by the simulation
+     * @param initialAmbient Ambient of the first map
+     * @param worldSeed Root seed of every map, spawn and choice of the run
+     * @param input Actions of each tick
+     */
+    public SimulationController(Character character, Ambient initialAmbient, long worldSeed, IPlayerInput input) {
+        this.character = character;
+        this.input = input;
+        this.gameState = new GameState();
+        this.gameState.setWorldSeed(worldSeed);
+        this.gameState.setPlayerCharacter(character);
+        this.gameState.setMapWidth(MAP_WIDTH);
+        this.gameState.setMapHeight(MAP_HEIGHT);
+        character.setGameState(gameState);
+
+        WorldSeed seed = new WorldSeed(worldSeed);
+        this.mapManager = new MapManager(initialAmbient);
+        this.mapManager.setWorldSeed(seed, 0);
+        this.gameState.setMapManager(mapManager);
+        this.gameState.getEventController().setSeed(seed.derive(CHOOSER_STREAM, 0, WorldSeed.Purpose.EVENTS));
+
+        this.characterManager = new CharacterManager(character, mapManager.getCurrentAmbient());
+        this.characterManager.setInput(input);
+        this.turnController = new TurnController(gameState, null);
+
+        mapManager.generateMapForCurrentAmbient();
+        enterMap();
+    }
+
+    public void setAmbientChooser(AmbientChooser ambientChooser) {
+        this.ambientChooser = ambientChooser != null ? ambientChooser : RANDOM_CHOICE;
+    }
+
+    /**
+     * One frame of game logic, as ProceduralMapScreen.render does it before drawing.
+     * The input must already hold this frame's actions.
+     */
+    public void tick(float delta) {
+        if (gameOver) {
+            return;
+        }
+        ticks++;
+        SnakeEventManager snakeEvents = characterManager.getSnakeEvents();
+        snakeEvents.handleInput(input);
+        if (snakeEvents.isWaitingForSpace()) {
+            return;
+        }
+
+        if (characterManager.updateCharacterMovement(delta)) {
+            leaveMap();
+        } else {
+            character.updateStateTime(delta);
+            characterManager.updateCharacterStats(delta);
+            checkGameOver(starvingOrThirsty());
+            handleActions();
+        }
+    }
+
+    /**
+     * Skip walking and go through doors until the current ambient completes its cycle and a
+     * new day starts, for runs that only care about the turn loop
+     *
+     * @return false if the character died during the day
+     */
+    public boolean advanceDay() {
+        int startDay = gameState.getDaysSurvived();
+        while (!gameOver && gameState.getDaysSurvived() == startDay) {
+            leaveMap();
+        }
+        return !gameOver;
+    }
+
+    private void handleActions() {
+        if (input.isJustPressed(PlayerAction.INTERACT)) {
+            int tileX = (int) ((character.getPosition().x + TILE_SIZE / 2f) / TILE_SIZE);
+            int tileY = (int) ((character.getPosition().y + TILE_SIZE / 2f) / TILE_SIZE);
+            Material tree = findTree(tileX, tileY);
+            if (tree != null && hasAxe()) {
+                character.cutTree(tree);
+                entities.remove(tree);
+            } else if (ambient instanceof LakeRiver && map[tileY][tileX] == TILE_WATER) {
+                character.drinkWater();
+            } else {
+                character.tryCollectNearbyMaterial(entities);
+            }
+        }
+        if (input.isJustPressed(PlayerAction.FISH) && ambient instanceof LakeRiver) {
+            character.tryCaptureFish(entities);
+        }
+    }
+
+    private Material findTree(int tileX, int tileY) {
+        for (Material material : entities.queryTile(tileX, tileY, Material.class, new ArrayList<>())) {
+            if ("Tree".equalsIgnoreCase(material.getName())) {
+                return material;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasAxe() {
+        return character.findItem("Axe", Tool.class) != null;
+    }
+
+    /**
+     * Go through a door without walking to it. Same flow as ProceduralMapScreen.handleDoorTraversal,
+     * with the dialog replaced by the chooser.
+     */
+    public void leaveMap() {
+        if (gameOver) {
+            return;
+        }
+        boolean ambientTypeRotated = mapManager.checkAndRotateAmbient();
+        Ambient ambientBeforeRotation = mapManager.getAmbientBeforeRotation();
+        gameState.setCurrentAmbient(ambientBeforeRotation);
+
+        if (ambientTypeRotated) {
+            turnController.startPhase();
+            Ambient cycleCompleted = turnController.getAmbientCycleCompleted();
+            Random choiceRandom = mapManager.ambientChoiceRandom(); // Same paths the game offers for this seed
+            List<Ambient> options = turnController.getAmbientChoices(cycleCompleted, choiceRandom);
+            turnController.applyAmbientChoice(mapManager, ambientChooser.choose(cycleCompleted, options, choiceRandom));
+            enterMap();
+            turnController.randomEventPhase(gameState.getCurrentAmbient());
+            checkGameOver(DeathCause.EVENT);
+            turnController.maintenancePhase();
+            checkGameOver(DeathCause.NEGLECT);
+        } else {
+            mapManager.forceSetCurrentAmbient(ambientBeforeRotation, false);
+            mapManager.generateMapForCurrentAmbient();
+            enterMap();
+        }
+    }
+
+    /**
+     * Same as ProceduralMapScreen.updateScreenMapAndEntities, without textures or autosave
+     */
+    private void enterMap() {
+        map = mapManager.getMap();
+        ambient = mapManager.getCurrentAmbient();
+        mapsVisited++;
+        gameState.setCurrentMap(map);
+        gameState.setCurrentAmbient(ambient);
+        gameState.setMapVisitIndex(mapManager.getVisitIndex());
+
+        characterManager.setMap(map);
+        characterManager.setCurrentAmbient(ambient);
+        if (!playerSpawned) {
+            playerSpawned = character.setInitialSpawn(map, MAP_WIDTH, MAP_HEIGHT, TILE_SIZE, TILE_GRASS, TILE_CAVE,
+                ambient.getName(), ambient, mapManager.random(WorldSeed.Purpose.PLAYER_SPAWN));
+        } else {
+            characterManager.safeSpawnCharacter(mapManager.random(WorldSeed.Purpose.PLAYER_SPAWN));
+        }
+
+        if (ambient.getName().toLowerCase().contains("cave")) {
+            mapManager.generateCaveDoors();
+            map = mapManager.getMap();
+            gameState.setCurrentMap(map);
+        }
+
+        resourceController.setSeed(mapManager.deriveSeed(WorldSeed.Purpose.SPAWNS));
+        List<Material> materials = resourceController.spawnResources(ambient, map);
+        List<List<? extends Creature>> creatures = List.of(
+            resourceController.spawnCreatures(ambient, map),
+            resourceController.spawnCannibals(ambient, map),
+            resourceController.spawnFish(ambient, map),
+            resourceController.spawnNPC(ambient, map),
+            resourceController.spawnBoat(ambient, map),
+            resourceController.spawnRadioGuy(ambient, map));
+        entities.clear();
+        entities.addAll(materials);
+        for (List<? extends Creature> list : creatures) {
+            entities.addAll(list);
+        }
+        logger.debug("Simulation entered {} (visit {}) with {} entities", ambient.getName(), mapManager.getVisitIndex(), entities.size());
+    }
+
+    // Per-frame life loss comes from critical hunger or thirst, whichever is worse
+    private DeathCause starvingOrThirsty() {
+        return character.getThirsty() <= character.getHunger() ? DeathCause.DEHYDRATION : DeathCause.STARVATION;
+    }
+
+    /**
+     * @param cause Blamed if the step just run took the character's last life
+     */
+    private void checkGameOver(DeathCause cause) {
+        if (character.getLife() <= 0 && !gameOver) {
+            gameOver = true;
+            causeOfDeath = cause;
+            logger.info("Simulation over: {} died of {} on day {} after {} ticks", character.getName(), cause, gameState.getDaysSurvived(), ticks);
+        }
+    }
+
+    public GameState getGameState() { return gameState; }
+    public Character getCharacter() { return character; }
+    public MapManager getMapManager() { return mapManager; }
+    public EntityStore getEntities() { return entities; }
+    public Ambient getAmbient() { return ambient; }
+    public int[][] getMap() { return map; }
+    public SnakeEventManager getSnakeEvents() { return characterManager.getSnakeEvents(); }
+    public int getDaysSurvived() { return gameState.getDaysSurvived(); }
+    public boolean isGameOver() { return gameOver; }
+    public DeathCause getCauseOfDeath() { return causeOfDeath; }
+    public long getTicks() { return ticks; }
+    public int getMapsVisited() { return mapsVisited; }
+}
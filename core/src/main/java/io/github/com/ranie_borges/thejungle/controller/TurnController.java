@@ -10,6 +10,7 @@ import io.github.com.ranie_borges.thejungle.controller.managers.MapManager;
 import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.model.stats.GameState;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Cave;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
@@ -61,7 +62,7 @@ public class TurnController {
         actionPhase();
     }
 
-    private void startPhase() {
+    void startPhase() {
         logger.info("Start Phase: Updating ambient and providing summary.");
         Ambient currentAmbientFromGameState = gameState.getCurrentAmbient();
         if (currentAmbientFromGameState != null && this.ambientController != null) {
@@ -110,40 +111,7 @@ public class TurnController {
                 logger.error("chooseAmbient: MapManager is null!");
                 throw new TurnControllerException("MapManager not available from current screen.");
             }
-            gameState.setMapManager(mapManager); // Ensure GameState has this mapManager reference
-
-            Ambient ambientToGenerateMapFor;
-
-            if (chosenAmbientFromDialog == null) { // "Stay Here" was chosen
-                // "Stay Here" means continue in the ambient type that *just completed its cycle*.
-                // This was stored by MapManager in ambientBeforeRotation and reflected in GameState by handleDoorTraversal.
-                ambientToGenerateMapFor = mapManager.getAmbientBeforeRotation(); // This is the key
-                if(ambientToGenerateMapFor == null){ // Safety if somehow not set
-                    logger.warn("ambientBeforeRotation was null in MapManager, defaulting to GameState's current or Jungle for 'Stay Here'");
-                    ambientToGenerateMapFor = gameState.getCurrentAmbient() != null ? gameState.getCurrentAmbient() : new Jungle();
-                }
-                logger.info("Player chose to 'Stay Here' in ambient type: {}. Resetting its usage count.", ambientToGenerateMapFor.getName());
-                mapManager.forceSetCurrentAmbient(ambientToGenerateMapFor, true); // true to reset usage count
-            } else { // A new ambient type was chosen from the dialog options
-                logger.info("Player chose to travel to new ambient type: {}", chosenAmbientFromDialog.getName());
-                Character player = gameState.getPlayerCharacter();
-                if (player != null) {
-                    float energyCost = chosenAmbientFromDialog.getDifficulty() * 5; // Example cost
-                    player.setEnergy(player.getEnergy() - energyCost);
-                    logger.debug("Energy reduced by {}. New energy: {}", energyCost, player.getEnergy());
-                }
-                mapManager.forceSetCurrentAmbient(chosenAmbientFromDialog, true); // true to reset usage count
-                // ambientToGenerateMapFor = chosenAmbientFromDialog; // Not needed as mapManager is now set
-            }
-
-            // mapManager.getCurrentAmbient() is now correctly set to the chosen or "stayed" ambient.
-            logger.debug("TurnController: Instructing MapManager to generate map for: {}", mapManager.getCurrentAmbient().getName());
-            mapManager.generateMapForCurrentAmbient();
-
-            // Sync GameState with what MapManager has now set as current
-            gameState.setCurrentAmbient(mapManager.getCurrentAmbient());
-            gameState.setCurrentMap(mapManager.getMap());
-            logger.debug("GameState updated. Current Ambient: {}, Map set.", gameState.getCurrentAmbient().getName());
+            applyAmbientChoice(mapManager, chosenAmbientFromDialog);
 
             currentScreen.updateScreenMapAndEntities(); // This will use the updated GameState/MapManager
             logger.debug("Screen updated.");
@@ -166,7 +134,48 @@ public class TurnController {
         }
     }
 
-    private void randomEventPhase(Ambient currentAmbientForEvent) {
+    /**
+     * Apply the player's choice at the end of a day: set the chosen ambient (or stay in the one
+     * that just completed its cycle), generate its map and sync the GameState. Does not touch
+     * the screen, so headless simulations can call it directly.
+     *
+     * @param chosenAmbient The chosen ambient, or null for "Stay Here"
+     */
+    void applyAmbientChoice(MapManager mapManager, Ambient chosenAmbient) {
+        gameState.setMapManager(mapManager); // Ensure GameState has this mapManager reference
+
+        if (chosenAmbient == null) { // "Stay Here" was chosen
+            // "Stay Here" means continue in the ambient type that *just completed its cycle*.
+            // This was stored by MapManager in ambientBeforeRotation and reflected in GameState by handleDoorTraversal.
+            Ambient ambientToStayIn = mapManager.getAmbientBeforeRotation(); // This is the key
+            if (ambientToStayIn == null) { // Safety if somehow not set
+                logger.warn("ambientBeforeRotation was null in MapManager, defaulting to GameState's current or Jungle for 'Stay Here'");
+                ambientToStayIn = gameState.getCurrentAmbient() != null ? gameState.getCurrentAmbient() : new Jungle();
+            }
+            logger.info("Player chose to 'Stay Here' in ambient type: {}. Resetting its usage count.", ambientToStayIn.getName());
+            mapManager.forceSetCurrentAmbient(ambientToStayIn, true); // true to reset usage count
+        } else { // A new ambient type was chosen from the dialog options
+            logger.info("Player chose to travel to new ambient type: {}", chosenAmbient.getName());
+            Character player = gameState.getPlayerCharacter();
+            if (player != null) {
+                float energyCost = chosenAmbient.getDifficulty() * 5; // Example cost
+                player.setEnergy(player.getEnergy() - energyCost);
+                logger.debug("Energy reduced by {}. New energy: {}", energyCost, player.getEnergy());
+            }
+            mapManager.forceSetCurrentAmbient(chosenAmbient, true); // true to reset usage count
+        }
+
+        // mapManager.getCurrentAmbient() is now correctly set to the chosen or "stayed" ambient.
+        logger.debug("TurnController: Instructing MapManager to generate map for: {}", mapManager.getCurrentAmbient().getName());
+        mapManager.generateMapForCurrentAmbient();
+
+        // Sync GameState with what MapManager has now set as current
+        gameState.setCurrentAmbient(mapManager.getCurrentAmbient());
+        gameState.setCurrentMap(mapManager.getMap());
+        logger.debug("GameState updated. Current Ambient: {}, Map set.", gameState.getCurrentAmbient().getName());
+    }
+
+    void randomEventPhase(Ambient currentAmbientForEvent) {
         logger.info("Random Event Phase: Checking for random events in {}.", currentAmbientForEvent != null ? currentAmbientForEvent.getName() : "null ambient");
         if (eventController != null && currentAmbientForEvent != null) {
             eventController.generateRandomEvent(currentAmbientForEvent);
@@ -175,7 +184,7 @@ public class TurnController {
         }
     }
 
-    private void maintenancePhase() {
+    void maintenancePhase() {
         logger.info("Maintenance Phase: Adjusting character attributes and resources.");
         Character player = gameState.getPlayerCharacter();
         if (player != null) {
@@ -210,15 +219,38 @@ public class TurnController {
         };
         ambientChoiceDialog.text("Where do you want to go next? Each path has its own challenges and rewards.");
 
-        List<Ambient> allPossibleAmbients = Arrays.asList(
-            new Cave(), new Jungle(), new LakeRiver(), new Mountain(), new Ruins()
-        );
+        Ambient ambientCycleCompleted = getAmbientCycleCompleted();
+        logger.debug("showAmbientSelection: 'Stay Here' button will refer to ambient type: {}", ambientCycleCompleted.getName());
+        List<Ambient> choices = getAmbientChoices(ambientCycleCompleted, ambientChoiceRandom());
+
+        for (Ambient ambient : choices) {
+            ambientChoiceDialog.button(ambient.getName() + " (Difficulty: " + ambient.getDifficulty() + ")", ambient);
+        }
 
+        ambientChoiceDialog.button("Stay Here (in " + ambientCycleCompleted.getName() + ")", null);
+
+        ambientChoiceDialog.show(stage);
+    }
+
+    // Derived from the world seed, like SimulationController does, so a seed always offers the same paths
+    private Random ambientChoiceRandom() {
+        MapManager mapManager = gameState.getMapManager();
+        if (mapManager != null) {
+            return mapManager.ambientChoiceRandom();
+        }
+        logger.warn("No MapManager in GameState; deriving the ambient choices from the saved world seed.");
+        return MapManager.ambientChoiceRandom(new WorldSeed(gameState.getWorldSeed()), gameState.getMapVisitIndex());
+    }
+
+    /**
+     * @return The ambient type that just completed its cycle, offered as "Stay Here"
+     */
+    Ambient getAmbientCycleCompleted() {
         // This is the ambient type that just completed its 3-map cycle.
         // It was set in gameState by handleDoorTraversal before advanceTurn was called.
         // Or more robustly, get it from mapManager.getAmbientBeforeRotation() via gameState's mapManager
         Ambient ambientCycleCompleted = null;
-        if(gameState.getMapManager() != null){
+        if (gameState.getMapManager() != null) {
             ambientCycleCompleted = gameState.getMapManager().getAmbientBeforeRotation();
         }
         if (ambientCycleCompleted == null) { // Fallback if somehow not set
@@ -229,41 +261,30 @@ public class TurnController {
             logger.error("Critical: No ambient context for 'Stay Here' label. Defaulting to Jungle.");
             ambientCycleCompleted = new Jungle();
         }
+        return ambientCycleCompleted;
+    }
 
+    /**
+     * Up to three ambients other than the one that completed its cycle, offered at the end of a day
+     *
+     * @param random Shuffles the options, see MapManager.ambientChoiceRandom
+     */
+    public List<Ambient> getAmbientChoices(Ambient ambientCycleCompleted, Random random) {
+        List<Ambient> allPossibleAmbients = Arrays.asList(
+            new Cave(), new Jungle(), new LakeRiver(), new Mountain(), new Ruins()
+        );
 
-        logger.debug("showAmbientSelection: 'Stay Here' button will refer to ambient type: {}", ambientCycleCompleted.getName());
-
-        Ambient finalAmbientCycleCompleted = ambientCycleCompleted;
         List<Ambient> choices = allPossibleAmbients.stream()
-            .filter(a -> !a.getName().equals(finalAmbientCycleCompleted.getName())) // Offer different ambients
+            .filter(a -> !a.getName().equals(ambientCycleCompleted.getName())) // Offer different ambients
             .collect(Collectors.toList());
 
-        if (choices.size() > 3) {
-            java.util.Collections.shuffle(choices, new Random());
-            choices = choices.subList(0, 3);
-        } else if (choices.isEmpty()) {
-            for(Ambient defaultChoice : allPossibleAmbients){
-                if(!defaultChoice.getName().equals(ambientCycleCompleted.getName())){
-                    choices.add(defaultChoice);
-                    if(choices.size() >=1) break;
-                }
-            }
-            if(choices.isEmpty() && !allPossibleAmbients.isEmpty()) {
-                choices.add(allPossibleAmbients.get(0)); // Add any if all were same as current
-            }
-            if(choices.isEmpty()) choices.add(new Jungle()); // Absolute fallback
+        if (choices.isEmpty()) {
+            choices.add(new Jungle()); // Absolute fallback
         }
         if (choices.size() > 3) {
-            java.util.Collections.shuffle(choices, new Random());
+            java.util.Collections.shuffle(choices, random);
             choices = choices.subList(0, 3);
         }
-
-        for (Ambient ambient : choices) {
-            ambientChoiceDialog.button(ambient.getName() + " (Difficulty: " + ambient.getDifficulty() + ")", ambient);
-        }
-
-        ambientChoiceDialog.button("Stay Here (in " + ambientCycleCompleted.getName() + ")", null);
-
-        ambientChoiceDialog.show(stage);
+        return choices;
     }
 }
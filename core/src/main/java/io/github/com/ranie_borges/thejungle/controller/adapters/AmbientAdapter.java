@@ -1,73 +1,104 @@
 package io.github.com.ranie_borges.thejungle.controller.adapters;
 
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.enums.Clime;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
 /**
- * Custom adapter for serializing and deserializing Ambient objects
+ * Streaming adapter for serializing and deserializing Ambient objects.
+ * Only the ambient type is needed to restore it; the other fields are written for reference.
  */
-public class AmbientAdapter implements JsonSerializer<Ambient>, JsonDeserializer<Ambient> {
+public class AmbientAdapter extends TypeAdapter<Ambient> {
     private static final Logger logger = LoggerFactory.getLogger(AmbientAdapter.class);
 
-    @Override
-    public JsonElement serialize(Ambient src, Type typeOfSrc, JsonSerializationContext context) {
-        if (src == null)
-            return JsonNull.INSTANCE;
+    private final ItemAdapter itemAdapter;
 
-        JsonObject jsonObject = new JsonObject();
-        jsonObject.addProperty("type", src.getClass().getSimpleName());
-        jsonObject.addProperty("name", src.getName());
-        jsonObject.add("climes", context.serialize(src.getClimes()));
-        jsonObject.add("resources", context.serialize(src.getResources()));
-        jsonObject.addProperty("difficulty", src.getDifficulty());
-        jsonObject.addProperty("darknessFactor", src.getDarknessFactor());
+    public AmbientAdapter() {
+        this(new ItemAdapter());
+    }
 
-        return jsonObject;
+    public AmbientAdapter(ItemAdapter itemAdapter) {
+        this.itemAdapter = itemAdapter;
     }
 
     @Override
-    public Ambient deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-            throws JsonParseException {
-        if (json == null || json.isJsonNull())
-            return null;
-
-        try {
-            JsonObject jsonObject = json.getAsJsonObject();
+    public void write(JsonWriter out, Ambient src) throws IOException {
+        if (src == null) {
+            out.nullValue();
+            return;
+        }
 
-            String ambientType = jsonObject.has("type") ? jsonObject.get("type").getAsString() : "Jungle"; // Default
+        out.beginObject();
+        out.name("type").value(src.getClass().getSimpleName());
+        out.name("name").value(src.getName());
 
+        out.name("climes").beginArray();
+        if (src.getClimes() != null) {
+            for (Clime clime : src.getClimes()) {
+                if (clime != null) out.value(clime.name());
+            }
+        }
+        out.endArray();
 
-            Ambient ambient;
-            switch (ambientType) {
-                case "Cave":
-                    ambient = new Cave();
-                    break;
-                case "Jungle":
-                    ambient = new Jungle();
-                    break;
-                case "LakeRiver":
-                    ambient = new LakeRiver();
-                    break;
-                case "Mountain":
-                    ambient = new Mountain();
-                    break;
-                case "Ruins":
-                    ambient = new Ruins();
-                    break;
-                default:
-                    logger.warn("Unknown ambient type: {}, defaulting to Jungle", ambientType);
-                    ambient = new Jungle();
+        out.name("resources").beginArray();
+        if (src.getResources() != null) {
+            for (Item item : src.getResources()) {
+                itemAdapter.write(out, item);
             }
+        }
+        out.endArray();
 
-            return ambient;
-        } catch (Exception e) {
+        out.name("difficulty").value(src.getDifficulty());
+        out.name("darknessFactor").value(src.getDarknessFactor());
+        out.endObject();
+    }
+
+    @Override
+    public Ambient read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String ambientType = "Jungle"; // Default
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("type".equals(in.nextName()) && in.peek() == JsonToken.STRING) {
+                    ambientType = in.nextString();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IllegalStateException e) {
             logger.error("Error deserializing Ambient: {}", e.getMessage());
             return new Jungle(); // Default to Jungle on error
         }
+
+        switch (ambientType) {
+            case "Cave":
+                return new Cave();
+            case "Jungle":
+                return new Jungle();
+            case "LakeRiver":
+                return new LakeRiver();
+            case "Mountain":
+                return new Mountain();
+            case "Ruins":
+                return new Ruins();
+            default:
+                logger.warn("Unknown ambient type: {}, defaulting to Jungle", ambientType);
+                return new Jungle();
+        }
     }
 }
@@ -1,7 +1,10 @@
 package io.github.com.ranie_borges.thejungle.controller.adapters;
 
 import com.badlogic.gdx.utils.Array;
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.entity.characters.Doctor;
@@ -11,150 +14,164 @@ import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
 /**
- * Custom adapter for serializing and deserializing Character objects
+ * Streaming adapter for serializing and deserializing Character objects.
+ * Inventory items are streamed through {@link ItemAdapter}.
  */
-public class CharacterAdapter implements JsonSerializer<Character>, JsonDeserializer<Character> {
+public class CharacterAdapter extends TypeAdapter<Character> {
     private static final Logger logger = LoggerFactory.getLogger(CharacterAdapter.class);
 
-    @Override
-    public JsonElement serialize(Character src, Type typeOfSrc, JsonSerializationContext context) {
-        if (src == null)
-            return JsonNull.INSTANCE;
+    private final ItemAdapter itemAdapter;
+
+    public CharacterAdapter() {
+        this(new ItemAdapter());
+    }
 
-        JsonObject jsonObject = new JsonObject();
+    public CharacterAdapter(ItemAdapter itemAdapter) {
+        this.itemAdapter = itemAdapter;
+    }
 
-        jsonObject.addProperty("characterType", src.getClass().getSimpleName());
+    @Override
+    public void write(JsonWriter out, Character src) throws IOException {
+        if (src == null) {
+            out.nullValue();
+            return;
+        }
 
-        jsonObject.addProperty("name", src.getName());
-        jsonObject.addProperty("life", src.getLife());
-        jsonObject.addProperty("hunger", src.getHunger());
-        jsonObject.addProperty("thirsty", src.getThirsty());
-        jsonObject.addProperty("energy", src.getEnergy());
-        jsonObject.addProperty("sanity", src.getSanity());
-        jsonObject.addProperty("maxCarryWeight", src.getMaxCarryWeight());
-        jsonObject.addProperty("inventoryInitialCapacity", src.getInventoryInitialCapacity());
-        jsonObject.addProperty("maxInventoryCapacity", src.getMaxInventoryCapacity());
-        jsonObject.addProperty("attackDamage", src.getAttackDamage());
+        out.beginObject();
+        out.name("characterType").value(src.getClass().getSimpleName());
+
+        out.name("name").value(src.getName());
+        out.name("life").value(src.getLife());
+        out.name("hunger").value(src.getHunger());
+        out.name("thirsty").value(src.getThirsty());
+        out.name("energy").value(src.getEnergy());
+        out.name("sanity").value(src.getSanity());
+        out.name("maxCarryWeight").value(src.getMaxCarryWeight());
+        out.name("inventoryInitialCapacity").value(src.getInventoryInitialCapacity());
+        out.name("maxInventoryCapacity").value(src.getMaxInventoryCapacity());
+        out.name("attackDamage").value(src.getAttackDamage());
 
         // Serialize position
-        JsonObject positionObj = new JsonObject();
-        positionObj.addProperty("x", src.getPosition().x);
-        positionObj.addProperty("y", src.getPosition().y);
-        jsonObject.add("position", positionObj);
+        out.name("position").beginObject();
+        out.name("x").value(src.getPosition().x);
+        out.name("y").value(src.getPosition().y);
+        out.endObject();
 
         // Serialize inventory - handle libGDX Array properly
-        JsonArray inventoryArray = new JsonArray();
-        if (src.getInventory() != null) {
-            Array<Item> inventory = src.getInventory();
+        out.name("inventory").beginArray();
+        Array<Item> inventory = src.getInventory();
+        if (inventory != null) {
             for (int i = 0; i < inventory.size; i++) {
                 Item item = inventory.get(i);
                 if (item != null) {
-                    // Use ItemAdapter for serialization
-                    try {
-                        JsonElement itemElement = context.serialize(item, Item.class);
-                        inventoryArray.add(itemElement);
-                    } catch (Exception e) {
-                        logger.error("Failed to serialize inventory item: {}", e.getMessage());
-                    }
+                    itemAdapter.write(out, item);
                 }
             }
         }
-        jsonObject.add("inventory", inventoryArray);
+        out.endArray();
 
-        return jsonObject;
+        out.endObject();
     }
 
     @Override
-    public Character deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-            throws JsonParseException {
-        if (json == null || json.isJsonNull())
+    public Character read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
             return null;
+        }
 
-        try {
-            JsonObject jsonObject = json.getAsJsonObject();
-            String characterType = jsonObject.get("characterType").getAsString();
-
-            float xPos = 100.0f; // Default position
-            float yPos = 100.0f;
+        String characterType = null;
+        String name = null;
+        float xPos = 100.0f; // Default position
+        float yPos = 100.0f;
+        Float life = null, hunger = null, thirsty = null, energy = null, sanity = null;
+        Double attackDamage = null;
+        Integer maxInventoryCapacity = null, inventoryInitialCapacity = null;
+        Array<Item> inventory = new Array<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (field) {
+                case "characterType": characterType = in.nextString(); break;
+                case "name": name = in.nextString(); break;
+                case "life": life = (float) in.nextDouble(); break;
+                case "hunger": hunger = (float) in.nextDouble(); break;
+                case "thirsty": thirsty = (float) in.nextDouble(); break;
+                case "energy": energy = (float) in.nextDouble(); break;
+                case "sanity": sanity = (float) in.nextDouble(); break;
+                case "attackDamage": attackDamage = in.nextDouble(); break;
+                case "maxInventoryCapacity": maxInventoryCapacity = in.nextInt(); break;
+                case "inventoryInitialCapacity": inventoryInitialCapacity = in.nextInt(); break;
+                case "position":
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String axis = in.nextName();
+                        if ("x".equals(axis)) {
+                            xPos = (float) in.nextDouble();
+                        } else if ("y".equals(axis)) {
+                            yPos = (float) in.nextDouble();
+                        } else {
+                            in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    break;
+                case "inventory":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        Item item = itemAdapter.read(in);
+                        if (item != null) {
+                            inventory.add(item);
+                        }
+                    }
+                    in.endArray();
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
 
-            if (jsonObject.has("position")) {
-                JsonObject positionObj = jsonObject.getAsJsonObject("position");
-                xPos = positionObj.get("x").getAsFloat();
-                yPos = positionObj.get("y").getAsFloat();
+        try {
+            if (characterType == null || name == null) {
+                throw new IllegalStateException("characterType and name are required");
             }
 
             Character character;
             switch (characterType) {
                 case "Hunter":
-                    character = new Hunter(
-                            jsonObject.get("name").getAsString(),
-                            xPos,
-                            yPos);
+                    character = new Hunter(name, xPos, yPos);
                     break;
                 case "Doctor":
-                    character = new Doctor(
-                            jsonObject.get("name").getAsString(),
-                            xPos,
-                            yPos);
+                    character = new Doctor(name, xPos, yPos);
                     break;
                 case "Lumberjack":
-                    character = new Lumberjack(
-                            jsonObject.get("name").getAsString(),
-                            xPos,
-                            yPos);
+                    character = new Lumberjack(name, xPos, yPos);
                     break;
                 case "Survivor":
                 default:
-                    character = new Survivor(
-                            jsonObject.get("name").getAsString(),
-                            xPos,
-                            yPos);
+                    character = new Survivor(name, xPos, yPos);
                     break;
             }
 
-            if (jsonObject.has("life")) {
-                character.setLife(jsonObject.get("life").getAsFloat());
-            }
-            if (jsonObject.has("hunger")) {
-                character.setHunger(jsonObject.get("hunger").getAsFloat());
-            }
-            if (jsonObject.has("thirsty")) {
-                character.setThirsty(jsonObject.get("thirsty").getAsFloat());
-            }
-            if (jsonObject.has("energy")) {
-                character.setEnergy(jsonObject.get("energy").getAsFloat());
-            }
-            if (jsonObject.has("sanity")) {
-                character.setSanity(jsonObject.get("sanity").getAsFloat());
-            }
-
-            if (jsonObject.has("attackDamage")) {
-                character.setAttackDamage(jsonObject.get("attackDamage").getAsDouble());
-            }
+            if (life != null) character.setLife(life);
+            if (hunger != null) character.setHunger(hunger);
+            if (thirsty != null) character.setThirsty(thirsty);
+            if (energy != null) character.setEnergy(energy);
+            if (sanity != null) character.setSanity(sanity);
+            if (attackDamage != null) character.setAttackDamage(attackDamage);
+            if (maxInventoryCapacity != null) character.setMaxInventoryCapacity(maxInventoryCapacity);
+            if (inventoryInitialCapacity != null) character.setInventoryInitialCapacity(inventoryInitialCapacity);
 
-            if (jsonObject.has("maxInventoryCapacity")) {
-                character.setMaxInventoryCapacity(jsonObject.get("maxInventoryCapacity").getAsInt());
-            }
-            if (jsonObject.has("inventoryInitialCapacity")) {
-                character.setInventoryInitialCapacity(jsonObject.get("inventoryInitialCapacity").getAsInt());
-            }
-
-            Array<Item> inventory = new Array<>();
-            if (jsonObject.has("inventory") && !jsonObject.get("inventory").isJsonNull()) {
-                JsonArray inventoryArray = jsonObject.getAsJsonArray("inventory");
-                for (int i = 0; i < inventoryArray.size(); i++) {
-                    JsonElement itemElement = inventoryArray.get(i);
-                    if (itemElement != null && !itemElement.isJsonNull()) {
-                        Item item = context.deserialize(itemElement, Item.class);
-                        if (item != null) {
-                            inventory.add(item);
-                        }
-                    }
-                }
-            }
             character.setInventory(inventory);
 
             return character;
@@ -1,23 +1,32 @@
 package io.github.com.ranie_borges.thejungle.controller.adapters;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.*;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
+import java.lang.reflect.Field;
 
 /**
- * GSON TypeAdapter for serializing and deserializing Item objects and their
- * subtypes.
+ * Streaming GSON TypeAdapter for serializing and deserializing Item objects and their
+ * subtypes. Items are written as {"itemType": ..., "itemData": {...}} directly to the
+ * JsonWriter, without building an intermediate JsonElement tree.
  * This adapter handles the polymorphic nature of items in the game.
  */
-public class ItemAdapter implements JsonSerializer<Item>, JsonDeserializer<Item> {
+public class ItemAdapter extends TypeAdapter<Item> {
     private static final String TYPE_FIELD = "itemType";
     private static final String DATA_FIELD = "itemData";
 
     @Override
-    public JsonElement serialize(Item item, Type typeOfSrc, JsonSerializationContext context) {
-        JsonObject result = new JsonObject();
+    public void write(JsonWriter out, Item item) throws IOException {
+        if (item == null) {
+            out.nullValue();
+            return;
+        }
 
         String itemType;
         if (item instanceof Weapon) {
@@ -37,152 +46,224 @@ public class ItemAdapter implements JsonSerializer<Item>, JsonDeserializer<Item>
             itemType = item.getClass().getSimpleName();
         }
 
-        result.addProperty(TYPE_FIELD, itemType);
-        JsonElement itemData = context.serialize(item);
-        result.add(DATA_FIELD, itemData);
+        out.beginObject();
+        out.name(TYPE_FIELD).value(itemType);
+        out.name(DATA_FIELD);
+        out.beginObject();
+        writeSubtypeFields(out, item);
+        if (item.getName() != null) {
+            out.name("name").value(item.getName());
+        }
+        out.name("weight").value(item.getWeight());
+        out.name("durability").value(item.getDurability());
+        out.name("quantity").value(item.getQuantity());
+        out.endObject();
+        out.endObject();
+    }
 
-        return result;
+    private void writeSubtypeFields(JsonWriter out, Item item) throws IOException {
+        if (item instanceof Weapon) {
+            Weapon weapon = (Weapon) item;
+            out.name("damage").value(weapon.getDamage());
+            out.name("attackSpeed").value(weapon.getAttackSpeed());
+        } else if (item instanceof Tool) {
+            Tool tool = (Tool) item;
+            out.name("workPower").value(tool.getWorkPower());
+            out.name("usageSpeed").value(tool.getUsageSpeed());
+        } else if (item instanceof Medicine) {
+            out.name("healRatio").value(((Medicine) item).getHealRatio());
+        } else if (item instanceof Drinkable) {
+            Drinkable drinkable = (Drinkable) item;
+            out.name("potable").value(drinkable.isPotable());
+            out.name("volume").value(drinkable.getVolume());
+        } else if (item instanceof Food) {
+            Food food = (Food) item;
+            out.name("nutritionalValue").value(food.getNutritionalValue());
+            if (food.getFoodType() != null) {
+                out.name("type").value(food.getFoodType());
+            }
+            out.name("shelfLife").value(food.getShelfLife());
+            out.name("spoiled").value(food.isSpoiled());
+        } else if (item instanceof Material) {
+            Material material = (Material) item;
+            if (material.getType() != null) {
+                out.name("type").value(material.getType());
+            }
+            out.name("resistance").value(material.getResistance());
+        }
     }
 
     @Override
-    public Item deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-            throws JsonParseException {
-        JsonObject jsonObject = json.getAsJsonObject();
+    public Item read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
 
-        if (!jsonObject.has(TYPE_FIELD)) {
-            throw new JsonParseException("Item type discriminator not found.");
+        String itemType = null;
+        ItemFields fields = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if (TYPE_FIELD.equals(field)) {
+                itemType = in.nextString();
+            } else if (DATA_FIELD.equals(field) && in.peek() == JsonToken.BEGIN_OBJECT) {
+                fields = readFields(in);
+            } else {
+                in.skipValue();
+            }
         }
+        in.endObject();
 
-        String itemType = jsonObject.get(TYPE_FIELD).getAsString();
-        JsonElement itemData = jsonObject.get(DATA_FIELD);
+        if (itemType == null) {
+            throw new JsonParseException("Item type discriminator not found.");
+        }
+        if (fields == null) {
+            fields = new ItemFields();
+        }
 
         try {
             switch (itemType) {
                 case "Weapon":
-                    return deserializeWeapon(itemData, context);
+                    return createWeapon(fields);
                 case "Tool":
-                    return deserializeTool(itemData, context);
+                    return createTool(fields);
                 case "Medicine":
-                    return deserializeMedicine(itemData, context);
+                    return createMedicine(fields);
                 case "Drinkable":
-                    return deserializeDrinkable(itemData, context);
+                    return createDrinkable(fields);
                 case "Food":
-                    return deserializeFood(itemData, context);
+                    return createFood(fields);
                 case "Material":
-                    return deserializeMaterial(itemData, context);
+                    return createMaterial(fields);
                 default:
                     throw new JsonParseException("Unknown item type: " + itemType);
             }
+        } catch (JsonParseException e) {
+            throw e;
         } catch (Exception e) {
             throw new JsonParseException("Error deserializing item: " + e.getMessage());
         }
     }
 
-    private Weapon deserializeWeapon(JsonElement data, JsonDeserializationContext context) {
-        JsonObject obj = data.getAsJsonObject();
-        String name = obj.has("name") ? obj.get("name").getAsString() : "Unknown Weapon";
-        float weight = obj.has("weight") ? obj.get("weight").getAsFloat() : 1.0f;
-        float durability = obj.has("durability") ? obj.get("durability").getAsFloat() : 100f;
-        float damage = obj.has("damage") ? obj.get("damage").getAsFloat() : 10f;
-        float attackSpeed = obj.has("attackSpeed") ? obj.get("attackSpeed").getAsFloat() : 1.0f;
-
-        Weapon weapon = new Weapon(name, weight, durability, damage, attackSpeed);
+    /**
+     * Flat holder for the itemData fields, so the type discriminator may appear before or after the data
+     */
+    private static final class ItemFields {
+        String name;
+        String type;
+        float weight = Float.NaN;
+        float durability = Float.NaN;
+        Integer quantity;
+        float damage = Float.NaN;
+        float attackSpeed = Float.NaN;
+        float workPower = Float.NaN;
+        float usageSpeed = Float.NaN;
+        double healRatio = Double.NaN;
+        boolean potable;
+        float volume = Float.NaN;
+        Integer nutritionalValue;
+        Integer shelfLife;
+        Boolean spoiled;
+        float resistance = Float.NaN;
+
+        String name(String fallback) { return name != null ? name : fallback; }
+        float weight(float fallback) { return Float.isNaN(weight) ? fallback : weight; }
+        float durability() { return Float.isNaN(durability) ? 100f : durability; }
+    }
 
-        if (obj.has("quantity")) {
-            weapon.setQuantity(obj.get("quantity").getAsInt());
+    private ItemFields readFields(JsonReader in) throws IOException {
+        ItemFields fields = new ItemFields();
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (field) {
+                case "name": fields.name = in.nextString(); break;
+                case "type": fields.type = in.nextString(); break;
+                case "weight": fields.weight = (float) in.nextDouble(); break;
+                case "durability": fields.durability = (float) in.nextDouble(); break;
+                case "quantity": fields.quantity = in.nextInt(); break;
+                case "damage": fields.damage = (float) in.nextDouble(); break;
+                case "attackSpeed": fields.attackSpeed = (float) in.nextDouble(); break;
+                case "workPower": fields.workPower = (float) in.nextDouble(); break;
+                case "usageSpeed": fields.usageSpeed = (float) in.nextDouble(); break;
+                case "healRatio": fields.healRatio = in.nextDouble(); break;
+                case "potable": fields.potable = in.nextBoolean(); break;
+                case "volume": fields.volume = (float) in.nextDouble(); break;
+                case "nutritionalValue": fields.nutritionalValue = in.nextInt(); break;
+                case "shelfLife": fields.shelfLife = in.nextInt(); break;
+                case "spoiled": fields.spoiled = in.nextBoolean(); break;
+                case "resistance": fields.resistance = (float) in.nextDouble(); break;
+                default: in.skipValue(); break;
+            }
         }
-
-        return weapon;
+        in.endObject();
+        return fields;
     }
 
-    private Tool deserializeTool(JsonElement data, JsonDeserializationContext context) {
-        JsonObject obj = data.getAsJsonObject();
-        String name = obj.has("name") ? obj.get("name").getAsString() : "Unknown Tool";
-        float weight = obj.has("weight") ? obj.get("weight").getAsFloat() : 1.0f;
-        float durability = obj.has("durability") ? obj.get("durability").getAsFloat() : 100f;
-        float workPower = obj.has("workPower") ? obj.get("workPower").getAsFloat() : 1.0f;
-        float usageSpeed = obj.has("usageSpeed") ? obj.get("usageSpeed").getAsFloat() : 1.0f;
-
-        Tool tool = new Tool(name, weight, durability, workPower, usageSpeed);
+    private static float orDefault(float value, float fallback) {
+        return Float.isNaN(value) ? fallback : value;
+    }
 
-        if (obj.has("quantity")) {
-            tool.setQuantity(obj.get("quantity").getAsInt());
+    private static void applyQuantity(Item item, ItemFields fields) {
+        if (fields.quantity != null) {
+            item.setQuantity(fields.quantity);
         }
-
-        return tool;
     }
 
-    private Medicine deserializeMedicine(JsonElement data, JsonDeserializationContext context) {
-        JsonObject obj = data.getAsJsonObject();
-        String name = obj.has("name") ? obj.get("name").getAsString() : "Unknown Medicine";
-        float weight = obj.has("weight") ? obj.get("weight").getAsFloat() : 0.5f;
-        float durability = obj.has("durability") ? obj.get("durability").getAsFloat() : 100f;
-        double healRatio = obj.has("healRatio") ? obj.get("healRatio").getAsDouble() : 25.0;
-
-        Medicine medicine = new Medicine(name, weight, durability, healRatio);
+    private Weapon createWeapon(ItemFields f) {
+        Weapon weapon = new Weapon(f.name("Unknown Weapon"), f.weight(1.0f), f.durability(),
+            orDefault(f.damage, 10f), orDefault(f.attackSpeed, 1.0f));
+        applyQuantity(weapon, f);
+        return weapon;
+    }
 
-        if (obj.has("quantity")) {
-            medicine.setQuantity(obj.get("quantity").getAsInt());
-        }
+    private Tool createTool(ItemFields f) {
+        Tool tool = new Tool(f.name("Unknown Tool"), f.weight(1.0f), f.durability(),
+            orDefault(f.workPower, 1.0f), orDefault(f.usageSpeed, 1.0f));
+        applyQuantity(tool, f);
+        return tool;
+    }
 
+    private Medicine createMedicine(ItemFields f) {
+        Medicine medicine = new Medicine(f.name("Unknown Medicine"), f.weight(0.5f), f.durability(),
+            Double.isNaN(f.healRatio) ? 25.0 : f.healRatio);
+        applyQuantity(medicine, f);
         return medicine;
     }
 
-    private Drinkable deserializeDrinkable(JsonElement data, JsonDeserializationContext context) {
-        JsonObject obj = data.getAsJsonObject();
-        String name = obj.has("name") ? obj.get("name").getAsString() : "Unknown Drinkable";
-        float weight = obj.has("weight") ? obj.get("weight").getAsFloat() : 0.5f;
-        float durability = obj.has("durability") ? obj.get("durability").getAsFloat() : 100f;
-        boolean potable = obj.has("potable") && obj.get("potable").getAsBoolean();
-        float volume = obj.has("volume") ? obj.get("volume").getAsFloat() : 1.0f;
-
-        Drinkable drinkable = new Drinkable(name, weight, durability, potable, volume);
-
-        if (obj.has("quantity")) {
-            drinkable.setQuantity(obj.get("quantity").getAsInt());
-        }
-
+    private Drinkable createDrinkable(ItemFields f) {
+        Drinkable drinkable = new Drinkable(f.name("Unknown Drinkable"), f.weight(0.5f), f.durability(),
+            f.potable, orDefault(f.volume, 1.0f));
+        applyQuantity(drinkable, f);
         return drinkable;
     }
 
-    private Material deserializeMaterial(JsonElement data, JsonDeserializationContext context) {
-        JsonObject obj = data.getAsJsonObject();
-        String name = obj.has("name") ? obj.get("name").getAsString() : "Unknown Material";
-        float weight = obj.has("weight") ? obj.get("weight").getAsFloat() : 0.5f;
-        float durability = obj.has("durability") ? obj.get("durability").getAsFloat() : 100f;
-        String type = obj.has("type") ? obj.get("type").getAsString() : "";
-        float resistance = obj.has("resistance") ? obj.get("resistance").getAsFloat() : 0.5f;
-
-        Material material = new Material(name, weight, durability, type, resistance);
-
-        if (obj.has("quantity")) {
-            material.setQuantity(obj.get("quantity").getAsInt());
-        }
-
+    private Material createMaterial(ItemFields f) {
+        Material material = new Material(f.name("Unknown Material"), f.weight(0.5f), f.durability(),
+            f.type != null ? f.type : "", orDefault(f.resistance, 0.5f));
+        applyQuantity(material, f);
         return material;
     }
 
-    private Food deserializeFood(JsonElement data, JsonDeserializationContext context) {
-        JsonObject obj = data.getAsJsonObject();
-        String name = obj.has("name") ? obj.get("name").getAsString() : "Unknown Food";
-        float weight = obj.has("weight") ? obj.get("weight").getAsFloat() : 0.5f;
-        float durability = obj.has("durability") ? obj.get("durability").getAsFloat() : 100f;
-        int nutritionalValue = obj.has("nutritionalValue") ? obj.get("nutritionalValue").getAsInt() : 10;
-        String type = obj.has("type") ? obj.get("type").getAsString() : "Generic";
-        int shelfLife = obj.has("shelfLife") ? obj.get("shelfLife").getAsInt() : 5;
-
-        Food food = new Food(name, weight, durability, nutritionalValue, type, shelfLife);
-
-        if (obj.has("quantity")) {
-            food.setQuantity(obj.get("quantity").getAsInt());
-        }
+    private Food createFood(ItemFields f) {
+        Food food = new Food(f.name("Unknown Food"), f.weight(0.5f), f.durability(),
+            f.nutritionalValue != null ? f.nutritionalValue : 10,
+            f.type != null ? f.type : "Generic",
+            f.shelfLife != null ? f.shelfLife : 5);
+        applyQuantity(food, f);
 
-        if (obj.has("spoiled")) {
+        if (f.spoiled != null) {
             // We need to set the spoiled field using reflection as it's a private field
             try {
-                java.lang.reflect.Field spoiledField = Food.class.getDeclaredField("spoiled");
+                Field spoiledField = Food.class.getDeclaredField("spoiled");
                 spoiledField.setAccessible(true);
-                spoiledField.set(food, obj.get("spoiled").getAsBoolean());
+                spoiledField.set(food, f.spoiled);
             } catch (Exception e) {
                 throw new JsonParseException("Could not set spoiled field: " + e.getMessage());
             }
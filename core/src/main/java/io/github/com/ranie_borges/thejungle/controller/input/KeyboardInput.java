@@ -0,0 +1,35 @@
+package io.github.com.ranie_borges.thejungle.controller.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPlayerInput;
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
+
+/**
+ * Player actions read from the keyboard: WASD to move, E to interact, F to fish,
+ * SPACE to confirm and I for the inventory
+ */
+public class KeyboardInput implements IPlayerInput {
+    @Override
+    public boolean isHeld(PlayerAction action) {
+        return Gdx.input != null && Gdx.input.isKeyPressed(keyOf(action));
+    }
+
+    @Override
+    public boolean isJustPressed(PlayerAction action) {
+        return Gdx.input != null && Gdx.input.isKeyJustPressed(keyOf(action));
+    }
+
+    private static int keyOf(PlayerAction action) {
+        return switch (action) {
+            case MOVE_UP -> Input.Keys.W;
+            case MOVE_DOWN -> Input.Keys.S;
+            case MOVE_LEFT -> Input.Keys.A;
+            case MOVE_RIGHT -> Input.Keys.D;
+            case INTERACT -> Input.Keys.E;
+            case FISH -> Input.Keys.F;
+            case CONFIRM -> Input.Keys.SPACE;
+            case TOGGLE_INVENTORY -> Input.Keys.I;
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.com.ranie_borges.thejungle.controller.input;
+
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPlayerInput;
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Player actions supplied as a stream of frames, for headless simulations and soak tests.
+ * <p>
+ * Each queued frame is the set of actions held during that frame. {@link #advance()} moves to
+ * the next frame; an action is "just pressed" when it is held now but was not on the previous frame.
+ * An empty queue means no action is held.
+ */
+public class ScriptedInput implements IPlayerInput {
+    private final Queue<Set<PlayerAction>> frames = new ArrayDeque<>();
+    private Set<PlayerAction> current = EnumSet.noneOf(PlayerAction.class);
+    private Set<PlayerAction> previous = EnumSet.noneOf(PlayerAction.class);
+
+    /**
+     * Queue one frame holding the given actions (none for an idle frame)
+     */
+    public ScriptedInput push(PlayerAction... actions) {
+        Set<PlayerAction> frame = EnumSet.noneOf(PlayerAction.class);
+        for (PlayerAction action : actions) {
+            frame.add(action);
+        }
+        frames.add(frame);
+        return this;
+    }
+
+    /**
+     * Queue the same actions for several consecutive frames, e.g. holding a direction
+     */
+    public ScriptedInput hold(int frameCount, PlayerAction... actions) {
+        for (int i = 0; i < frameCount; i++) {
+            push(actions);
+        }
+        return this;
+    }
+
+    public ScriptedInput pushFrame(Collection<PlayerAction> actions) {
+        frames.add(actions.isEmpty() ? EnumSet.noneOf(PlayerAction.class) : EnumSet.copyOf(actions));
+        return this;
+    }
+
+    /**
+     * Make the next queued frame current
+     *
+     * @return false if the stream was exhausted; the current frame is then idle
+     */
+    public boolean advance() {
+        previous = current;
+        Set<PlayerAction> next = frames.poll();
+        current = next != null ? next : EnumSet.noneOf(PlayerAction.class);
+        return next != null;
+    }
+
+    public int getPendingFrames() {
+        return frames.size();
+    }
+
+    public void clear() {
+        frames.clear();
+        current = EnumSet.noneOf(PlayerAction.class);
+        previous = EnumSet.noneOf(PlayerAction.class);
+    }
+
+    @Override
+    public boolean isHeld(PlayerAction action) {
+        return current.contains(action);
+    }
+
+    @Override
+    public boolean isJustPressed(PlayerAction action) {
+        return current.contains(action) && !previous.contains(action);
+    }
+}
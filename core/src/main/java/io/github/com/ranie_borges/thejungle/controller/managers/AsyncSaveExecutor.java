@@ -0,0 +1,163 @@
+package io.github.com.ranie_borges.thejungle.controller.managers;
+
+import com.badlogic.gdx.Gdx;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serializes and writes game state snapshots on a background thread.
+ * <p>
+ * Requests for the same save name are coalesced: if a save is still queued when a newer
+ * snapshot arrives, only the newest one is written. Results are delivered back on the
+ * render thread through {@link SaveListener}.
+ */
+public class AsyncSaveExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncSaveExecutor.class);
+    private static final long DEFAULT_FLUSH_TIMEOUT_MS = 5000;
+
+    /**
+     * Receives the outcome of a background save on the render thread
+     */
+    public interface SaveListener {
+        void onSaveFinished(String saveName, boolean success);
+    }
+
+    private final SaveManager saveManager;
+    private final ExecutorService worker;
+    private final Map<String, GameState> pendingSnapshots = new ConcurrentHashMap<>();
+    private final AtomicInteger scheduledTasks = new AtomicInteger();
+    private volatile SaveListener listener;
+
+    public AsyncSaveExecutor(SaveManager saveManager) {
+        this.saveManager = saveManager;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-worker");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    public void setListener(SaveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Queue a snapshot to be written. The snapshot must not be touched by the caller afterwards.
+     *
+     * @param snapshot A detached copy from {@link SaveManager#createSnapshot(GameState)}
+     * @param saveName Name of the save file
+     */
+    public void submit(GameState snapshot, String saveName) {
+        if (snapshot == null || saveName == null) {
+            logger.warn("Ignoring save request with null snapshot or save name");
+            return;
+        }
+        if (worker.isShutdown()) {
+            logger.warn("Save worker already shut down, writing '{}' synchronously", saveName);
+            notifyListener(saveName, saveManager.saveGame(snapshot, saveName));
+            return;
+        }
+
+        GameState previous = pendingSnapshots.put(saveName, snapshot);
+        if (previous != null) {
+            // The queued task has not started yet and will pick up the newer snapshot
+            logger.debug("Coalesced pending save '{}' with a newer snapshot", saveName);
+            return;
+        }
+        scheduledTasks.incrementAndGet();
+        worker.execute(() -> writePending(saveName));
+    }
+
+    private void writePending(String saveName) {
+        try {
+            GameState snapshot = pendingSnapshots.remove(saveName);
+            if (snapshot == null) {
+                return; // Discarded before the worker got to it
+            }
+            boolean success;
+            try {
+                success = saveManager.saveGame(snapshot, saveName);
+            } catch (Exception e) {
+                logger.error("Background save '{}' failed: {}", saveName, e.getMessage(), e);
+                success = false;
+            }
+            notifyListener(saveName, success);
+        } finally {
+            scheduledTasks.decrementAndGet();
+        }
+    }
+
+    private void notifyListener(String saveName, boolean success) {
+        SaveListener current = listener;
+        if (current == null) {
+            return;
+        }
+        if (Gdx.app != null) {
+            Gdx.app.postRunnable(() -> current.onSaveFinished(saveName, success));
+        } else {
+            current.onSaveFinished(saveName, success);
+        }
+    }
+
+    /**
+     * @return true while a snapshot is queued or being written
+     */
+    public boolean isBusy() {
+        return scheduledTasks.get() > 0;
+    }
+
+    /**
+     * Block until every queued save has been written
+     *
+     * @param timeoutMs Maximum time to wait
+     * @return true if the queue drained in time
+     */
+    public boolean flush(long timeoutMs) {
+        if (worker.isShutdown()) {
+            return true;
+        }
+        try {
+            worker.submit(() -> { }).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            logger.warn("Timed out waiting for pending saves: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drop queued snapshots that have not started writing and wait for any write in progress,
+     * e.g. before deleting the save on game over
+     */
+    public void discardPending() {
+        pendingSnapshots.clear();
+        flush(DEFAULT_FLUSH_TIMEOUT_MS);
+    }
+
+    /**
+     * Write any queued snapshots and stop the worker thread
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(DEFAULT_FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                logger.warn("Save worker did not finish within {} ms", DEFAULT_FLUSH_TIMEOUT_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        listener = null;
+    }
+}
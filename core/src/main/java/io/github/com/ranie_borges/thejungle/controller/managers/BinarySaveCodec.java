@@ -0,0 +1,501 @@
+package io.github.com.ranie_borges.thejungle.controller.managers;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.com.ranie_borges.thejungle.controller.exceptions.save.SaveManagerException;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Doctor;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Hunter;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Lumberjack;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.*;
+import io.github.com.ranie_borges.thejungle.model.stats.AmbientData;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link GameState}.
+ * <p>
+ * Layout (version 2): magic, version, header scalars, player record, ambient type,
+ * current map, then one record per visited ambient. Tile maps are run-length encoded
+ * as (run length, tile value) varint pairs; items are fixed-layout records with a
+ * one-byte type tag. Active events are not persisted, as they carry no exposed state.
+ * Version 2 adds the world seed and map visit index to the header; version 1 files still load.
+ */
+public class BinarySaveCodec {
+    private static final Logger logger = LoggerFactory.getLogger(BinarySaveCodec.class);
+
+    /** "TJSB" - The Jungle Save, Binary */
+    public static final int MAGIC = 0x544A5342;
+    public static final short VERSION = 2;
+    private static final short VERSION_WITHOUT_SEED = 1;
+
+    private static final byte ITEM_WEAPON = 1;
+    private static final byte ITEM_TOOL = 2;
+    private static final byte ITEM_MEDICINE = 3;
+    private static final byte ITEM_DRINKABLE = 4;
+    private static final byte ITEM_FOOD = 5;
+    private static final byte ITEM_MATERIAL = 6;
+
+    /**
+     * Check whether a stream starts with the binary save magic. Reads four bytes.
+     */
+    public static boolean hasMagic(InputStream in) throws IOException {
+        byte[] header = new byte[4];
+        int read = in.readNBytes(header, 0, header.length);
+        if (read < header.length) {
+            return false;
+        }
+        int magic = ((header[0] & 0xFF) << 24) | ((header[1] & 0xFF) << 16) | ((header[2] & 0xFF) << 8) | (header[3] & 0xFF);
+        return magic == MAGIC;
+    }
+
+    public void write(GameState gameState, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        out.writeInt(gameState.getDaysSurvived());
+        OffsetDateTime dateTime = gameState.getOffsetDateTime();
+        out.writeBoolean(dateTime != null);
+        if (dateTime != null) {
+            out.writeLong(dateTime.toEpochSecond());
+            out.writeInt(dateTime.getNano());
+            out.writeInt(dateTime.getOffset().getTotalSeconds());
+        }
+        out.writeInt(gameState.getMapWidth());
+        out.writeInt(gameState.getMapHeight());
+        out.writeLong(gameState.getWorldSeed());
+        out.writeInt(gameState.getMapVisitIndex());
+
+        writeCharacter(out, gameState.getPlayerCharacter());
+
+        Ambient ambient = gameState.getCurrentAmbient();
+        writeNullableString(out, ambient != null ? ambient.getClass().getSimpleName() : null);
+
+        writeTileMap(out, gameState.getCurrentMap());
+
+        Map<String, AmbientData> visited = gameState.getVisitedAmbients();
+        int visitedCount = visited != null ? visited.size() : 0;
+        out.writeInt(visitedCount);
+        if (visited != null) {
+            for (Map.Entry<String, AmbientData> entry : visited.entrySet()) {
+                AmbientData data = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeInt(data != null ? data.getVisitCount() : 1);
+                writeTileMap(out, data != null ? data.getMap() : null);
+                writeItems(out, data != null ? data.getRemainingResources() : null);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Decode a game state. The stream must be positioned at the start of the file (before the magic).
+     */
+    public GameState read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new SaveManagerException("Not a binary save file");
+        }
+        short version = in.readShort();
+        if (version != VERSION && version != VERSION_WITHOUT_SEED) {
+            throw new SaveManagerException("Unsupported binary save version: " + version);
+        }
+
+        GameState gameState = new GameState();
+        gameState.setDaysSurvived(in.readInt());
+        if (in.readBoolean()) {
+            long epochSecond = in.readLong();
+            int nano = in.readInt();
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(in.readInt());
+            gameState.setOffsetDateTime(OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset));
+        }
+        gameState.setMapWidth(in.readInt());
+        gameState.setMapHeight(in.readInt());
+        if (version >= VERSION) {
+            gameState.setWorldSeed(in.readLong());
+            gameState.setMapVisitIndex(in.readInt());
+        }
+
+        gameState.setPlayerCharacter(readCharacter(in));
+
+        String ambientType = readNullableString(in);
+        if (ambientType != null) {
+            gameState.setCurrentAmbient(createAmbient(ambientType));
+        }
+
+        gameState.setCurrentMap(readTileMap(in));
+
+        int visitedCount = in.readInt();
+        Map<String, AmbientData> visited = new HashMap<>(Math.max(16, visitedCount * 2));
+        for (int i = 0; i < visitedCount; i++) {
+            String name = in.readUTF();
+            int visitCount = in.readInt();
+            AmbientData data = new AmbientData(readTileMap(in));
+            data.setVisitCount(visitCount);
+            data.setRemainingResources(readItems(in));
+            visited.put(name, data);
+        }
+        gameState.setVisitedAmbients(visited);
+        return gameState;
+    }
+
+    // ---- Tile maps ----
+
+    private void writeTileMap(DataOutputStream out, int[][] map) throws IOException {
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, map.length + 1); // 0 is reserved for "no map"
+        for (int[] row : map) {
+            writeVarInt(out, row != null ? row.length : 0);
+        }
+
+        int runValue = 0;
+        int runLength = 0;
+        for (int[] row : map) {
+            if (row == null) continue;
+            for (int tile : row) {
+                if (runLength > 0 && tile == runValue) {
+                    runLength++;
+                    continue;
+                }
+                if (runLength > 0) {
+                    writeVarInt(out, runLength);
+                    writeVarInt(out, zigZag(runValue));
+                }
+                runValue = tile;
+                runLength = 1;
+            }
+        }
+        if (runLength > 0) {
+            writeVarInt(out, runLength);
+            writeVarInt(out, zigZag(runValue));
+        }
+    }
+
+    private int[][] readTileMap(DataInputStream in) throws IOException {
+        int rowsPlusOne = readVarInt(in);
+        if (rowsPlusOne == 0) {
+            return null;
+        }
+        int[][] map = new int[rowsPlusOne - 1][];
+        for (int y = 0; y < map.length; y++) {
+            map[y] = new int[readVarInt(in)];
+        }
+
+        int runLength = 0;
+        int runValue = 0;
+        for (int[] row : map) {
+            for (int x = 0; x < row.length; x++) {
+                if (runLength == 0) {
+                    runLength = readVarInt(in);
+                    runValue = unZigZag(readVarInt(in));
+                }
+                row[x] = runValue;
+                runLength--;
+            }
+        }
+        return map;
+    }
+
+    // ---- Character ----
+
+    private void writeCharacter(DataOutputStream out, Character character) throws IOException {
+        out.writeBoolean(character != null);
+        if (character == null) {
+            return;
+        }
+        out.writeUTF(character.getClass().getSimpleName());
+        out.writeUTF(character.getName() != null ? character.getName() : "Unknown");
+        out.writeFloat(character.getLife());
+        out.writeFloat(character.getHunger());
+        out.writeFloat(character.getThirsty());
+        out.writeFloat(character.getEnergy());
+        out.writeFloat(character.getSanity());
+        out.writeDouble(character.getAttackDamage());
+        out.writeInt(character.getInventoryInitialCapacity());
+        out.writeInt(character.getMaxInventoryCapacity());
+        out.writeFloat(character.getPosition().x);
+        out.writeFloat(character.getPosition().y);
+
+        Array<Item> inventory = character.getInventory();
+        int count = 0;
+        if (inventory != null) {
+            for (int i = 0; i < inventory.size; i++) {
+                if (inventory.get(i) != null) count++;
+            }
+        }
+        out.writeInt(count);
+        if (inventory != null) {
+            for (int i = 0; i < inventory.size; i++) {
+                Item item = inventory.get(i);
+                if (item != null) writeItem(out, item);
+            }
+        }
+    }
+
+    private Character readCharacter(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        String characterType = in.readUTF();
+        String name = in.readUTF();
+        float life = in.readFloat();
+        float hunger = in.readFloat();
+        float thirsty = in.readFloat();
+        float energy = in.readFloat();
+        float sanity = in.readFloat();
+        double attackDamage = in.readDouble();
+        int inventoryInitialCapacity = in.readInt();
+        int maxInventoryCapacity = in.readInt();
+        float x = in.readFloat();
+        float y = in.readFloat();
+
+        Character character;
+        switch (characterType) {
+            case "Hunter":
+                character = new Hunter(name, x, y);
+                break;
+            case "Doctor":
+                character = new Doctor(name, x, y);
+                break;
+            case "Lumberjack":
+                character = new Lumberjack(name, x, y);
+                break;
+            case "Survivor":
+            default:
+                character = new Survivor(name, x, y);
+                break;
+        }
+        character.setLife(life);
+        character.setHunger(hunger);
+        character.setThirsty(thirsty);
+        character.setEnergy(energy);
+        character.setSanity(sanity);
+        character.setAttackDamage(attackDamage);
+        character.setMaxInventoryCapacity(maxInventoryCapacity);
+        character.setInventoryInitialCapacity(inventoryInitialCapacity);
+
+        int count = in.readInt();
+        Array<Item> inventory = new Array<>(Math.max(count, 1));
+        for (int i = 0; i < count; i++) {
+            Item item = readItem(in);
+            if (item != null) inventory.add(item);
+        }
+        character.setInventory(inventory);
+        return character;
+    }
+
+    // ---- Items ----
+
+    private void writeItems(DataOutputStream out, List<Item> items) throws IOException {
+        int count = 0;
+        if (items != null) {
+            for (Item item : items) {
+                if (item != null) count++;
+            }
+        }
+        out.writeInt(count);
+        if (items != null) {
+            for (Item item : items) {
+                if (item != null) writeItem(out, item);
+            }
+        }
+    }
+
+    private List<Item> readItems(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Item item = readItem(in);
+            if (item != null) items.add(item);
+        }
+        return items;
+    }
+
+    private void writeItem(DataOutputStream out, Item item) throws IOException {
+        byte tag;
+        if (item instanceof Weapon) {
+            tag = ITEM_WEAPON;
+        } else if (item instanceof Tool) {
+            tag = ITEM_TOOL;
+        } else if (item instanceof Medicine) {
+            tag = ITEM_MEDICINE;
+        } else if (item instanceof Drinkable) {
+            tag = ITEM_DRINKABLE;
+        } else if (item instanceof Food) {
+            tag = ITEM_FOOD;
+        } else if (item instanceof Material) {
+            tag = ITEM_MATERIAL;
+        } else {
+            throw new SaveManagerException("Unsupported item type: " + item.getClass().getSimpleName());
+        }
+
+        out.writeByte(tag);
+        out.writeUTF(item.getName() != null ? item.getName() : "");
+        out.writeFloat(item.getWeight());
+        out.writeFloat(item.getDurability());
+        out.writeInt(item.getQuantity());
+
+        switch (tag) {
+            case ITEM_WEAPON:
+                out.writeFloat(((Weapon) item).getDamage());
+                out.writeFloat(((Weapon) item).getAttackSpeed());
+                break;
+            case ITEM_TOOL:
+                out.writeFloat(((Tool) item).getWorkPower());
+                out.writeFloat(((Tool) item).getUsageSpeed());
+                break;
+            case ITEM_MEDICINE:
+                out.writeDouble(((Medicine) item).getHealRatio());
+                break;
+            case ITEM_DRINKABLE:
+                out.writeBoolean(((Drinkable) item).isPotable());
+                out.writeFloat(((Drinkable) item).getVolume());
+                break;
+            case ITEM_FOOD:
+                Food food = (Food) item;
+                out.writeInt(food.getNutritionalValue());
+                writeNullableString(out, food.getFoodType());
+                out.writeInt(food.getShelfLife());
+                out.writeBoolean(food.isSpoiled());
+                break;
+            case ITEM_MATERIAL:
+                writeNullableString(out, ((Material) item).getType());
+                out.writeFloat(((Material) item).getResistance());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Item readItem(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        String name = in.readUTF();
+        float weight = in.readFloat();
+        float durability = in.readFloat();
+        int quantity = in.readInt();
+
+        Item item;
+        switch (tag) {
+            case ITEM_WEAPON:
+                item = new Weapon(name, weight, durability, in.readFloat(), in.readFloat());
+                break;
+            case ITEM_TOOL:
+                item = new Tool(name, weight, durability, in.readFloat(), in.readFloat());
+                break;
+            case ITEM_MEDICINE:
+                item = new Medicine(name, weight, durability, in.readDouble());
+                break;
+            case ITEM_DRINKABLE:
+                item = new Drinkable(name, weight, durability, in.readBoolean(), in.readFloat());
+                break;
+            case ITEM_FOOD:
+                int nutritionalValue = in.readInt();
+                String foodType = readNullableString(in);
+                int shelfLife = in.readInt();
+                boolean spoiled = in.readBoolean();
+                Food food = new Food(name, weight, durability, nutritionalValue, foodType, shelfLife);
+                if (spoiled) setSpoiled(food);
+                item = food;
+                break;
+            case ITEM_MATERIAL:
+                item = new Material(name, weight, durability, readNullableString(in), in.readFloat());
+                break;
+            default:
+                throw new SaveManagerException("Unknown item tag in binary save: " + tag);
+        }
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    private void setSpoiled(Food food) {
+        // Food has no setter for spoiled; same approach as ItemAdapter
+        try {
+            Field spoiledField = Food.class.getDeclaredField("spoiled");
+            spoiledField.setAccessible(true);
+            spoiledField.set(food, true);
+        } catch (Exception e) {
+            logger.warn("Could not restore spoiled flag for {}: {}", food.getName(), e.getMessage());
+        }
+    }
+
+    // ---- Ambient ----
+
+    private Ambient createAmbient(String ambientType) {
+        switch (ambientType) {
+            case "Cave":
+                return new Cave();
+            case "LakeRiver":
+                return new LakeRiver();
+            case "Mountain":
+                return new Mountain();
+            case "Ruins":
+                return new Ruins();
+            case "Jungle":
+                return new Jungle();
+            default:
+                logger.warn("Unknown ambient type: {}, defaulting to Jungle", ambientType);
+                return new Jungle();
+        }
+    }
+
+    // ---- Primitives ----
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SaveManagerException("Malformed varint in binary save");
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
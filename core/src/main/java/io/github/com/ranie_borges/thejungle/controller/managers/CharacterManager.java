@@ -1,19 +1,30 @@
 package io.github.com.ranie_borges.thejungle.controller.managers;
 
+import io.github.com.ranie_borges.thejungle.controller.input.KeyboardInput;
+import io.github.com.ranie_borges.thejungle.core.LogThrottle;
 import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPlayerInput;
+import io.github.com.ranie_borges.thejungle.model.events.events.SnakeEventManager;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Random;
+
 
 public class CharacterManager implements UI {
     private static final Logger logger = LoggerFactory.getLogger(CharacterManager.class);
+    // Both run every frame, so they are rate limited
+    private final LogThrottle missingMapLog = LogThrottle.everyMillis(5000);
+    private final LogThrottle lifePenaltyLog = LogThrottle.everyMillis(1000);
 
     private Character character;
     private Ambient currentAmbient;
     private int[][] map;
+    private IPlayerInput input = new KeyboardInput();
+    private final SnakeEventManager snakeEvents = new SnakeEventManager();
 
     public CharacterManager(Character character, Ambient ambient) {
         this.character = character;
@@ -22,12 +33,14 @@ public class CharacterManager implements UI {
 
     public boolean updateCharacterMovement(float delta) {
         if (character == null || map == null) {
-            logger.warn("Character or map is null in updateCharacterMovement, skipping.");
+            if (missingMapLog.tryAcquire()) {
+                logger.warn("Character or map is null in updateCharacterMovement, skipping ({} similar messages suppressed).", missingMapLog.drainSuppressed());
+            }
             return false;
         }
 
         boolean passedThroughDoor = character.tryMove(
-            delta, map, TILE_SIZE, TILE_WALL, TILE_DOOR, TILE_CAVE, MAP_WIDTH, MAP_HEIGHT);
+            delta, map, TILE_SIZE, TILE_WALL, TILE_DOOR, TILE_CAVE, MAP_WIDTH, MAP_HEIGHT, input);
 
         if (currentAmbient instanceof Jungle jungle) {
             int tileX = (int) ((character.getPosition().x + TILE_SIZE / 2f) / TILE_SIZE);
@@ -36,7 +49,7 @@ public class CharacterManager implements UI {
             if (tileX >= 0 && tileX < MAP_WIDTH && tileY >= 0 && tileY < MAP_HEIGHT) {
                 character.setInTallGrass(jungle.isTallGrass(tileX, tileY));
                 if (character.isInTallGrass()) {
-                    jungle.checkSnakeBite(character);
+                    jungle.checkSnakeBite(character, snakeEvents);
                 }
             } else {
                 character.setInTallGrass(false);
@@ -47,7 +60,7 @@ public class CharacterManager implements UI {
         return passedThroughDoor;
     }
 
-    public void safeSpawnCharacter() {
+    public void safeSpawnCharacter(Random rand) {
         if (character == null || map == null) {
             logger.error("Cannot safe spawn character, character or map is null.");
             return;
@@ -57,8 +70,8 @@ public class CharacterManager implements UI {
         int maxAttempts = 1000;
 
         while (!spawnFound && attempts < maxAttempts) {
-            int x = (int) (Math.random() * MAP_WIDTH);
-            int y = (int) (Math.random() * MAP_HEIGHT);
+            int x = rand.nextInt(MAP_WIDTH);
+            int y = rand.nextInt(MAP_HEIGHT);
 
             if (y < 0 || y >= map.length || x < 0 || x >= map[0].length) continue;
 
@@ -103,8 +116,10 @@ public class CharacterManager implements UI {
         float thirstToDeplete = baseThirstDepletionPerSecond * thirstModifier * delta;
         float energyToDeplete = energyDepletionPerSecond * delta;
 
-        if (hungerModifier < 1.0f) logger.trace("{} has reduced hunger depletion: {} (-{}%)", character.getName(), hungerToDeplete, (1-hungerModifier)*100);
-        if (thirstModifier < 1.0f) logger.trace("{} has reduced thirst depletion: {} (-{}%)", character.getName(), thirstToDeplete, (1-thirstModifier)*100);
+        if (logger.isTraceEnabled()) {
+            if (hungerModifier < 1.0f) logger.trace("{} has reduced hunger depletion: {} (-{}%)", character.getName(), hungerToDeplete, (1-hungerModifier)*100);
+            if (thirstModifier < 1.0f) logger.trace("{} has reduced thirst depletion: {} (-{}%)", character.getName(), thirstToDeplete, (1-thirstModifier)*100);
+        }
 
 
         character.setHunger(character.getHunger() - hungerToDeplete);
@@ -127,11 +142,20 @@ public class CharacterManager implements UI {
 
         if (lifePenalty > 0) {
             character.setLife(character.getLife() - lifePenalty);
-             logger.debug("{} lost {} life due to critical hunger/thirst. Current life: {}", character.getName(), lifePenalty, character.getLife());
+            if (logger.isDebugEnabled() && lifePenaltyLog.tryAcquire()) {
+                logger.debug("{} lost {} life due to critical hunger/thirst. Current life: {}", character.getName(), lifePenalty, character.getLife());
+            }
         }
     }
 
     public void setMap(int[][] map) { this.map = map; }
+    public IPlayerInput getInput() { return input; }
+    public SnakeEventManager getSnakeEvents() { return snakeEvents; }
+
+    /**
+     * Replace the keyboard, e.g. with a ScriptedInput in headless simulations
+     */
+    public void setInput(IPlayerInput input) { this.input = input != null ? input : new KeyboardInput(); }
     public int[][] getMap() { return map; }
     public Character getCharacter() { return character; }
     public void setCharacter(Character character) { this.character = character; }
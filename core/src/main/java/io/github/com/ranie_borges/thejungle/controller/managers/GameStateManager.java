@@ -7,13 +7,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Manages the game state and autosaving functionality
+ * Manages the game state and autosaving functionality.
+ * Saves are snapshotted on the render thread and written by an {@link AsyncSaveExecutor}.
  */
 public class GameStateManager {
     private static final Logger logger = LoggerFactory.getLogger(GameStateManager.class);
 
+    private static final String AUTOSAVE_NAME = "autosave";
+
     private GameState gameState;
     private final SaveManager saveManager;
+    private final AsyncSaveExecutor saveExecutor;
     private float autosaveTimer = 0f;
 
     /**
@@ -24,6 +28,8 @@ public class GameStateManager {
     public GameStateManager(GameState gameState) {
         this.gameState = gameState;
         this.saveManager = new SaveManager();
+        this.saveExecutor = new AsyncSaveExecutor(saveManager);
+        this.saveExecutor.setListener(this::onSaveFinished);
     }
 
     /**
@@ -45,41 +51,18 @@ public class GameStateManager {
     }
 
     /**
-     * Perform an autosave operation
+     * Perform an autosave operation. The state is snapshotted here and written in the background.
      *
      * @param character Current character
      * @param ambient   Current ambient
      * @param map       Current map
      */
     public void autosave(Character character, Ambient ambient, int[][] map) {
-        try {
-            gameState.setPlayerCharacter(character);
-            gameState.setCurrentAmbient(ambient);
-            gameState.setCurrentMap(map);
-
-            if (map != null && map.length > 0) {
-                gameState.setMapHeight(map.length);
-                gameState.setMapWidth(map[0].length);
-            }
-
-            if (ambient != null) {
-                String ambientName = ambient.getName();
-                gameState.addVisitedMap(ambientName, map);
-            }
-
-            boolean success = saveManager.saveGame(gameState, "autosave");
-            if (success) {
-                logger.info("Game autosaved successfully");
-            } else {
-                logger.warn("Autosave failed");
-            }
-        } catch (Exception e) {
-            logger.error("Error during autosave: {}", e.getMessage());
-        }
+        save(character, ambient, map, AUTOSAVE_NAME);
     }
 
     /**
-     * Manual save with a custom save name
+     * Manual save with a custom save name. The state is snapshotted here and written in the background.
      *
      * @param character Current character
      * @param ambient   Current ambient
@@ -102,17 +85,45 @@ public class GameStateManager {
                 gameState.addVisitedMap(ambientName, map);
             }
 
-            boolean success = saveManager.saveGame(gameState, saveName);
-            if (success) {
-                logger.info("Game saved successfully as '{}'", saveName);
-            } else {
-                logger.warn("Save failed for '{}'", saveName);
-            }
+            GameState snapshot = saveManager.createSnapshot(gameState);
+            saveExecutor.submit(snapshot, saveName);
         } catch (Exception e) {
-            logger.error("Error during save: {}", e.getMessage());
+            logger.error("Error during save '{}': {}", saveName, e.getMessage());
         }
     }
 
+    private void onSaveFinished(String saveName, boolean success) {
+        if (success) {
+            logger.info("Game saved successfully as '{}'", saveName);
+        } else {
+            logger.warn("Save failed for '{}'", saveName);
+            if (gameState != null && gameState.getChatController() != null) {
+                gameState.getChatController().addMessage("Save failed!");
+            }
+        }
+    }
+
+    /**
+     * @return true while a background save is queued or being written
+     */
+    public boolean isSaving() {
+        return saveExecutor.isBusy();
+    }
+
+    /**
+     * Drop queued saves and wait for an in-progress write, so the save file can be safely deleted
+     */
+    public void cancelPendingSaves() {
+        saveExecutor.discardPending();
+    }
+
+    /**
+     * Finish any queued saves and stop the save worker
+     */
+    public void dispose() {
+        saveExecutor.shutdown();
+    }
+
     /**
      * Get the current game state
      */
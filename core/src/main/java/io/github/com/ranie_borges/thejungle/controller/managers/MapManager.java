@@ -1,6 +1,7 @@
 package io.github.com.ranie_borges.thejungle.controller.managers;
 
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
 import org.slf4j.Logger;
@@ -12,8 +13,13 @@ import java.util.Random;
 
 public class MapManager implements UI {
     private static final Logger logger = LoggerFactory.getLogger(MapManager.class);
+    // Stream of the paths offered at the end of a cycle, apart from the rotation of the current one
+    private static final String AMBIENT_CHOICE_STREAM = "ambient choice";
 
-    private final transient Random random = new Random(); // Added transient
+    private WorldSeed worldSeed = WorldSeed.randomSeed();
+    // Number of maps generated so far in this playthrough; keys the per-map random streams
+    private int visitIndex = 0;
+    private final transient MapPregenerator pregenerator = new MapPregenerator();
     private Ambient currentAmbient;
     private int[][] map;
     private int currentAmbientUseCount = 0;
@@ -61,8 +67,16 @@ public class MapManager implements UI {
                 logger.error("CurrentAmbient is null in MapManager. Cannot generate map. Defaulting to Jungle.");
                 this.currentAmbient = new Jungle();
             }
-            map = currentAmbient.generateMap(MAP_WIDTH, MAP_HEIGHT);
-            logger.info("Map generated for ambient: {}", currentAmbient.getName());
+            visitIndex++;
+            MapPregenerator.PregeneratedMap ready = pregenerator.take(currentAmbient.getName(), visitIndex);
+            if (ready != null) {
+                currentAmbient.adoptGeneratedState(ready.generator());
+                map = ready.map();
+                logger.info("Pre-generated map swapped in for ambient: {} (seed {}, visit {})", currentAmbient.getName(), worldSeed, visitIndex);
+            } else {
+                map = currentAmbient.generateMap(MAP_WIDTH, MAP_HEIGHT, deriveSeed(WorldSeed.Purpose.MAP));
+                logger.info("Map generated for ambient: {} (seed {}, visit {})", currentAmbient.getName(), worldSeed, visitIndex);
+            }
         } catch (Exception e) {
             logger.error("Error generating map for current ambient ({}): {}", currentAmbient != null ? currentAmbient.getName() : "null", e.getMessage(), e);
             map = new int[MAP_HEIGHT][MAP_WIDTH];
@@ -87,7 +101,7 @@ public class MapManager implements UI {
             if (!"Jungle".equals(avoidName)) return new Jungle();
             return allAmbients.length > 0 ? allAmbients[0] : new Jungle();
         }
-        return availableAmbients.get(random.nextInt(availableAmbients.size()));
+        return availableAmbients.get(random(WorldSeed.Purpose.AMBIENT_ROTATION).nextInt(availableAmbients.size()));
     }
 
     public Ambient getAmbientBeforeRotation() { return ambientBeforeRotation; }
@@ -99,6 +113,7 @@ public class MapManager implements UI {
     }
 
     public void generateCaveDoors() {
+        Random random = random(WorldSeed.Purpose.CAVE_DOORS);
         int doorsPlaced = 0; int attempts = 0;
         while (doorsPlaced < 2 && attempts < 1000) {
             int x = random.nextInt(MAP_WIDTH); int y = random.nextInt(MAP_HEIGHT);
@@ -163,4 +178,56 @@ public class MapManager implements UI {
     public boolean isAdjacentToCave(int x, int y) { /* ... */ return false;} // Implementation needed if used
     public int countDoors() { /* ... */ return 0;} // Implementation needed if used
     public int getCurrentAmbientUseCount() { return currentAmbientUseCount; }
+
+    /**
+     * Seed of one random stream of the current map, derived from (world seed, ambient, visit)
+     */
+    public long deriveSeed(WorldSeed.Purpose purpose) {
+        return worldSeed.derive(currentAmbient != null ? currentAmbient.getName() : null, visitIndex, purpose);
+    }
+
+    public Random random(WorldSeed.Purpose purpose) {
+        return new Random(deriveSeed(purpose));
+    }
+
+    /**
+     * Random that shuffles the paths offered when a cycle ends; the same world seed and visit
+     * always offer the same paths, in the game and in simulations
+     */
+    public Random ambientChoiceRandom() {
+        return ambientChoiceRandom(worldSeed, visitIndex);
+    }
+
+    public static Random ambientChoiceRandom(WorldSeed worldSeed, int visitIndex) {
+        return worldSeed.random(AMBIENT_CHOICE_STREAM, visitIndex, WorldSeed.Purpose.AMBIENT_ROTATION);
+    }
+
+    /**
+     * Continue a playthrough, e.g. after loading a save
+     *
+     * @param visitIndex Number of maps already generated with this seed
+     */
+    public void setWorldSeed(WorldSeed worldSeed, int visitIndex) {
+        this.worldSeed = worldSeed != null ? worldSeed : WorldSeed.randomSeed();
+        this.visitIndex = visitIndex;
+        pregenerator.cancelAll();
+        logger.info("MapManager: world seed set to {} at visit {}", this.worldSeed, visitIndex);
+    }
+
+    /**
+     * Start generating the maps the next door can lead to, in the background
+     */
+    public void pregenerateNextMaps() {
+        pregenerator.pregenerate(worldSeed, visitIndex + 1, MAP_WIDTH, MAP_HEIGHT);
+    }
+
+    /**
+     * Stop background generation, e.g. when the game screen is disposed
+     */
+    public void shutdownPregeneration() {
+        pregenerator.shutdown();
+    }
+
+    public WorldSeed getWorldSeed() { return worldSeed; }
+    public int getVisitIndex() { return visitIndex; }
 }
@@ -0,0 +1,117 @@
+package io.github.com.ranie_borges.thejungle.controller.managers;
+
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Generates the candidate next maps on a background thread while the player explores.
+ * <p>
+ * A door can lead to any ambient type (continuing, "Stay Here" or any option of the ambient
+ * selection dialog), so one map per type is generated for the next visit index. Maps are
+ * seeded exactly like {@link MapManager#generateMapForCurrentAmbient()} would seed them, so a
+ * pre-generated map is identical to one generated on demand.
+ * <p>
+ * Each map is built by a private ambient instance, since generation can keep per-map state
+ * (e.g. Jungle tall grass); {@link Ambient#adoptGeneratedState(Ambient)} copies it over on swap.
+ */
+public class MapPregenerator {
+    private static final Logger logger = LoggerFactory.getLogger(MapPregenerator.class);
+
+    private static final List<Supplier<Ambient>> AMBIENT_TYPES = List.of(
+        Cave::new, Jungle::new, LakeRiver::new, Mountain::new, Ruins::new);
+
+    /**
+     * A finished map and the ambient instance that generated it
+     */
+    public record PregeneratedMap(Ambient generator, int[][] map) {
+    }
+
+    private final Map<String, Future<PregeneratedMap>> pending = new ConcurrentHashMap<>();
+    private ExecutorService worker;
+    private int targetVisit = -1;
+
+    /**
+     * Start generating every ambient type for a visit. Results for any other visit are dropped.
+     * Must be called from the render thread.
+     */
+    public void pregenerate(WorldSeed worldSeed, int visit, int mapWidth, int mapHeight) {
+        if (visit == targetVisit && !pending.isEmpty()) {
+            return;
+        }
+        cancelAll();
+        targetVisit = visit;
+        if (worker == null || worker.isShutdown()) {
+            worker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "map-pregen");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        for (Supplier<Ambient> type : AMBIENT_TYPES) {
+            Ambient generator = type.get();
+            long seed = worldSeed.derive(generator.getName(), visit, WorldSeed.Purpose.MAP);
+            pending.put(key(generator.getName(), visit), worker.submit(
+                () -> new PregeneratedMap(generator, generator.generateMap(mapWidth, mapHeight, seed))));
+        }
+        logger.debug("Pre-generating {} maps for visit {}", AMBIENT_TYPES.size(), visit);
+    }
+
+    /**
+     * Take a pre-generated map. Maps that are not finished yet are cancelled, since generating
+     * on demand costs the same as waiting for them.
+     *
+     * @return The map, or null if it was not requested or is not ready
+     */
+    public PregeneratedMap take(String ambientName, int visit) {
+        Future<PregeneratedMap> future = pending.remove(key(ambientName, visit));
+        if (future == null) {
+            return null;
+        }
+        if (!future.isDone()) {
+            future.cancel(false);
+            logger.debug("Pre-generated map for {} (visit {}) not ready yet", ambientName, visit);
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            logger.warn("Pre-generation of {} failed: {}", ambientName, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public void cancelAll() {
+        for (Future<PregeneratedMap> future : pending.values()) {
+            future.cancel(false);
+        }
+        pending.clear();
+        targetVisit = -1;
+    }
+
+    public void shutdown() {
+        cancelAll();
+        if (worker != null) {
+            worker.shutdownNow();
+            worker = null;
+        }
+    }
+
+    private static String key(String ambientName, int visit) {
+        return ambientName + '#' + visit;
+    }
+}
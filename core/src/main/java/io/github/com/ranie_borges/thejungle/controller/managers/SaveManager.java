@@ -25,20 +25,58 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 // import java.lang.reflect.Field; // Not strictly needed for FieldAttributes if using getDeclaredClass
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 // import java.util.List; // Not directly used here but often in initializeTransientData
 
 public class SaveManager {
     private static final Logger logger = LoggerFactory.getLogger(SaveManager.class);
     private static final String SAVE_DIRECTORY = "saves/";
     private static final String JSON_EXTENSION = ".json";
+    private static final String BINARY_EXTENSION = ".sav";
+    private static final String TEMP_EXTENSION = ".tmp";
     private final Gson gson; // Create Gson instance once
+    private final BinarySaveCodec binaryCodec = new BinarySaveCodec();
+    private final SaveFormat saveFormat;
+
+    /**
+     * On-disk encodings supported by the SaveManager. Loading detects the format
+     * from the file header, so both can coexist in the save directory. The game
+     * writes {@link #BINARY}; JSON saves from older versions are converted on load.
+     */
+    public enum SaveFormat {
+        /** Pretty-printed Gson JSON, human readable */
+        JSON(JSON_EXTENSION),
+        /** Versioned binary layout, see {@link BinarySaveCodec} */
+        BINARY(BINARY_EXTENSION);
+
+        private final String extension;
+
+        SaveFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
 
     public SaveManager() {
+        this(SaveFormat.BINARY);
+    }
+
+    public SaveManager(SaveFormat saveFormat) {
+        this.saveFormat = saveFormat != null ? saveFormat : SaveFormat.BINARY;
         try {
             createSaveDirectory();
         } catch (Exception e) {
@@ -62,13 +100,15 @@ public class SaveManager {
     }
 
     private Gson buildGsonInstance() { // Renamed from getGsonInstance to indicate it builds
+        // Streaming adapters share one ItemAdapter so nested items never go through a JsonElement tree
+        ItemAdapter itemAdapter = new ItemAdapter();
         return new GsonBuilder()
             .excludeFieldsWithoutExposeAnnotation()
             .setPrettyPrinting()
             .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())
-            .registerTypeAdapter(Item.class, new ItemAdapter())
-            .registerTypeAdapter(Character.class, new CharacterAdapter())
-            .registerTypeAdapter(Ambient.class, new AmbientAdapter())
+            .registerTypeAdapter(Item.class, itemAdapter)
+            .registerTypeAdapter(Character.class, new CharacterAdapter(itemAdapter))
+            .registerTypeAdapter(Ambient.class, new AmbientAdapter(itemAdapter))
             .setExclusionStrategies(new ExclusionStrategy() {
                 @Override
                 public boolean shouldSkipField(FieldAttributes f) {
@@ -112,52 +152,137 @@ public class SaveManager {
             logger.warn("Empty save name provided, using default 'autosave'");
             effectiveSaveName = "autosave";
         }
-        if (!effectiveSaveName.toLowerCase().endsWith(JSON_EXTENSION)) {
-            effectiveSaveName += JSON_EXTENSION;
-        }
+        SaveFormat format = this.saveFormat;
+        effectiveSaveName = stripExtension(effectiveSaveName) + format.getExtension();
 
         File saveFile = new File(SAVE_DIRECTORY + effectiveSaveName);
-        try (Writer writer = new FileWriter(saveFile)) {
+        // Write to a temporary file first so an interrupted (e.g. background) save never leaves a truncated save behind
+        File tempFile = new File(SAVE_DIRECTORY + effectiveSaveName + TEMP_EXTENSION);
+        try {
             if (gameState.getCurrentAmbient() != null && gameState.getCurrentMap() != null) {
                 String ambientName = gameState.getCurrentAmbient().getName();
                 AmbientData currentAmbientData = gameState.getVisitedAmbients().computeIfAbsent(ambientName, k -> new AmbientData());
                 currentAmbientData.setMap(gameState.getCurrentMap());
             }
-            // Use the pre-configured Gson instance
-            this.gson.toJson(gameState, writer);
+            writeToFile(gameState, tempFile, format);
+            moveIntoPlace(tempFile.toPath(), saveFile.toPath());
             logger.info("Game saved successfully to: {}", saveFile.getAbsolutePath());
             return true;
         } catch (Exception e) {
             logger.error("Error saving game to {}: {}", effectiveSaveName, e.getMessage(), e);
+            try {
+                Files.deleteIfExists(tempFile.toPath());
+            } catch (IOException cleanupError) {
+                logger.warn("Could not remove temporary save file {}: {}", tempFile.getAbsolutePath(), cleanupError.getMessage());
+            }
             return false;
         }
     }
 
+    private void writeToFile(GameState gameState, File file, SaveFormat format) throws IOException {
+        if (format == SaveFormat.BINARY) {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+                binaryCodec.write(gameState, out);
+            }
+        } else {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+                // Use the pre-configured Gson instance
+                this.gson.toJson(gameState, writer);
+            }
+        }
+    }
+
+    /**
+     * Read a save file in either format, detecting binary saves by their header
+     */
+    private GameState readFromFile(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            in.mark(4);
+            boolean binary = BinarySaveCodec.hasMagic(in);
+            in.reset();
+            if (binary) {
+                return binaryCodec.read(in);
+            }
+            return this.gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), GameState.class);
+        }
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Creates a detached copy of the game state that can be serialized on another thread
+     * while the game keeps running. Must be called on the render thread.
+     * <p>
+     * Tile maps, visited ambient data and active events are copied; the player character and its
+     * items are copied field by field with {@link Character#copy()}. The current ambient is shared,
+     * since the adapter only reads its immutable descriptive fields.
+     *
+     * @param source The live game state
+     * @return A snapshot safe to hand to {@link #saveGame(GameState, String)} on a worker thread
+     */
+    public GameState createSnapshot(GameState source) {
+        if (source == null) {
+            throw new SaveManagerException("Cannot snapshot a null game state");
+        }
+        try {
+            GameState snapshot = new GameState();
+            if (source.getPlayerCharacter() != null) {
+                snapshot.setPlayerCharacter(source.getPlayerCharacter().copy());
+            }
+            snapshot.setCurrentAmbient(source.getCurrentAmbient());
+            snapshot.setCurrentMap(AmbientData.copyMap(source.getCurrentMap()));
+            snapshot.setMapWidth(source.getMapWidth());
+            snapshot.setMapHeight(source.getMapHeight());
+            snapshot.setDaysSurvived(source.getDaysSurvived());
+            snapshot.setWorldSeed(source.getWorldSeed());
+            snapshot.setMapVisitIndex(source.getMapVisitIndex());
+            snapshot.setOffsetDateTime(source.getOffsetDateTime());
+            if (source.getActiveEvents() != null) {
+                snapshot.setActiveEvents(new ArrayList<>(source.getActiveEvents()));
+            }
+
+            Map<String, AmbientData> visited = new HashMap<>();
+            if (source.getVisitedAmbients() != null) {
+                for (Map.Entry<String, AmbientData> entry : source.getVisitedAmbients().entrySet()) {
+                    if (entry.getValue() != null) {
+                        visited.put(entry.getKey(), AmbientData.copyOf(entry.getValue()));
+                    }
+                }
+            }
+            snapshot.setVisitedAmbients(visited);
+            return snapshot;
+        } catch (Exception e) {
+            logger.error("Failed to snapshot game state: {}", e.getMessage(), e);
+            throw new SaveManagerException("Failed to snapshot game state", e);
+        }
+    }
+
     public GameState loadGame(String filePathOrName) {
         if (filePathOrName == null || filePathOrName.trim().isEmpty()) {
             logger.error("Cannot load game: filename is null or empty");
             return null;
         }
 
-        File saveFile;
-        if (filePathOrName.contains(File.separator) || filePathOrName.startsWith("saves" + File.separator)) {
-            saveFile = new File(filePathOrName);
-        } else {
-            String fileName = filePathOrName.toLowerCase().endsWith(JSON_EXTENSION) ? filePathOrName : filePathOrName + JSON_EXTENSION;
-            saveFile = new File(SAVE_DIRECTORY + fileName);
-        }
-
-        if (!saveFile.exists()) {
-            logger.warn("Save file does not exist: {}", saveFile.getAbsolutePath());
+        File saveFile = resolveSaveFile(filePathOrName);
+        if (saveFile == null || !saveFile.exists()) {
+            logger.warn("Save file does not exist: {}", saveFile != null ? saveFile.getAbsolutePath() : filePathOrName);
             return null;
         }
 
-        try (Reader reader = new FileReader(saveFile)) {
-            // Use the pre-configured Gson instance
-            GameState gameState = this.gson.fromJson(reader, GameState.class);
+        try {
+            GameState gameState = readFromFile(saveFile);
 
             if (gameState != null) {
                 logger.info("Game loaded successfully from: {}", saveFile.getAbsolutePath());
+                if (saveFormat == SaveFormat.BINARY && needsBinaryCopy(saveFile)) {
+                    writeBinaryCopy(gameState, saveFile);
+                }
                 initializeTransientData(gameState); // Call post-load initialization
             } else {
                 logger.error("Failed to deserialize GameState from: {}. Gson returned null.", saveFile.getAbsolutePath());
@@ -168,12 +293,114 @@ public class SaveManager {
             logger.error("JSON syntax error while loading game from {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
         } catch (JsonIOException e) {
             logger.error("JSON I/O error while loading game from {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
+        } catch (SaveManagerException e) {
+            logger.error("Binary save error while loading game from {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
         } catch (IOException e) {
             logger.error("I/O error while loading game from {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
         }
         return null;
     }
 
+    /**
+     * Convert an existing JSON save into the binary format next to it. The JSON file is kept.
+     * {@link #loadGame(String)} does this automatically the first time a JSON save is loaded.
+     *
+     * @param saveName Save name or file name in the save directory
+     * @return true if the binary save was written
+     */
+    public boolean convertJsonSave(String saveName) {
+        File jsonFile = new File(SAVE_DIRECTORY + stripExtension(saveName) + JSON_EXTENSION);
+        if (!jsonFile.exists()) {
+            logger.warn("Cannot convert save: {} does not exist", jsonFile.getAbsolutePath());
+            return false;
+        }
+        try {
+            GameState gameState = readFromFile(jsonFile);
+            if (gameState == null) {
+                logger.error("Cannot convert save: {} is empty", jsonFile.getAbsolutePath());
+                return false;
+            }
+            return writeBinaryCopy(gameState, jsonFile);
+        } catch (Exception e) {
+            logger.error("Failed to convert save {}: {}", jsonFile.getAbsolutePath(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Write a game state read from a JSON save as a binary save with the same name, in the same directory
+     */
+    private boolean writeBinaryCopy(GameState gameState, File jsonFile) {
+        File binaryFile = new File(jsonFile.getParentFile(), stripExtension(jsonFile.getName()) + BINARY_EXTENSION);
+        File tempFile = new File(binaryFile.getPath() + TEMP_EXTENSION);
+        try {
+            writeToFile(gameState, tempFile, SaveFormat.BINARY);
+            moveIntoPlace(tempFile.toPath(), binaryFile.toPath());
+            logger.info("Converted {} ({} bytes) to {} ({} bytes)", jsonFile.getName(), jsonFile.length(),
+                binaryFile.getName(), binaryFile.length());
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to convert save {}: {}", jsonFile.getAbsolutePath(), e.getMessage(), e);
+            try {
+                Files.deleteIfExists(tempFile.toPath());
+            } catch (IOException cleanupError) {
+                logger.warn("Could not remove temporary save file {}: {}", tempFile.getAbsolutePath(), cleanupError.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Resolve a save name, file name or path to a file. Bare save names pick the most
+     * recently written file among the supported formats.
+     */
+    private File resolveSaveFile(String filePathOrName) {
+        if (filePathOrName.contains(File.separator) || filePathOrName.contains("/")) {
+            return new File(filePathOrName);
+        }
+        if (hasSaveExtension(filePathOrName)) {
+            return new File(SAVE_DIRECTORY + filePathOrName);
+        }
+        File jsonFile = new File(SAVE_DIRECTORY + filePathOrName + JSON_EXTENSION);
+        File binaryFile = new File(SAVE_DIRECTORY + filePathOrName + BINARY_EXTENSION);
+        if (jsonFile.exists() && binaryFile.exists()) {
+            return binaryFile.lastModified() >= jsonFile.lastModified() ? binaryFile : jsonFile;
+        }
+        return binaryFile.exists() ? binaryFile : jsonFile;
+    }
+
+    private static boolean hasSaveExtension(String name) {
+        String lower = name.toLowerCase();
+        return lower.endsWith(JSON_EXTENSION) || lower.endsWith(BINARY_EXTENSION);
+    }
+
+    /**
+     * A JSON save needs converting unless a binary save of the same name was written after it
+     */
+    private static boolean needsBinaryCopy(File saveFile) {
+        if (!saveFile.getName().toLowerCase().endsWith(JSON_EXTENSION)) {
+            return false;
+        }
+        File binaryFile = new File(saveFile.getParentFile(), stripExtension(saveFile.getName()) + BINARY_EXTENSION);
+        return !binaryFile.exists() || binaryFile.lastModified() < saveFile.lastModified();
+    }
+
+    private static String stripExtension(String name) {
+        return hasSaveExtension(name) ? name.substring(0, name.lastIndexOf('.')) : name;
+    }
+
+    /**
+     * @param saveFile A file returned by {@link #getSaveFiles()}
+     * @return The save name without its format extension
+     */
+    public static String getSaveName(File saveFile) {
+        return stripExtension(saveFile.getName());
+    }
+
+    public SaveFormat getSaveFormat() {
+        return saveFormat;
+    }
+
     private void initializeTransientData(GameState gameState) {
         if (gameState == null) return;
         logger.debug("Performing post-load initialization of transient data...");
@@ -216,42 +443,63 @@ public class SaveManager {
         logger.debug("Post-load initialization complete (basic). Sprites requiring TextureManager might need further init.");
     }
 
+    /**
+     * Delete a save in every format it was written in
+     *
+     * @param filename Save name or file name; the extension is ignored
+     * @return true if at least one file was deleted
+     */
     public boolean deleteSave(String filename) {
         if (filename == null || filename.trim().isEmpty()) {
             logger.error("Cannot delete save: filename is null or empty");
             return false;
         }
-        String effectiveFilename = filename;
-        if (!effectiveFilename.toLowerCase().endsWith(JSON_EXTENSION)) {
-            effectiveFilename += JSON_EXTENSION;
-        }
-        File saveFile = new File(SAVE_DIRECTORY + effectiveFilename);
-        try {
-            if (!saveFile.exists()) {
-                logger.warn("Save file to delete does not exist: {}", saveFile.getAbsolutePath());
-                return false;
-            }
-            boolean deleted = Files.deleteIfExists(saveFile.toPath());
-            if (deleted) {
-                logger.info("Save file deleted: {}", saveFile.getAbsolutePath());
-            } else {
-                logger.error("Failed to delete save file (Files.deleteIfExists returned false): {}", saveFile.getAbsolutePath());
+        String baseName = stripExtension(filename);
+        boolean deletedAny = false;
+        for (SaveFormat format : SaveFormat.values()) {
+            File saveFile = new File(SAVE_DIRECTORY + baseName + format.getExtension());
+            try {
+                if (!saveFile.exists()) {
+                    continue;
+                }
+                boolean deleted = Files.deleteIfExists(saveFile.toPath());
+                if (deleted) {
+                    logger.info("Save file deleted: {}", saveFile.getAbsolutePath());
+                    deletedAny = true;
+                } else {
+                    logger.error("Failed to delete save file (Files.deleteIfExists returned false): {}", saveFile.getAbsolutePath());
+                }
+            } catch (SecurityException e) {
+                logger.error("Security exception deleting save file {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
+            } catch (IOException e) {
+                logger.error("IOException deleting save file {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
             }
-            return deleted;
-        } catch (SecurityException e) {
-            logger.error("Security exception deleting save file {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
-        } catch (IOException e) {
-            logger.error("IOException deleting save file {}: {}", saveFile.getAbsolutePath(), e.getMessage(), e);
         }
-        return false;
+        if (!deletedAny) {
+            logger.warn("Save file to delete does not exist: {}", SAVE_DIRECTORY + baseName);
+        }
+        return deletedAny;
     }
 
+    /**
+     * List the saves in the save directory, one file per save name. When a save exists in
+     * both formats (e.g. a converted JSON save) the most recently written file is returned.
+     */
     public File[] getSaveFiles() {
         File directory = new File(SAVE_DIRECTORY);
         if (!directory.exists() || !directory.isDirectory()) {
             createSaveDirectory();
             return new File[0];
         }
-        return directory.listFiles((dir, name) -> name.toLowerCase().endsWith(JSON_EXTENSION));
+        File[] files = directory.listFiles((dir, name) -> hasSaveExtension(name));
+        if (files == null) {
+            return new File[0];
+        }
+        Map<String, File> newestByName = new LinkedHashMap<>();
+        for (File file : files) {
+            newestByName.merge(getSaveName(file), file,
+                (current, candidate) -> candidate.lastModified() > current.lastModified() ? candidate : current);
+        }
+        return newestByName.values().toArray(new File[0]);
     }
 }
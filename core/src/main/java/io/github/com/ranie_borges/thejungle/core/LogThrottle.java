@@ -0,0 +1,55 @@
+package io.github.com.ranie_borges.thejungle.core;
+
+/**
+ * Rate limit for diagnostics logged from per-frame code (render, movement, stat updates).
+ * <p>
+ * Logging policy for the hot path: never log at INFO per frame; guard DEBUG/TRACE calls that
+ * take primitive arguments with {@code isDebugEnabled()}/{@code isTraceEnabled()} so nothing is
+ * boxed when the level is off; and route conditions that can repeat every frame (a missing
+ * texture, a null map) through a throttle, which lets one line through per interval and
+ * reports how many were suppressed in between:
+ * <pre>
+ * if (missingFrameLog.tryAcquire()) {
+ *     logger.warn("Frame is null ({} similar messages suppressed)", missingFrameLog.drainSuppressed());
+ * }
+ * </pre>
+ * Not thread-safe; keep one throttle per call site and thread.
+ */
+public final class LogThrottle {
+    private final long intervalNanos;
+    private long nextAllowed = Long.MIN_VALUE;
+    private int suppressed;
+
+    private LogThrottle(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * At most one message per interval
+     */
+    public static LogThrottle everyMillis(long intervalMillis) {
+        return new LogThrottle(intervalMillis * 1_000_000L);
+    }
+
+    /**
+     * @return true if this occurrence should be logged
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (nextAllowed != Long.MIN_VALUE && now - nextAllowed < 0) {
+            suppressed++;
+            return false;
+        }
+        nextAllowed = now + intervalNanos;
+        return true;
+    }
+
+    /**
+     * @return Occurrences skipped since the last logged one; resets the count
+     */
+    public int drainSuppressed() {
+        int count = suppressed;
+        suppressed = 0;
+        return count;
+    }
+}
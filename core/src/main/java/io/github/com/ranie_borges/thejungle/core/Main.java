@@ -2,15 +2,26 @@ package io.github.com.ranie_borges.thejungle.core;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.Gdx;
 import io.github.com.ranie_borges.thejungle.controller.AmbientController;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
+import io.github.com.ranie_borges.thejungle.view.helpers.LightingManager;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
 public class Main extends Game {
+    private static final String SETTINGS = "thejungle-settings";
+    // Light buffer resolution relative to the screen (1, 0.5 or 0.25); lower is faster on weak GPUs
+    private static final String LIGHT_BUFFER_SCALE = "lightBufferScale";
+
     private SpriteBatch batch;
     private AmbientController ambientController;
+    private LightingManager lightingManager;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
+        // Start streaming the map and battle assets while the menus are shown
+        GameAssets.queueManifest();
 
         ambientController = new AmbientController(this);
         ambientController.initializeGame();
@@ -18,6 +29,7 @@ public class Main extends Game {
 
     @Override
     public void render() {
+        GameAssets.update();
         super.render();
     }
 
@@ -25,6 +37,22 @@ public class Main extends Game {
     public void dispose() {
         batch.dispose();
         super.dispose();
+        if (lightingManager != null) {
+            lightingManager.dispose();
+            lightingManager = null;
+        }
+        TextureRegistry.disposeAll();
+        GameAssets.dispose();
+    }
+
+    /**
+     * Lighting shared by every map screen, created on first use
+     */
+    public LightingManager getLightingManager() {
+        if (lightingManager == null) {
+            lightingManager = new LightingManager(Gdx.app.getPreferences(SETTINGS).getFloat(LIGHT_BUFFER_SCALE, 1f));
+        }
+        return lightingManager;
     }
 
     /**
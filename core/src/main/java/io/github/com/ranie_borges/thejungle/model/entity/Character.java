@@ -1,7 +1,6 @@
 package io.github.com.ranie_borges.thejungle.model.entity;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
@@ -11,6 +10,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.google.gson.annotations.Expose;
+import io.github.com.ranie_borges.thejungle.core.LogThrottle;
 import io.github.com.ranie_borges.thejungle.core.Main;
 import io.github.com.ranie_borges.thejungle.model.entity.characters.Doctor;
 import io.github.com.ranie_borges.thejungle.model.entity.characters.Lumberjack;
@@ -21,17 +21,22 @@ import io.github.com.ranie_borges.thejungle.model.entity.itens.*;
 import io.github.com.ranie_borges.thejungle.model.enums.Trait;
 import io.github.com.ranie_borges.thejungle.model.entity.interfaces.ICharacter;
 import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventory;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventoryListener;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPlayerInput;
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import io.github.com.ranie_borges.thejungle.model.world.EntityStore;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI; // For TILE_SIZE
 import io.github.com.ranie_borges.thejungle.model.stats.GameState;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 public abstract class Character implements ICharacter, IInventory, UI { // Implement UI for TILE_SIZE
     private static final Logger logger = LoggerFactory.getLogger(Character.class);
-    private static final Random random = new Random(); // For random chances
 
     @Expose
     private String name;
@@ -47,6 +52,9 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
     private float sanity;
     @Expose
     private Array<Item> inventory;
+    // Per-name stacks, quantities and weights of the inventory; built on first use
+    private transient InventoryIndex inventoryIndex;
+    private transient Array<IInventoryListener> inventoryListeners;
     @Expose
     private float currentWeight = 0f;
 
@@ -72,6 +80,9 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
     @Expose
     private Vector2 position;
     private transient Texture texture;
+    // Used when no animation frame is available; built once instead of every frame
+    private transient TextureRegion fallbackFrame;
+    private static final LogThrottle missingFrameLog = LogThrottle.everyMillis(5000);
     private transient Animation<TextureRegion> playerIdleUp;
     private transient Animation<TextureRegion> playerIdleDown;
     private transient Animation<TextureRegion> playerIdleLeft;
@@ -123,6 +134,37 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         }
     }
 
+    /**
+     * Copy of the saved fields of another character, with its items copied too. Listeners,
+     * graphics and the game state are left out.
+     */
+    protected Character(Character other) {
+        this.name = other.name;
+        this.life = other.life;
+        this.hunger = other.hunger;
+        this.thirsty = other.thirsty;
+        this.energy = other.energy;
+        this.sanity = other.sanity;
+        this.inventory = new Array<>(Math.max(other.inventory.size, 1));
+        for (int i = 0; i < other.inventory.size; i++) {
+            this.inventory.add(other.inventory.get(i).copy());
+        }
+        this.currentWeight = other.currentWeight;
+        this.inventoryInitialCapacity = other.inventoryInitialCapacity;
+        this.maxInventoryCapacity = other.maxInventoryCapacity;
+        this.attackDamage = other.attackDamage;
+        this.traits = other.traits != null ? new ArrayList<>(other.traits) : new ArrayList<>();
+        this.characterType = other.characterType;
+        this.speed = other.speed;
+        this.position = new Vector2(other.position);
+        this.inTallGrass = other.inTallGrass;
+    }
+
+    /**
+     * @return A detached copy of the saved fields, safe to serialize on another thread, e.g. for an autosave
+     */
+    public abstract Character copy();
+
     public float getMaxCarryWeight() {
         return this.maxCarryWeight;
     }
@@ -157,15 +199,15 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
     public boolean setInitialSpawn(
         int[][] map, int mapWidth, int mapHeight, int tileSize,
         int tileGrass, int tileCave, String ambientName,
-        io.github.com.ranie_borges.thejungle.model.world.Ambient ambient) {
+        io.github.com.ranie_borges.thejungle.model.world.Ambient ambient, Random rand) {
         try {
             int x, y;
             int attempts = 0;
             int maxAttempts = 1000;
             boolean positionFound = false;
             do {
-                x = (int) (Math.random() * mapWidth);
-                y = (int) (Math.random() * mapHeight);
+                x = rand.nextInt(mapWidth);
+                y = rand.nextInt(mapHeight);
                 attempts++;
                 if (y < 0 || y >= mapHeight || x < 0 || x >= mapWidth) continue;
                 int tileType = map[y][x];
@@ -199,15 +241,22 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
     public GameState getGameState() {
         return gameState;
     }
+
+    /**
+     * @return Random of the playthrough, or of the current thread when not in a game
+     */
+    protected Random getRandom() {
+        return gameState != null ? gameState.getRandom() : ThreadLocalRandom.current();
+    }
     public void setGameState(GameState gameState) {
         this.gameState = gameState;
     }
     private Animation<TextureRegion> loadAnimation(String filename, float frameDuration, int framesCount) {
         try {
-            Texture spriteSheet = new Texture(Gdx.files.internal("sprites/character/" + filename));
-            int frameWidth = spriteSheet.getWidth() / framesCount;
-            int frameHeight = spriteSheet.getHeight();
-            TextureRegion[][] tmp = TextureRegion.split(spriteSheet, frameWidth, frameHeight);
+            TextureRegion spriteSheet = TextureRegistry.getRegion("sprites/character/" + filename);
+            int frameWidth = spriteSheet.getRegionWidth() / framesCount;
+            int frameHeight = spriteSheet.getRegionHeight();
+            TextureRegion[][] tmp = spriteSheet.split(frameWidth, frameHeight);
             Array<TextureRegion> frames = new Array<>(framesCount);
             for (int i = 0; i < framesCount; i++) {
                 frames.add(tmp[0][i]);
@@ -219,7 +268,7 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         }
     }
     public void drinkWater() {
-        if (Math.random() < 0.1) {
+        if (getRandom().nextDouble() < 0.1) {
             for (int i = 0; i < 3; i++) {
                 setLife(getLife() - 5);
             }
@@ -235,13 +284,7 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         }
     }
     public void cutTree(Material tree) {
-        Tool axe = null;
-        for (Item item : inventory) {
-            if (item instanceof Tool && item.getName().equalsIgnoreCase("Axe")) {
-                axe = (Tool) item;
-                break;
-            }
-        }
+        Tool axe = findItem("Axe", Tool.class);
         if (axe == null) {
             logger.warn("{} tentou cortar uma árvore sem ter um machado.", getName());
             return;
@@ -264,8 +307,9 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         }
 
 
-        if (com.badlogic.gdx.Gdx.app.getApplicationListener() instanceof Main) {
-            Main main = (Main)com.badlogic.gdx.Gdx.app.getApplicationListener();
+        // No application in headless simulations
+        if (Gdx.app != null && Gdx.app.getApplicationListener() instanceof Main) {
+            Main main = (Main) Gdx.app.getApplicationListener();
             if (main.getScreen() instanceof io.github.com.ranie_borges.thejungle.view.ProceduralMapScreen) {
                 io.github.com.ranie_borges.thejungle.view.ProceduralMapScreen screen =
                     (io.github.com.ranie_borges.thejungle.view.ProceduralMapScreen) main.getScreen();
@@ -326,17 +370,23 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         }
     }
 
+    /**
+     * Move with the held movement actions unless the target tile is a wall or outside the map
+     *
+     * @param input Keyboard in the game, or a scripted action stream in headless simulations
+     * @return true if the player stepped onto a door
+     */
     public boolean tryMove(float delta, int[][] map, int tileSize, int tileWall, int tileDoor, int tileCave,
-                           int mapWidth, int mapHeight) {
+                           int mapWidth, int mapHeight, IPlayerInput input) {
         float currentSpeed = getSpeed() > 0 ? getSpeed() : 100f;
         float speedMultiplier = isInTallGrass() ? 0.5f : 1.0f;
         float finalSpeed = currentSpeed * speedMultiplier;
         float deltaX = 0, deltaY = 0;
 
-        if (Gdx.input.isKeyPressed(Input.Keys.W)) deltaY = finalSpeed * delta;
-        if (Gdx.input.isKeyPressed(Input.Keys.S)) deltaY = -finalSpeed * delta;
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) deltaX = -finalSpeed * delta;
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) deltaX = finalSpeed * delta;
+        if (input.isHeld(PlayerAction.MOVE_UP)) deltaY = finalSpeed * delta;
+        if (input.isHeld(PlayerAction.MOVE_DOWN)) deltaY = -finalSpeed * delta;
+        if (input.isHeld(PlayerAction.MOVE_LEFT)) deltaX = -finalSpeed * delta;
+        if (input.isHeld(PlayerAction.MOVE_RIGHT)) deltaX = finalSpeed * delta;
         isMoving = (deltaX != 0 || deltaY != 0);
 
         if (isMoving) {
@@ -363,19 +413,25 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
 
     public TextureRegion getCurrentFrame() {
         TextureRegion frame = getFrameForCurrentState(stateTime);
-        if (frame == null && texture != null) {
-            logger.warn("Current animation frame is null for state {}. Using fallback texture.", currentState);
-            return new TextureRegion(texture);
-        } else if (frame == null && texture == null) {
+        if (frame != null) {
+            return frame;
+        }
+        if (missingFrameLog.tryAcquire()) {
+            logger.warn("Current animation frame is null for state {}. Using fallback texture ({} similar messages suppressed).",
+                currentState, missingFrameLog.drainSuppressed());
+        }
+        if (fallbackFrame == null && texture != null) {
+            fallbackFrame = new TextureRegion(texture);
+        } else if (fallbackFrame == null) {
             logger.error("Cannot get current frame: no animation and no fallback texture for Character.");
             Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
             pixmap.setColor(1, 0, 0, 1);
             pixmap.fill();
-            Texture placeholder = new Texture(pixmap);
+            texture = new Texture(pixmap);
             pixmap.dispose();
-            return new TextureRegion(placeholder);
+            fallbackFrame = new TextureRegion(texture);
         }
-        return frame;
+        return fallbackFrame;
     }
 
     public String getName() { return name; }
@@ -397,6 +453,100 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
 
     public Array<Item> getInventory() { return inventory; }
     public void setInventory(Array<Item> inventory) { this.inventory = inventory != null ? inventory : new Array<>(); }
+
+    private InventoryIndex inventoryIndex() {
+        if (inventoryIndex == null) {
+            inventoryIndex = new InventoryIndex(this);
+        }
+        inventoryIndex.ensureCurrent(inventory);
+        return inventoryIndex;
+    }
+
+    @Override
+    public void addInventoryListener(IInventoryListener listener) {
+        if (inventoryListeners == null) {
+            inventoryListeners = new Array<>(false, 2);
+        }
+        if (listener != null && !inventoryListeners.contains(listener, true)) {
+            inventoryListeners.add(listener);
+        }
+        inventoryIndex(); // Picks up changes made to the array directly before anyone listened
+    }
+
+    @Override
+    public void removeInventoryListener(IInventoryListener listener) {
+        if (inventoryListeners != null) {
+            inventoryListeners.removeValue(listener, true);
+        }
+    }
+
+    @Override
+    public <T extends IInventoryListener> T findInventoryListener(Class<T> type) {
+        if (inventoryListeners != null) {
+            for (int i = 0; i < inventoryListeners.size; i++) {
+                if (type.isInstance(inventoryListeners.get(i))) {
+                    return type.cast(inventoryListeners.get(i));
+                }
+            }
+        }
+        return null;
+    }
+
+    void fireItemQuantityChanged(String itemName) {
+        if (inventoryListeners == null) return;
+        for (int i = 0; i < inventoryListeners.size; i++) {
+            inventoryListeners.get(i).onItemQuantityChanged(this, itemName);
+        }
+    }
+
+    void fireInventoryReset() {
+        if (inventoryListeners == null) return;
+        for (int i = 0; i < inventoryListeners.size; i++) {
+            inventoryListeners.get(i).onInventoryReset(this);
+        }
+    }
+
+    @Override
+    public int getItemQuantity(String itemName) {
+        return inventoryIndex().quantityOf(itemName);
+    }
+
+    @Override
+    public float getItemWeight(String itemName) {
+        return inventoryIndex().weightOf(itemName);
+    }
+
+    @Override
+    public <T extends Item> T findItem(String itemName, Class<T> type) {
+        return inventoryIndex().find(itemName, type);
+    }
+
+    @Override
+    public boolean removeItemQuantity(String itemName, int amount) {
+        InventoryIndex index = inventoryIndex();
+        if (amount <= 0) return true;
+        if (index.quantityOf(itemName) < amount) return false;
+        Array<Item> stacks = index.stacksOf(itemName);
+        // Oldest stacks first; stacks emptied on the way leave the inventory
+        while (amount > 0 && stacks != null && stacks.size > 0) {
+            Item stack = stacks.first();
+            int taken = Math.min(amount, stack.getQuantity());
+            if (taken >= stack.getQuantity()) {
+                float weight = stack.getWeight();
+                inventory.removeValue(stack, true);
+                index.removed(stack, weight);
+                currentWeight -= weight;
+            } else {
+                float weight = stack.getWeight() / stack.getQuantity() * taken;
+                stack.setQuantity(stack.getQuantity() - taken);
+                index.changed(stack, -taken, -weight);
+                currentWeight -= weight;
+            }
+            amount -= taken;
+        }
+        if (currentWeight < 0) currentWeight = 0;
+        return true;
+    }
     public int getMaxInventoryCapacity() { return maxInventoryCapacity; }
     public void setMaxInventoryCapacity(int maxInventoryCapacity) { this.maxInventoryCapacity = Math.max(0, maxInventoryCapacity); }
     public int getInventoryInitialCapacity() { return inventoryInitialCapacity; }
@@ -404,67 +554,70 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         this.inventoryInitialCapacity = Math.max(1, capacity);
     }
 
-    public void tryCollectNearbyMaterial(List<Material> materiaisNoMapa) {
-        Iterator<Material> iterator = materiaisNoMapa.iterator();
-        while (iterator.hasNext()) {
-            Material materialOnMap = iterator.next();
-            if (materialOnMap == null) continue;
-            float dist = getPosition().dst(materialOnMap.getPosition());
-            float collectionRadius = TILE_SIZE * 0.8f; // Reduced radius for more precise collection
-            if (dist < collectionRadius) {
-                if (isInventoryFull()) {
-                    logger.info("{}'s inventory is full. Cannot collect {}.", getName(), materialOnMap.getName());
-                    return;
-                }
-                Item itemToCollect = null;
-                int baseQuantity = 1;
-                int bonusQuantity = 0;
-                if ("Berry".equalsIgnoreCase(materialOnMap.getName())) {
-                    itemToCollect = Food.createBerry(); // This creates a Food item
-                    bonusQuantity = getFoodWaterGatheringBonusQuantity();
-                } else if ("Medicinal".equalsIgnoreCase(materialOnMap.getName()) && "Plant".equalsIgnoreCase(materialOnMap.getType())) {
-                    itemToCollect = Material.createMedicinalPlant();
-                } else if ("rock".equalsIgnoreCase(materialOnMap.getName())) {
-                    itemToCollect = Material.createSmallRock();
-                } else if ("stick".equalsIgnoreCase(materialOnMap.getName())) {
-                    itemToCollect = Material.createStick();
-                } else if ("coin".equalsIgnoreCase(materialOnMap.getName())) {
-                    itemToCollect = Material.createCoin();
-                } else if ("Tree".equalsIgnoreCase(materialOnMap.getName())) {
+    /**
+     * Collect the first collectible material within reach
+     *
+     * @param entities Entities on the map; the collected material is removed from it
+     */
+    public void tryCollectNearbyMaterial(EntityStore entities) {
+        float collectionRadius = TILE_SIZE * 0.8f; // Reduced radius for more precise collection
+        List<Material> nearby = entities.queryRadius(getPosition().x, getPosition().y, collectionRadius, Material.class, new ArrayList<>());
+        for (Material materialOnMap : nearby) {
+            if (isInventoryFull()) {
+                logger.info("{}'s inventory is full. Cannot collect {}.", getName(), materialOnMap.getName());
+                return;
+            }
+            Item itemToCollect = null;
+            int baseQuantity = 1;
+            int bonusQuantity = 0;
+            if ("Berry".equalsIgnoreCase(materialOnMap.getName())) {
+                itemToCollect = Food.createBerry(); // This creates a Food item
+                bonusQuantity = getFoodWaterGatheringBonusQuantity();
+            } else if ("Medicinal".equalsIgnoreCase(materialOnMap.getName()) && "Plant".equalsIgnoreCase(materialOnMap.getType())) {
+                itemToCollect = Material.createMedicinalPlant();
+            } else if ("rock".equalsIgnoreCase(materialOnMap.getName())) {
+                itemToCollect = Material.createSmallRock();
+            } else if ("stick".equalsIgnoreCase(materialOnMap.getName())) {
+                itemToCollect = Material.createStick();
+            } else if ("coin".equalsIgnoreCase(materialOnMap.getName())) {
+                itemToCollect = Material.createCoin();
+            } else if ("Tree".equalsIgnoreCase(materialOnMap.getName())) {
+                continue;
+            }
+
+            if (itemToCollect != null) {
+                itemToCollect.setQuantity(baseQuantity + bonusQuantity);
+                if (!canCarryMore(itemToCollect.getWeight() * itemToCollect.getQuantity())) { // Check total weight of stack
+                    logger.info("{} cannot carry more weight for {} ({} units).", getName(), itemToCollect.getName(), itemToCollect.getQuantity());
                     continue;
                 }
-
-                if (itemToCollect != null) {
-                    itemToCollect.setQuantity(baseQuantity + bonusQuantity);
-                    if (!canCarryMore(itemToCollect.getWeight() * itemToCollect.getQuantity())) { // Check total weight of stack
-                        logger.info("{} cannot carry more weight for {} ({} units).", getName(), itemToCollect.getName(), itemToCollect.getQuantity());
-                        continue;
-                    }
-                    insertItemInInventory(itemToCollect);
-                    iterator.remove();
-                    logger.info("{} collected {} of {}.", getName(), itemToCollect.getQuantity(), itemToCollect.getName());
-                    if (bonusQuantity > 0 && (itemToCollect instanceof Food || itemToCollect instanceof Drinkable || "Berry".equalsIgnoreCase(materialOnMap.getName()))) {
-                        logger.info("Hunter's ability yielded {} extra {}!", bonusQuantity, itemToCollect.getName());
-                    }
-                    return;
+                insertItemInInventory(itemToCollect);
+                entities.remove(materialOnMap);
+                logger.info("{} collected {} of {}.", getName(), itemToCollect.getQuantity(), itemToCollect.getName());
+                if (bonusQuantity > 0 && (itemToCollect instanceof Food || itemToCollect instanceof Drinkable || "Berry".equalsIgnoreCase(materialOnMap.getName()))) {
+                    logger.info("Hunter's ability yielded {} extra {}!", bonusQuantity, itemToCollect.getName());
                 }
+                return;
             }
         }
     }
 
-    public void insertItemInInventory(Item item) {
-        if (item == null || item.getQuantity() <= 0) return;
-        for (Item existingItem : inventory) {
-            if (existingItem != null && existingItem.getName().equals(item.getName()) && existingItem.getClass() == item.getClass()) { // Also check class for type safety
-                float weightPerUnit = (existingItem.getWeight() > 0 && existingItem.getQuantity() > 0) ? existingItem.getWeight() / existingItem.getQuantity() : (item.getWeight() / item.getQuantity());
-                if (canCarryMore(weightPerUnit * item.getQuantity())) {
-                    existingItem.addQuantity(item.getQuantity());
-                    currentWeight += weightPerUnit * item.getQuantity();
-                    logger.debug("Stacked {} to {}. New quantity: {}", item.getName(), existingItem.getName(), existingItem.getQuantity());
-                    return;
-                } else {
-                    logger.info("Cannot stack more {}, not enough carry capacity.", item.getName());
-                }
+    @Override
+    public boolean insertItemInInventory(Item item) {
+        if (item == null || item.getQuantity() <= 0) return false;
+        InventoryIndex index = inventoryIndex();
+        Item existingItem = index.findStack(item); // Same name and class
+        if (existingItem != null) {
+            float weightPerUnit = (existingItem.getWeight() > 0 && existingItem.getQuantity() > 0) ? existingItem.getWeight() / existingItem.getQuantity() : (item.getWeight() / item.getQuantity());
+            float addedWeight = weightPerUnit * item.getQuantity();
+            if (canCarryMore(addedWeight)) {
+                existingItem.addQuantity(item.getQuantity());
+                currentWeight += addedWeight;
+                index.changed(existingItem, item.getQuantity(), addedWeight);
+                logger.debug("Stacked {} to {}. New quantity: {}", item.getName(), existingItem.getName(), existingItem.getQuantity());
+                return true;
+            } else {
+                logger.info("Cannot stack more {}, not enough carry capacity.", item.getName());
             }
         }
         if (!isInventoryFull()) {
@@ -472,13 +625,15 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
             if (canCarryMore(itemTotalWeight)) {
                 inventory.add(item);
                 currentWeight += itemTotalWeight;
+                index.added(item, itemTotalWeight);
                 logger.debug("Added new item {} to inventory.", item.getName());
-            } else {
-                logger.info("Cannot add new item {}, not enough carry capacity.", item.getName());
+                return true;
             }
+            logger.info("Cannot add new item {}, not enough carry capacity.", item.getName());
         } else {
             logger.info("Inventory is full. Cannot add new item {}.", item.getName());
         }
+        return false;
     }
 
     public Item getItem(int index) {
@@ -490,7 +645,9 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         if (isInventoryIndexOk(index)) {
             Item item = inventory.get(index);
             if (item != null) {
+                InventoryIndex inventoryIndex = inventoryIndex();
                 inventory.removeIndex(index);
+                inventoryIndex.removed(item, item.getWeight());
                 currentWeight -= item.getWeight();
                 if (currentWeight < 0) currentWeight = 0;
                 logger.info("{} dropped: {}", getName(), item.getName());
@@ -502,7 +659,7 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
 
 
 
-    public void emptyInventory() { inventory.clear(); currentWeight = 0; }
+    public void emptyInventory() { inventory.clear(); currentWeight = 0; inventoryIndex().rebuild(inventory); }
     @Override
     public boolean canCarryMore(float itemWeight) { return (currentWeight + itemWeight) <= maxCarryWeight; }
     public void increaseInventoryCapacity(int newCapacity) {
@@ -521,7 +678,7 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
     public int getInventorySize() { return inventory.size; }
 
     public void useItem(Item item) {
-        if (item == null || !inventory.contains(item, true)) {
+        if (item == null || !inventoryIndex().contains(item)) {
             logger.warn("{}: Attempted to use item not in inventory or null item: {}", getName(), item != null ? item.getName() : "null");
             return;
         }
@@ -531,7 +688,7 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
         boolean itemFullyConsumedOrBroken = false;
         if (item instanceof Food) {
             Food food = (Food) item;
-            food.useItem();
+            food.useItem(getRandom());
             setHunger(getHunger() + food.getNutritionalValue());
             logger.info("{}: Ate '{}'. Hunger restored by {}. New Hunger: {}", getName(), food.getName(), food.getNutritionalValue(), getHunger());
             itemFullyConsumedOrBroken = true;
@@ -550,7 +707,7 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
             }
         } else if (item instanceof Drinkable) {
             Drinkable drinkable = (Drinkable) item;
-            drinkable.useItem();
+            drinkable.useItem(getRandom());
             logger.info("{}: Used Drinkable '{}'. Effects handled by item.", getName(), drinkable.getName());
             if (drinkable.getDurability() <= 0 || drinkable.getVolume() <= 0) {
                 itemFullyConsumedOrBroken = true;
@@ -596,10 +753,13 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
                 weightOfItemBeingRemoved = item.getWeight() / item.getQuantity(); // Weight of one unit from the stack
                 item.setQuantity(item.getQuantity() - 1);
                 currentWeight -= weightOfItemBeingRemoved;
+                inventoryIndex().changed(item, -1, -weightOfItemBeingRemoved);
                 logger.info("Decremented quantity of {}. New quantity: {}. Item remains.", item.getName(), item.getQuantity());
             } else {
                 // Item's last quantity was used OR a non-stackable (or last of stack) durable item broke.
+                InventoryIndex index = inventoryIndex();
                 inventory.removeValue(item, true);
+                index.removed(item, weightOfItemBeingRemoved);
                 currentWeight -= weightOfItemBeingRemoved; // Remove the full weight of the item instance
                 logger.info("Item {} (Last Qty before removal:{}, Dur:{}) removed from inventory after use.", item.getName(), item.getQuantity(), item.getDurability());
             }
@@ -617,7 +777,10 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
 
     @Override
     public void dropItem(Item item) {
-        if (item != null && inventory.removeValue(item, true)) {
+        if (item == null) return;
+        InventoryIndex index = inventoryIndex();
+        if (index.contains(item) && inventory.removeValue(item, true)) {
+            index.removed(item, item.getWeight());
             currentWeight -= item.getWeight();
             if (currentWeight < 0) currentWeight = 0;
             logger.info("{} dropped: {}", getName(), item.getName());
@@ -625,18 +788,14 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
     }
 
     /**
-     * Attempts to capture a fish from the provided list.
-     * @param fishes The list of Fish objects currently in the ambient.
+     * Attempts to capture a fish near the character.
+     * @param entities Entities on the map; the captured fish is removed from it.
      * @return true if a fish was successfully captured, false otherwise.
      */
-    public boolean tryCaptureFish(List<Fish> fishes) {
-        Weapon spear = null;
-        for (Item item : inventory) {
-            if (item instanceof Weapon && ("Spear".equalsIgnoreCase(item.getName()) || "Wooden Spear".equalsIgnoreCase(item.getName()) || "Stone Spear".equalsIgnoreCase(item.getName()))) {
-                spear = (Weapon) item;
-                break;
-            }
-        }
+    public boolean tryCaptureFish(EntityStore entities) {
+        Weapon spear = findItem("Spear", Weapon.class);
+        if (spear == null) spear = findItem("Wooden Spear", Weapon.class);
+        if (spear == null) spear = findItem("Stone Spear", Weapon.class);
 
         if (spear == null) {
             logger.info("{} has no spear to fish with.", getName());
@@ -648,45 +807,40 @@ public abstract class Character implements ICharacter, IInventory, UI { // Imple
             return false;
         }
 
-        Iterator<Fish> fishIterator = fishes.iterator();
-        while (fishIterator.hasNext()) {
-            Fish fish = fishIterator.next();
-            float distanceToFish = this.getPosition().dst(fish.getPosition());
-            float fishingRange = TILE_SIZE * 1.5f;
-
-            if (distanceToFish < fishingRange) {
-                if (random.nextFloat() < 0.70f) {
-                    logger.info("{} attempts to spear a fish...", getName());
-                    fishIterator.remove();
-
-                    Set<Item> drops = Fish.createDrops();
-                    for (Item drop : drops) {
-                        if (drop.getName().equalsIgnoreCase("Raw Fish")) {
-                            if (canCarryMore(drop.getWeight())) {
-                                insertItemInInventory(drop);
-                                logger.info("{} successfully speared a {} and obtained {}!", getName(), fish.getName(), drop.getName());
-
-                                spear.useItem();
-                                if (spear.getDurability() <= 0) {
-                                    dropItem(spear);
-                                    logger.info("The {} broke after fishing.", spear.getName());
-                                }
-                                return true; // Fish captured
-                            } else {
-                                logger.info("{} caught a fish, but cannot carry more weight for {}.", getName(), drop.getName());
-                                return false; // Failed due to inventory, but fish is gone.
+        float fishingRange = TILE_SIZE * 1.5f;
+        List<Fish> fishInRange = entities.queryRadius(getPosition().x, getPosition().y, fishingRange, Fish.class, new ArrayList<>());
+        for (Fish fish : fishInRange) {
+            if (getRandom().nextFloat() < 0.70f) {
+                logger.info("{} attempts to spear a fish...", getName());
+                entities.remove(fish);
+
+                Set<Item> drops = Fish.createDrops();
+                for (Item drop : drops) {
+                    if (drop.getName().equalsIgnoreCase("Raw Fish")) {
+                        if (canCarryMore(drop.getWeight())) {
+                            insertItemInInventory(drop);
+                            logger.info("{} successfully speared a {} and obtained {}!", getName(), fish.getName(), drop.getName());
+
+                            spear.useItem();
+                            if (spear.getDurability() <= 0) {
+                                dropItem(spear);
+                                logger.info("The {} broke after fishing.", spear.getName());
                             }
+                            return true; // Fish captured
+                        } else {
+                            logger.info("{} caught a fish, but cannot carry more weight for {}.", getName(), drop.getName());
+                            return false; // Failed due to inventory, but fish is gone.
                         }
                     }
-                } else {
-                    logger.info("{} tried to spear a fish but missed!", getName());
-                    spear.useItem(); // Spear durability decreases even on miss
-                    if (spear.getDurability() <= 0) {
-                        dropItem(spear);
-                        logger.info("The {} broke after a failed fishing attempt.", spear.getName());
-                    }
-                    return false; // Missed
                 }
+            } else {
+                logger.info("{} tried to spear a fish but missed!", getName());
+                spear.useItem(); // Spear durability decreases even on miss
+                if (spear.getDurability() <= 0) {
+                    dropItem(spear);
+                    logger.info("The {} broke after a failed fishing attempt.", spear.getName());
+                }
+                return false; // Missed
             }
         }
         logger.info("{} found no fish within range.", getName());
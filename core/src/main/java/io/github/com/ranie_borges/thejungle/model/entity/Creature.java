@@ -3,7 +3,9 @@ package io.github.com.ranie_borges.thejungle.model.entity;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import io.github.com.ranie_borges.thejungle.model.enums.Clime;
 import io.github.com.ranie_borges.thejungle.model.entity.interfaces.ICreature;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPositioned;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 
 
@@ -11,7 +13,11 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-public abstract class Creature implements ICreature {
+/**
+ * Base class for map creatures. Creatures are pooled across map regenerations
+ * (see ResourceController), so {@link #reset()} must return them to their spawn state.
+ */
+public abstract class Creature implements ICreature, IPositioned, Pool.Poolable {
     private String name;
     private String description;
     private float probability;
@@ -19,6 +25,8 @@ public abstract class Creature implements ICreature {
     private float damage;
     private Clime climeSpawn;
     private Set<Item> drops;
+    private final float spawnLifeRatio;
+    private final float spawnDamage;
 
     protected transient Map<String, Sprite> sprites; // Changed to protected and kept transient
 
@@ -41,8 +49,10 @@ public abstract class Creature implements ICreature {
         setDamage(damage);
         setClimeSpawn(climeSpawn);
         setDrops(drops != null ? new HashSet<>(drops) : new HashSet<>());
-        // Initialize sprites directly. reloadSprites() will be for post-deserialization.
-        this.sprites = sprites != null ? new HashMap<>(sprites) : new HashMap<>();
+        this.spawnLifeRatio = getLifeRatio();
+        this.spawnDamage = getDamage();
+        // Sprite maps come from CreatureSprites and are shared by every instance of a type
+        this.sprites = sprites != null ? sprites : new HashMap<>();
         if (this.sprites.isEmpty() && getClass() != Creature.class) {
             // This initial call to reloadSprites() might be redundant if subclasses'
             // createSprites() is comprehensive and always called by their constructors.
@@ -74,11 +84,11 @@ public abstract class Creature implements ICreature {
         int tileSize,
         Supplier<T> constructor,
         Ambient ambient,
-        Predicate<Ambient> canSpawnPredicate
+        Predicate<Ambient> canSpawnPredicate,
+        Random rand
     ) {
         List<T> creatures = new ArrayList<>();
         int tries = 0;
-        Random rand = new Random();
 
         if (!canSpawnPredicate.test(ambient)) {
             return creatures;
@@ -100,6 +110,16 @@ public abstract class Creature implements ICreature {
         return creatures;
     }
 
+    /**
+     * Restore the spawn state before the creature goes back to its pool
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        setLifeRatio(spawnLifeRatio);
+        setDamage(spawnDamage);
+    }
+
     public Vector2 getPosition() { return position; }
     public void setPosition(float x, float y) { this.position.set(x,y); }
     public Clime getClimeSpawn() { return climeSpawn; }
@@ -0,0 +1,168 @@
+package io.github.com.ranie_borges.thejungle.model.entity;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Locale;
+
+/**
+ * Lookup tables over a character's inventory: the stacks, total quantity and carried weight of
+ * each item name, so stacking, tool lookups and recipe checks do not scan the inventory.
+ * <p>
+ * Names are matched case-insensitively; the lowercase key of every name seen is cached, so
+ * lookups with the same strings do not allocate. The index is told about every change Character
+ * makes. Code that adds or removes items through {@link Character#getInventory()} directly, or
+ * replaces the array, is caught by {@link #ensureCurrent(Array)} and triggers a rebuild;
+ * quantities changed directly on an item are not, so go through Character for those.
+ * <p>
+ * Every change is reported to the owner's inventory listeners once the index is consistent again.
+ */
+final class InventoryIndex {
+    private final ObjectMap<String, String> keys = new ObjectMap<>();
+    private final ObjectMap<String, Array<Item>> stacksByName = new ObjectMap<>();
+    private final ObjectIntMap<String> quantities = new ObjectIntMap<>();
+    private final ObjectFloatMap<String> weights = new ObjectFloatMap<>();
+    private final Character owner;
+    private Array<Item> indexed;
+    private int indexedSize = -1;
+
+    InventoryIndex(Character owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Rebuild if the inventory was replaced or resized behind the index's back
+     */
+    void ensureCurrent(Array<Item> inventory) {
+        if (inventory != indexed || inventory.size != indexedSize) {
+            rebuild(inventory);
+        }
+    }
+
+    void rebuild(Array<Item> inventory) {
+        for (Array<Item> stacks : stacksByName.values()) {
+            stacks.clear();
+        }
+        quantities.clear();
+        weights.clear();
+        indexed = inventory;
+        indexedSize = inventory.size;
+        for (int i = 0; i < inventory.size; i++) {
+            Item item = inventory.get(i);
+            if (item != null) {
+                index(item, item.getWeight());
+            }
+        }
+        owner.fireInventoryReset();
+    }
+
+    /**
+     * An item was appended to the inventory
+     */
+    void added(Item item, float weight) {
+        indexedSize++;
+        owner.fireItemQuantityChanged(index(item, weight));
+    }
+
+    private String index(Item item, float weight) {
+        String key = keyOf(item.getName());
+        Array<Item> stacks = stacksByName.get(key);
+        if (stacks == null) {
+            stacks = new Array<>(2);
+            stacksByName.put(key, stacks);
+        }
+        stacks.add(item);
+        quantities.getAndIncrement(key, 0, item.getQuantity());
+        weights.getAndIncrement(key, 0f, weight);
+        return key;
+    }
+
+    /**
+     * An item was taken out of the inventory with its remaining quantity and weight
+     */
+    void removed(Item item, float weight) {
+        String key = keyOf(item.getName());
+        Array<Item> stacks = stacksByName.get(key);
+        if (stacks != null) {
+            stacks.removeValue(item, true);
+        }
+        indexedSize--;
+        changed(item, -item.getQuantity(), -weight);
+    }
+
+    /**
+     * An item still in the inventory changed quantity or weight
+     */
+    void changed(Item item, int quantityDelta, float weightDelta) {
+        String key = keyOf(item.getName());
+        quantities.getAndIncrement(key, 0, quantityDelta);
+        weights.put(key, Math.max(0f, weights.get(key, 0f) + weightDelta));
+        owner.fireItemQuantityChanged(key);
+    }
+
+    /**
+     * @return A stack the item can be merged into: same name and same class
+     */
+    Item findStack(Item item) {
+        Array<Item> stacks = stacksByName.get(keyOf(item.getName()));
+        if (stacks != null) {
+            for (int i = 0; i < stacks.size; i++) {
+                Item stack = stacks.get(i);
+                if (stack.getName().equals(item.getName()) && stack.getClass() == item.getClass()) {
+                    return stack;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The first item with that name that is an instance of type, or null
+     */
+    <T extends Item> T find(String name, Class<T> type) {
+        Array<Item> stacks = stacksByName.get(keyOf(name));
+        if (stacks != null) {
+            for (int i = 0; i < stacks.size; i++) {
+                Item stack = stacks.get(i);
+                if (type.isInstance(stack)) {
+                    return type.cast(stack);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The stacks with that name in insertion order; do not modify
+     */
+    Array<Item> stacksOf(String name) {
+        return stacksByName.get(keyOf(name));
+    }
+
+    boolean contains(Item item) {
+        Array<Item> stacks = stacksByName.get(keyOf(item.getName()));
+        return stacks != null && stacks.contains(item, true);
+    }
+
+    int quantityOf(String name) {
+        return quantities.get(keyOf(name), 0);
+    }
+
+    float weightOf(String name) {
+        return weights.get(keyOf(name), 0f);
+    }
+
+    private String keyOf(String name) {
+        if (name == null) {
+            return "";
+        }
+        String key = keys.get(name);
+        if (key == null) {
+            key = name.toLowerCase(Locale.ROOT);
+            keys.put(name, key);
+        }
+        return key;
+    }
+}
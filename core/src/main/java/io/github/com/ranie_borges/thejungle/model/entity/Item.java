@@ -3,15 +3,16 @@ package io.github.com.ranie_borges.thejungle.model.entity;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.google.gson.annotations.Expose;
 import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IItem;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPositioned;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.graphics.Texture; // Keep for getIconTexture
-import com.badlogic.gdx.Gdx; // Keep for Gdx.files in getIconTexture
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
-public abstract class Item implements IItem {
+public abstract class Item implements IItem, IPositioned {
     @Expose
     private String name;
     @Expose
@@ -82,31 +83,20 @@ public abstract class Item implements IItem {
         this.position.set(x, y);
     }
 
-    // ICON_CACHE is static and transient by nature of static for instance serialization
-    private static final transient Map<String, Texture> ICON_CACHE = new HashMap<>();
-
-    public Texture getIconTexture() {
+    /**
+     * Inventory icon for this item, looked up by name in {@code icons/} with {@code icons/default.png}
+     * as fallback. Regions come from the shared atlas when the icons are packed.
+     */
+    public TextureRegion getIconRegion() {
         if (getName() == null) return null; // Handle cases where item name might be null
         String iconKey = getName().toLowerCase().replace(" ", "_"); // Make key more filesystem-friendly
 
-        if (!ICON_CACHE.containsKey(iconKey)) {
-            Texture texture = null;
-            try {
-                texture = new Texture(Gdx.files.internal("icons/" + iconKey + ".png"));
-                ICON_CACHE.put(iconKey, texture);
-            } catch (Exception e) {
-                // Fallback if specific icon doesn't exist
-                try {
-                    texture = new Texture(Gdx.files.internal("icons/default.png"));
-                    ICON_CACHE.put(iconKey, texture); // Cache fallback for this key too
-                } catch (Exception e2) {
-                    System.err.println("Failed to load default icon: " + e2.getMessage());
-                    // If default is also missing, this will be problematic.
-                    // Consider returning a placeholder or handling it. For now, it might remain null.
-                }
-            }
+        TextureRegion region = TextureRegistry.getRegion("icons/" + iconKey + ".png");
+        if (region == null) {
+            // Fallback if specific icon doesn't exist
+            region = TextureRegistry.getRegion("icons/default.png");
         }
-        return ICON_CACHE.get(iconKey);
+        return region;
     }
 
     public int getQuantity() {
@@ -126,6 +116,18 @@ public abstract class Item implements IItem {
     public abstract void useItem();
     public abstract void dropItem();
 
+    /**
+     * @return A detached copy of the item's saved fields, e.g. for an autosave snapshot
+     */
+    public abstract Item copy();
+
+    // Copies the fields every item has onto a copy built by a subclass
+    protected <T extends Item> T copyCommonFields(T copy) {
+        copy.setQuantity(quantity);
+        copy.getPosition().set(position);
+        return copy;
+    }
+
     // Method to be called after deserialization to re-initialize transient fields
     // This is a placeholder; specific logic will depend on how sprites are managed (e.g., TextureManager)
     public void initializeTransientGraphics() {
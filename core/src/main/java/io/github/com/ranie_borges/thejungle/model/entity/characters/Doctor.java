@@ -22,6 +22,15 @@ public class Doctor extends Character {
         setInventoryInitialCapacity(10); // More space for medical supplies
     }
 
+    private Doctor(Doctor other) {
+        super(other);
+    }
+
+    @Override
+    public Doctor copy() {
+        return new Doctor(this);
+    }
+
     @Override
     public float getHealingEffectivenessModifier() {
         return 1.30f; // 30% more effective healing from items
@@ -49,7 +58,7 @@ public class Doctor extends Character {
     @Override
     public boolean avoidFight(boolean hasTraitLucky) {
         // Doctors might be less inclined or able to avoid fights through pure luck
-        boolean avoided = hasTraitLucky && Math.random() > 0.7; // Lower chance
+        boolean avoided = hasTraitLucky && getRandom().nextDouble() > 0.7; // Lower chance
         logger.info("{} (Doctor) {} the fight.", getName(), avoided ? "avoided" : "couldn't avoid");
         return avoided;
     }
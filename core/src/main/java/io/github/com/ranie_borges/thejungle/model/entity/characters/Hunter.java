@@ -22,6 +22,15 @@ public class Hunter extends Character {
         setInventoryInitialCapacity(5); // Less inventory, focused on hunt
     }
 
+    private Hunter(Hunter other) {
+        super(other);
+    }
+
+    @Override
+    public Hunter copy() {
+        return new Hunter(this);
+    }
+
     @Override
     public int getFoodWaterGatheringBonusQuantity() {
         // Hunters are better at finding food/water.
@@ -47,7 +56,7 @@ public class Hunter extends Character {
     @Override
     public boolean avoidFight(boolean hasTraitLucky) {
         // Hunters might be better at stealth or assessing situations
-        boolean avoided = hasTraitLucky && Math.random() > 0.3; // Higher chance
+        boolean avoided = hasTraitLucky && getRandom().nextDouble() > 0.3; // Higher chance
         logger.info("{} (Hunter) {} the fight.", getName(), avoided ? "skillfully avoided" : "engaged in");
         return avoided;
     }
@@ -23,6 +23,15 @@ public class Lumberjack extends Character {
         setInventoryInitialCapacity(8); // More space for wood/materials
     }
 
+    private Lumberjack(Lumberjack other) {
+        super(other);
+    }
+
+    @Override
+    public Lumberjack copy() {
+        return new Lumberjack(this);
+    }
+
     @Override
     public float getWoodCuttingYieldModifier() {
         return 1.5f; // Gets 50% more wood from trees
@@ -49,7 +58,7 @@ public class Lumberjack extends Character {
     @Override
     public boolean avoidFight(boolean hasTraitLucky) {
         // Lumberjacks might be less agile for avoiding fights
-        boolean avoided = hasTraitLucky && Math.random() > 0.8; // Lower chance
+        boolean avoided = hasTraitLucky && getRandom().nextDouble() > 0.8; // Lower chance
         logger.info("{} (Lumberjack) {} the fight.", getName(), avoided ? "managed to avoid" : "faced");
         return avoided;
     }
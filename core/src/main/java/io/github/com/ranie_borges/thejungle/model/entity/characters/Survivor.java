@@ -23,6 +23,15 @@ public class Survivor extends Character {
         logger.info("Survivor {} created. HungerMod: {}, ThirstMod: {}", name, getHungerDepletionModifier(), getThirstDepletionModifier());
     }
 
+    private Survivor(Survivor other) {
+        super(other);
+    }
+
+    @Override
+    public Survivor copy() {
+        return new Survivor(this);
+    }
+
     /**
      * Sobrevivente Nato: Menos impactado por fome e sede.
      * Returns a modifier for hunger depletion rate. 0.8f means 20% slower depletion.
@@ -56,7 +65,7 @@ public class Survivor extends Character {
 
     @Override
     public boolean avoidFight(boolean hasTraitLucky) {
-        boolean avoided = hasTraitLucky && Math.random() > 0.4;
+        boolean avoided = hasTraitLucky && getRandom().nextDouble() > 0.4;
         logger.info("{} {} the fight.", getName(), avoided ? "avoided" : "couldn't avoid");
         return avoided;
     }
@@ -1,7 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.entity.creatures;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 import io.github.com.ranie_borges.thejungle.model.entity.Creature;
@@ -9,8 +7,8 @@ import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.enums.Clime;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Cave; // Import Cave
+import io.github.com.ranie_borges.thejungle.view.helpers.CreatureSprites;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -45,13 +43,7 @@ public class Cannibal extends Creature {
     }
 
     private static Map<String, Sprite> createSprites() {
-        Map<String, Sprite> sprites = new HashMap<>();
-        try {
-            sprites.put("idle", new Sprite(new Texture(Gdx.files.internal("sprites/criaturas/canibal.png"))));
-        } catch (Exception e) {
-            System.err.println("Error loading Cannibal sprite: " + e.getMessage());
-        }
-        return sprites;
+        return CreatureSprites.idle("sprites/criaturas/canibal.png");
     }
 
     private static Set<Item> createDrops() {
@@ -1,15 +1,13 @@
 package io.github.com.ranie_borges.thejungle.model.entity.creatures;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import io.github.com.ranie_borges.thejungle.model.entity.Creature;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Food; // Assuming Raw Deer Meat is Food
 import io.github.com.ranie_borges.thejungle.model.enums.Clime;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.view.helpers.CreatureSprites;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -44,13 +42,7 @@ public class Deer extends Creature {
     }
 
     private static Map<String, Sprite> createSprites() {
-        Map<String, Sprite> sprites = new HashMap<>();
-        try {
-            sprites.put("idle", new Sprite(new Texture(Gdx.files.internal("sprites/criaturas/DeerIdle.png"))));
-        } catch (Exception e) {
-            System.err.println("Error loading Deer sprite: " + e.getMessage());
-        }
-        return sprites;
+        return CreatureSprites.idle("sprites/criaturas/DeerIdle.png");
     }
 
     private static Set<Item> createDrops() {
@@ -1,7 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.entity.creatures;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import io.github.com.ranie_borges.thejungle.model.entity.Creature;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
@@ -10,9 +8,9 @@ import io.github.com.ranie_borges.thejungle.model.enums.Clime;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Ruins;
+import io.github.com.ranie_borges.thejungle.view.helpers.CreatureSprites;
 
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -47,13 +45,7 @@ public class NPC extends Creature {
     }
 
     private static Map<String, Sprite> createSprites() {
-        Map<String, Sprite> sprites = new HashMap<>();
-        try {
-            sprites.put("idle", new Sprite(new Texture(Gdx.files.internal("sprites/npcs/npc3.png"))));
-        } catch (Exception e) {
-            System.err.println("Error loading fish sprite: " + e.getMessage());
-        }
-        return sprites;
+        return CreatureSprites.idle("sprites/npcs/npc3.png");
     }
 
     public static Set<Item> createDrops() {
@@ -1,7 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.entity.creatures;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import io.github.com.ranie_borges.thejungle.core.Main;
 import io.github.com.ranie_borges.thejungle.model.entity.Creature;
@@ -13,9 +11,9 @@ import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Mountain;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Ruins;
 import io.github.com.ranie_borges.thejungle.view.GameWinScreen;
+import io.github.com.ranie_borges.thejungle.view.helpers.CreatureSprites;
 
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -50,13 +48,7 @@ public class RadioGuy extends Creature {
     }
 
     private static Map<String, Sprite> createSprites() {
-        Map<String, Sprite> sprites = new HashMap<>();
-        try {
-            sprites.put("idle", new Sprite(new Texture(Gdx.files.internal("sprites/win/radio.png"))));
-        } catch (Exception e) {
-            System.err.println("Error loading radioguy sprite: " + e.getMessage());
-        }
-        return sprites;
+        return CreatureSprites.idle("sprites/win/radio.png");
     }
 
     public static Set<Item> createDrops() {
@@ -65,26 +57,7 @@ public class RadioGuy extends Creature {
     }
     public void interact(io.github.com.ranie_borges.thejungle.model.entity.Character player, Main game) {
         int coinsNeeded = 10;
-        int totalCoins = 0;
-        for (Item item : player.getInventory()) {
-            if (item.getName().equalsIgnoreCase("Coin")) {
-                totalCoins += item.getQuantity();
-            }
-        }
-        if (totalCoins >= coinsNeeded) {
-            int toRemove = coinsNeeded;
-            for (Item item : player.getInventory()) {
-                if (item.getName().equalsIgnoreCase("Coin")) {
-                    int qty = item.getQuantity();
-                    if (qty >= toRemove) {
-                        item.setQuantity(qty - toRemove);
-                        break;
-                    } else {
-                        toRemove -= qty;
-                        item.setQuantity(0);
-                    }
-                }
-            }
+        if (player.removeItemQuantity("Coin", coinsNeeded)) {
             game.setScreen(new GameWinScreen(game, ""));
         } else {
             System.out.println("Moedas insuficientes para usar a rádio!");
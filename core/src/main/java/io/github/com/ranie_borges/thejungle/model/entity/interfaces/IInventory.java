@@ -15,11 +15,12 @@ public interface IInventory {
     Array<Item> getInventory();
 
     /**
-     * Adds an item to the inventory
+     * Adds an item to the inventory, stacking it onto a carried stack of the same item if possible
      * 
      * @param item The item to add
+     * @return False, leaving the inventory unchanged, if there is no free slot or it is too heavy
      */
-    void insertItemInInventory(Item item);
+    boolean insertItemInInventory(Item item);
 
     /**
      * Gets an item from the inventory by index
@@ -36,6 +37,62 @@ public interface IInventory {
      */
     void dropItem(int index);
 
+    /**
+     * Registers a listener for changes to the inventory
+     * 
+     * @param listener The listener to add
+     */
+    void addInventoryListener(IInventoryListener listener);
+
+    /**
+     * Unregisters a listener
+     * 
+     * @param listener The listener to remove
+     */
+    void removeInventoryListener(IInventoryListener listener);
+
+    /**
+     * Finds a registered listener by type
+     * 
+     * @param type Class the listener must be an instance of
+     * @return The first matching listener, or null
+     */
+    <T extends IInventoryListener> T findInventoryListener(Class<T> type);
+
+    /**
+     * Gets the total quantity carried of an item, over all its stacks
+     * 
+     * @param itemName Name of the item, case-insensitive
+     * @return The quantity, 0 if none is carried
+     */
+    int getItemQuantity(String itemName);
+
+    /**
+     * Gets the weight carried of an item, over all its stacks
+     * 
+     * @param itemName Name of the item, case-insensitive
+     * @return The weight, 0 if none is carried
+     */
+    float getItemWeight(String itemName);
+
+    /**
+     * Finds an item in the inventory
+     * 
+     * @param itemName Name of the item, case-insensitive
+     * @param type Class the item must be an instance of
+     * @return The first matching item, or null
+     */
+    <T extends Item> T findItem(String itemName, Class<T> type);
+
+    /**
+     * Removes a quantity of an item, taking from the oldest stacks first
+     * 
+     * @param itemName Name of the item, case-insensitive
+     * @param amount Quantity to remove
+     * @return False, leaving the inventory unchanged, if not enough is carried
+     */
+    boolean removeItemQuantity(String itemName, int amount);
+
     /**
      * Drops a specific item from inventory
      * 
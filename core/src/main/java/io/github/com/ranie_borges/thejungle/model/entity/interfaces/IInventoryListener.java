@@ -0,0 +1,21 @@
+package io.github.com.ranie_borges.thejungle.model.entity.interfaces;
+
+/**
+ * Interface for code that follows changes to an inventory
+ */
+public interface IInventoryListener {
+    /**
+     * Called after the carried quantity of an item changed
+     * 
+     * @param inventory The inventory that changed
+     * @param itemName Name of the item, lowercase
+     */
+    void onItemQuantityChanged(IInventory inventory, String itemName);
+
+    /**
+     * Called after the inventory was rebuilt or replaced, so any item may have changed
+     * 
+     * @param inventory The inventory that changed
+     */
+    void onInventoryReset(IInventory inventory);
+}
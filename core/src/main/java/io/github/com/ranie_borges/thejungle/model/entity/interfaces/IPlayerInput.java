@@ -0,0 +1,18 @@
+package io.github.com.ranie_borges.thejungle.model.entity.interfaces;
+
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
+
+/**
+ * Source of player actions for the current frame, so the simulation does not read Gdx.input
+ */
+public interface IPlayerInput {
+    /**
+     * @return true while the action is held, e.g. a movement key
+     */
+    boolean isHeld(PlayerAction action);
+
+    /**
+     * @return true only on the frame the action started
+     */
+    boolean isJustPressed(PlayerAction action);
+}
@@ -0,0 +1,10 @@
+package io.github.com.ranie_borges.thejungle.model.entity.interfaces;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Anything placed on the map, in world pixels (bottom-left corner of its tile)
+ */
+public interface IPositioned {
+    Vector2 getPosition();
+}
@@ -2,18 +2,23 @@ package io.github.com.ranie_borges.thejungle.model.entity.itens;
 
 import com.google.gson.annotations.Expose;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a drinkable resource collected directly from the environment.
  * Drinking may restore thirst, but also risks contamination and health loss.
  */
 public class Drinkable extends Item {
+    private static final Logger logger = LoggerFactory.getLogger(Drinkable.class);
+
     @Expose
     private boolean potable;
     @Expose
     private float volume;
-    private static final Random random = new Random();
 
     public Drinkable(String name, float weight, float durability, boolean potable, float volume) {
         super(name, weight, durability);
@@ -23,32 +28,39 @@ public class Drinkable extends Item {
 
     @Override
     public void useItem() {
+        useItem(ThreadLocalRandom.current());
+    }
+
+    /**
+     * @param random Random of the playthrough the water is drunk in
+     */
+    public void useItem(Random random) {
         if (volume <= 0) {
-            System.out.println(getName() + " secou, não há mais nada para beber.");
+            logger.debug("{} secou, não há mais nada para beber.", getName());
             return;
         }
 
         int amountDrunk = random.nextInt(3) + 1;
         amountDrunk = Math.min(amountDrunk, (int) volume);
 
-        System.out.println("Você bebeu " + amountDrunk + " unidades de " + getName() + ".");
+        logger.debug("Você bebeu {} unidades de {}.", amountDrunk, getName());
 
         volume = Math.max(0, volume - amountDrunk);
         setDurability(getDurability() - amountDrunk);
 
         if (!potable || random.nextInt(100) < 20) {
             int healthLoss = random.nextInt(6) + 5;
-            System.out.println("A água estava contaminada! Você perdeu " + healthLoss + " pontos de vida.");
+            logger.debug("A água estava contaminada! Você perdeu {} pontos de vida.", healthLoss);
             // Aplicar dano no personagem
         } else {
-            System.out.println("A água estava limpa. Sede saciada!");
+            logger.debug("A água estava limpa. Sede saciada!");
             // Recuperar sede do personagem
         }
     }
 
     @Override
     public void dropItem() {
-        System.out.println("Você derramou " + getName() + " no chão.");
+        logger.info("Você derramou {} no chão.", getName());
     }
 
     public boolean isPotable() {
@@ -66,4 +78,9 @@ public class Drinkable extends Item {
     public void setVolume(float volume) {
         this.volume = Math.max(0, volume);
     }
+
+    @Override
+    public Drinkable copy() {
+        return copyCommonFields(new Drinkable(getName(), getWeight(), getDurability(), potable, volume));
+    }
 }
@@ -2,13 +2,19 @@ package io.github.com.ranie_borges.thejungle.model.entity.itens;
 
 import com.google.gson.annotations.Expose;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents food that can be consumed to restore hunger
  * but may cause food poisoning if spoiled
  */
 public class Food extends Item {
+    private static final Logger logger = LoggerFactory.getLogger(Food.class);
+
     @Expose
     private final int nutritionalValue;
     @Expose
@@ -18,8 +24,6 @@ public class Food extends Item {
     @Expose
     private boolean spoiled;
 
-    private static final Random random = new Random();
-
     public Food(String name, float weight, float durability, int nutritionalValue, String type, int shelfLife) {
         super(name, weight, durability);
         this.nutritionalValue = Math.max(0, nutritionalValue);
@@ -38,15 +42,22 @@ public class Food extends Item {
      */
     @Override
     public void useItem() {
+        useItem(ThreadLocalRandom.current());
+    }
+
+    /**
+     * @param random Random of the playthrough the food is eaten in
+     */
+    public void useItem(Random random) {
         if (shelfLife <= 0) {
             spoiled = true;
         }
 
         if (spoiled || random.nextInt(100) < 10) { // 10% de chance de intoxicar mesmo se não estragado
-            System.out.println("Você comeu " + getName() + " e ficou intoxicado!");
+            logger.debug("Você comeu {} e ficou intoxicado!", getName());
             // Aqui você poderia aplicar penalidade de vida ou sanidade
         } else {
-            System.out.println("Você comeu " + getName() + " e recuperou " + nutritionalValue + " pontos de fome!");
+            logger.debug("Você comeu {} e recuperou {} pontos de fome!", getName(), nutritionalValue);
             // Aqui você poderia aumentar o valor de fome do personagem
         }
     }
@@ -56,7 +67,7 @@ public class Food extends Item {
      */
     @Override
     public void dropItem() {
-        System.out.println("Você deixou cair " + getName() + " no chão.");
+        logger.info("Você deixou cair {} no chão.", getName());
     }
 
     // Atualiza o prazo de validade a cada turno
@@ -101,4 +112,11 @@ public class Food extends Item {
     public String getFoodType() {
         return type;
     }
+
+    @Override
+    public Food copy() {
+        Food copy = new Food(getName(), getWeight(), getDurability(), nutritionalValue, type, shelfLife);
+        copy.spoiled = spoiled;
+        return copyCommonFields(copy);
+    }
 }
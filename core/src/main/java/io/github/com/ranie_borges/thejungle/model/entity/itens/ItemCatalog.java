@@ -0,0 +1,60 @@
+package io.github.com.ranie_borges.thejungle.model.entity.itens;
+
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Factories of the standard items by name, so data files such as the recipe list can refer to
+ * items without code. Names are case-insensitive; a type (Tool, Weapon, ...) picks between items
+ * that share a name, such as the Knife tool and the Knife weapon.
+ */
+public final class ItemCatalog {
+    private static final Map<String, Supplier<? extends Item>> byTypeAndName = new HashMap<>();
+    private static final Map<String, Supplier<? extends Item>> byName = new HashMap<>();
+
+    static {
+        register("Material", "rock", Material::createSmallRock);
+        register("Material", "wood", Material::createWoodLog);
+        register("Material", "stick", Material::createStick);
+        register("Material", "Medicinal", Material::createMedicinalPlant);
+        register("Material", "Coin", Material::createCoin);
+        register("Food", "Berry", Food::createBerry);
+        register("Tool", "Axe", Tool::createAxe);
+        register("Tool", "Knife", Tool::createKnife);
+        register("Tool", "Lighter", Tool::createLighter);
+        register("Weapon", "Wooden Spear", Weapon::createWoodenSpear);
+        register("Weapon", "Stone Spear", Weapon::createStoneSpear);
+        register("Weapon", "Knife", Weapon::createKnife);
+        register("Medicine", "Bandage", Medicine::createBandage);
+        register("Medicine", "Medicinal Ointment", Medicine::createMedicinalOintment);
+        register("Medicine", "Antibiotic", Medicine::createAntibiotic);
+    }
+
+    private ItemCatalog() {
+    }
+
+    private static void register(String type, String name, Supplier<? extends Item> factory) {
+        byTypeAndName.put(key(type, name), factory);
+        byName.putIfAbsent(name.toLowerCase(Locale.ROOT), factory);
+    }
+
+    private static String key(String type, String name) {
+        return type.toLowerCase(Locale.ROOT) + ':' + name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param type Item type, or null for the first item registered with that name
+     * @param name Item name
+     * @return The factory, or null if no such item exists
+     */
+    public static Supplier<? extends Item> factory(String type, String name) {
+        if (name == null) {
+            return null;
+        }
+        return type != null ? byTypeAndName.get(key(type, name)) : byName.get(name.toLowerCase(Locale.ROOT));
+    }
+}
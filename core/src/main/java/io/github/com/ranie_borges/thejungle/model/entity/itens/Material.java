@@ -2,7 +2,7 @@ package io.github.com.ranie_borges.thejungle.model.entity.itens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 // Removed Vector2 import as position is inherited from Item
 import com.google.gson.annotations.Expose;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
@@ -86,9 +86,9 @@ public class Material extends Item {
         }
 
         if (texturePath != null) {
-            Texture texture = textureManager.getOrLoadTexture(texturePath);
-            if (texture != null) {
-                newSprites.put("idle", new Sprite(texture));
+            TextureRegion region = textureManager.getRegion(texturePath);
+            if (region != null) {
+                newSprites.put("idle", new Sprite(region));
                 logger.info("Successfully initialized sprite for '{}' using path '{}'", getName(), texturePath);
             } else {
                 logger.error("TextureManager returned null for path '{}' for material '{}'. Sprite not created.", texturePath, getName());
@@ -97,9 +97,9 @@ public class Material extends Item {
 
         if (newSprites.isEmpty()) {
             logger.warn("No specific texture loaded for '{}'. Attempting to use generic icon texture as fallback.", getName());
-            Texture iconTex = getIconTexture(); // This method tries "icons/" + name + ".png" then "icons/default.png"
-            if (iconTex != null) {
-                newSprites.put("idle", new Sprite(iconTex));
+            TextureRegion iconRegion = getIconRegion(); // This method tries "icons/" + name + ".png" then "icons/default.png"
+            if (iconRegion != null) {
+                newSprites.put("idle", new Sprite(iconRegion));
                 logger.info("Using icon texture as fallback sprite for material: {}", getName());
             } else {
                 logger.error("CRITICAL: No visual (specific or icon) could be loaded for material: {}", getName());
@@ -110,9 +110,9 @@ public class Material extends Item {
     }
 
     @Override
-    public void useItem() { System.out.println("Você está usando o material: " + getName() + " do tipo " + type + "."); }
+    public void useItem() { logger.debug("Você está usando o material: {} do tipo {}.", getName(), type); }
     @Override
-    public void dropItem() { System.out.println("Você deixou cair o material: " + getName() + "."); }
+    public void dropItem() { logger.info("Você deixou cair o material: {}.", getName()); }
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
     public float getResistance() { return resistance; }
@@ -126,22 +126,21 @@ public class Material extends Item {
     public static Material createBerryBush() { return new Material("Berry", 0.2f, 1.0f, "Berry", 0.2f); }
     public static Material createCoin() { return new Material("Coin", 0.05f, 1.0f, "Currency", 0.1f); }
 
-    public static List<Material> spawnSmallRocks(int q, int[][] m, int mW, int mH, int tC, int tS) { return spawnGeneric(q,m,mW,mH,tC,tS, Material::createSmallRock); }
-    public static List<Material> spawnSticksAndRocks(int q, int[][] m, int mW, int mH, int tG, int tS) {
+    public static List<Material> spawnSmallRocks(int q, int[][] m, int mW, int mH, int tC, int tS, Random rand) { return spawnGeneric(q,m,mW,mH,tC,tS, Material::createSmallRock, rand); }
+    public static List<Material> spawnSticksAndRocks(int q, int[][] m, int mW, int mH, int tG, int tS, Random rand) {
         List<Material> mats = new ArrayList<>();
-        Random rand = new Random();
-        for(int i=0; i<q/2; i++) mats.addAll(spawnGeneric(1,m,mW,mH,tG,tS, Material::createStick));
-        for(int i=0; i<q/2 + q%2; i++) mats.addAll(spawnGeneric(1,m,mW,mH,tG,tS, Material::createSmallRock));
+        for(int i=0; i<q/2; i++) mats.addAll(spawnGeneric(1,m,mW,mH,tG,tS, Material::createStick, rand));
+        for(int i=0; i<q/2 + q%2; i++) mats.addAll(spawnGeneric(1,m,mW,mH,tG,tS, Material::createSmallRock, rand));
         return mats;
     }
-    public static List<Material> spawnTrees(int q, int[][] m, int mW, int mH, int tG, int tS) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createTree); }
-    public static List<Material> spawnMedicinalPlants(int q, int[][] m, int mW, int mH, int tG, int tS) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createMedicinalPlant); }
-    public static List<Material> spawnBerryBushes(int q, int[][] m, int mW, int mH, int tG, int tS) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createBerryBush); }
-    public static List<Material> spawnCoins(int q, int[][] m, int mW, int mH, int tG, int tS) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createCoin); }
+    public static List<Material> spawnTrees(int q, int[][] m, int mW, int mH, int tG, int tS, Random rand) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createTree, rand); }
+    public static List<Material> spawnMedicinalPlants(int q, int[][] m, int mW, int mH, int tG, int tS, Random rand) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createMedicinalPlant, rand); }
+    public static List<Material> spawnBerryBushes(int q, int[][] m, int mW, int mH, int tG, int tS, Random rand) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createBerryBush, rand); }
+    public static List<Material> spawnCoins(int q, int[][] m, int mW, int mH, int tG, int tS, Random rand) { return spawnGeneric(q,m,mW,mH,tG,tS, Material::createCoin, rand); }
     private static List<Material> spawnGeneric(int quantidade, int[][] mapa, int mapWidth, int mapHeight,
-                                               int validTile, int tileSize, java.util.function.Supplier<Material> constructor) {
+                                               int validTile, int tileSize, java.util.function.Supplier<Material> constructor,
+                                               Random rand) {
         List<Material> materiais = new ArrayList<>();
-        Random rand = new Random();
         int gerados = 0;
         int tentativas = 0;
         while (gerados < quantidade && tentativas < (quantidade * 100)) { // More reasonable attempt limit
@@ -158,4 +157,9 @@ public class Material extends Item {
         if (gerados < quantidade) logger.warn("Could only spawn {}/{} of {} due to attempts limit or no valid tiles.", gerados, quantidade, "generic material");
         return materiais;
     }
+
+    @Override
+    public Material copy() {
+        return copyCommonFields(new Material(getName(), getWeight(), getDurability(), type, resistance));
+    }
 }
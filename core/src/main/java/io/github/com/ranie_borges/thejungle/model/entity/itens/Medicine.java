@@ -1,14 +1,15 @@
 package io.github.com.ranie_borges.thejungle.model.entity.itens;
 
+import io.github.com.ranie_borges.thejungle.core.LogThrottle;
 import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.google.gson.annotations.Expose;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,7 +19,10 @@ import org.slf4j.LoggerFactory;
 public class Medicine extends Item {
 
     private static final Logger logger = LoggerFactory.getLogger(Medicine.class);
-    private static Texture bgHud = null; // Initialize lazily or ensure loaded before use
+    // Loaded on first render through TextureRegistry, so medicine can be created without a GL context
+    private static final String BG_HUD_PATH = "GameScreen/boxhud.png";
+    // renderUseOption runs every frame while the prompt is shown
+    private static final LogThrottle missingHudLog = LogThrottle.everyMillis(5000);
 
     @Expose
     private double healRatio;
@@ -26,14 +30,6 @@ public class Medicine extends Item {
     public Medicine(String name, float weight, float durability, double healRatio) {
         super(name, weight, durability);
         setHealRatio(healRatio);
-        if (bgHud == null) { // Lazy initialization
-            try {
-                bgHud = new Texture(Gdx.files.internal("GameScreen/boxhud.png"));
-            } catch (Exception e) {
-                logger.error("Failed to load boxhud.png for Medicine class", e);
-                // Handle error, maybe use a placeholder or log that UI will be affected
-            }
-        }
     }
 
     public static Medicine fromMedicinalPlant(Material plant) {
@@ -89,8 +85,11 @@ public class Medicine extends Item {
             || !"Medicinal".equalsIgnoreCase(plant.getName()))
             return;
 
+        Texture bgHud = TextureRegistry.get(BG_HUD_PATH);
         if (bgHud == null) { // If texture failed to load, can't render this prompt
-            logger.warn("bgHud texture is null in Medicine.renderUseOption, skipping render.");
+            if (missingHudLog.tryAcquire()) {
+                logger.warn("bgHud texture is null in Medicine.renderUseOption, skipping render ({} similar messages suppressed).", missingHudLog.drainSuppressed());
+            }
             return;
         }
 
@@ -110,4 +109,9 @@ public class Medicine extends Item {
         font.dispose();
         batch.end(); // Added batch.end()
     }
+
+    @Override
+    public Medicine copy() {
+        return copyCommonFields(new Medicine(getName(), getWeight(), getDurability(), healRatio));
+    }
 }
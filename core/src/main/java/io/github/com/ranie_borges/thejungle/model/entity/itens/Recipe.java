@@ -1,22 +1,49 @@
 package io.github.com.ranie_borges.thejungle.model.entity.itens;
 
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IInventory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Supplier;
 
+/**
+ * A crafting recipe: the ingredients it consumes, the tools that must be carried but are kept,
+ * and the items it produces. Ingredient and tool names are stored lowercase.
+ */
 public class Recipe {
 
     private final String name;
     private final Map<String, Integer> requiredItems;
-    private final Supplier<Item> resultSupplier;
+    private final List<String> requiredTools;
+    private final List<Supplier<Item>> outputs;
 
     public Recipe(String name, Map<String, Integer> requiredItems, Supplier<Item> resultSupplier) {
+        this(name, requiredItems, Collections.emptyList(), List.of(resultSupplier));
+    }
+
+    /**
+     * @param requiredTools Names of items that must be carried; they are not consumed
+     * @param outputs Factories of the crafted items, in order; at least one
+     */
+    public Recipe(String name, Map<String, Integer> requiredItems, List<String> requiredTools, List<Supplier<Item>> outputs) {
+        if (outputs == null || outputs.isEmpty()) {
+            throw new IllegalArgumentException("Recipe " + name + " has no outputs");
+        }
         this.name = name;
-        this.requiredItems = requiredItems;
-        this.resultSupplier = resultSupplier;
+        Map<String, Integer> items = new HashMap<>();
+        requiredItems.forEach((item, amount) -> items.merge(item.toLowerCase(Locale.ROOT), amount, Integer::sum));
+        this.requiredItems = Collections.unmodifiableMap(items);
+        List<String> tools = new ArrayList<>();
+        for (String tool : requiredTools) {
+            tools.add(tool.toLowerCase(Locale.ROOT));
+        }
+        this.requiredTools = Collections.unmodifiableList(tools);
+        this.outputs = List.copyOf(outputs);
     }
 
     public boolean matches(List<Item> items) {
@@ -32,12 +59,45 @@ public class Recipe {
                 return false;
             }
         }
+        for (String tool : requiredTools) {
+            if (available.getOrDefault(tool, 0) < 1) {
+                return false;
+            }
+        }
 
         return true;
     }
 
+    /**
+     * Check against an inventory's per-name quantities, without scanning its items
+     */
+    public boolean matches(IInventory inventory) {
+        for (Map.Entry<String, Integer> req : requiredItems.entrySet()) {
+            if (inventory.getItemQuantity(req.getKey()) < req.getValue()) {
+                return false;
+            }
+        }
+        for (int i = 0; i < requiredTools.size(); i++) {
+            if (inventory.getItemQuantity(requiredTools.get(i)) < 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The first output; see {@link #craftAll()} for recipes with several
+     */
     public Item craft() {
-        return resultSupplier.get();
+        return outputs.get(0).get();
+    }
+
+    public List<Item> craftAll() {
+        List<Item> crafted = new ArrayList<>(outputs.size());
+        for (Supplier<Item> output : outputs) {
+            crafted.add(output.get());
+        }
+        return crafted;
     }
 
     public String getResultName() {
@@ -47,4 +107,8 @@ public class Recipe {
     public Map<String, Integer> getRequiredItems() {
         return requiredItems;
     }
+
+    public List<String> getRequiredTools() {
+        return requiredTools;
+    }
 }
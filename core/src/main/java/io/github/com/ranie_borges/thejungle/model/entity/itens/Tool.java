@@ -100,4 +100,9 @@ public class Tool extends Item {
     public static Tool createLighter() {
         return new Tool("Lighter", 0.2f, 0.5f, 0.0f, 2.0f);
     }
+
+    @Override
+    public Tool copy() {
+        return copyCommonFields(new Tool(getName(), getWeight(), getDurability(), workPower, usageSpeed));
+    }
 }
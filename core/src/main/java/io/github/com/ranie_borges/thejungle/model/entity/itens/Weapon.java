@@ -94,4 +94,9 @@ public class Weapon extends Item {
     public static Weapon createKnife() {
         return new Weapon("Knife", 0.8f, 0.9f, 5.0f, 1.5f);
     }
+
+    @Override
+    public Weapon copy() {
+        return copyCommonFields(new Weapon(getName(), getWeight(), getDurability(), damage, attackSpeed));
+    }
 }
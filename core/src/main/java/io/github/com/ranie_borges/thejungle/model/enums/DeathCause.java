@@ -0,0 +1,12 @@
+package io.github.com.ranie_borges.thejungle.model.enums;
+
+/**
+ * What took the character's last point of life, as tracked by the simulation
+ */
+public enum DeathCause {
+    STARVATION,
+    DEHYDRATION,
+    NEGLECT,
+    EVENT,
+    OTHER
+}
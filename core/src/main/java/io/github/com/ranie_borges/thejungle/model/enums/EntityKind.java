@@ -0,0 +1,42 @@
+package io.github.com.ranie_borges.thejungle.model.enums;
+
+import io.github.com.ranie_borges.thejungle.model.entity.creatures.*;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPositioned;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+
+/**
+ * Kind of an entity placed on the map, with the size its sprite is drawn at
+ */
+public enum EntityKind {
+    MATERIAL(32f),
+    DEER(50f),
+    CANNIBAL(40f),
+    FISH(30f),
+    NPC(40f),
+    BOAT(50f),
+    RADIO_GUY(50f);
+
+    private final float drawSize;
+
+    EntityKind(float drawSize) {
+        this.drawSize = drawSize;
+    }
+
+    public float getDrawSize() {
+        return drawSize;
+    }
+
+    /**
+     * @return The kind of an entity, or null if it cannot be placed on the map
+     */
+    public static EntityKind of(IPositioned entity) {
+        if (entity instanceof Material) return MATERIAL;
+        if (entity instanceof Deer) return DEER;
+        if (entity instanceof Cannibal) return CANNIBAL;
+        if (entity instanceof Fish) return FISH;
+        if (entity instanceof io.github.com.ranie_borges.thejungle.model.entity.creatures.NPC) return NPC;
+        if (entity instanceof Boat) return BOAT;
+        if (entity instanceof RadioGuy) return RADIO_GUY;
+        return null;
+    }
+}
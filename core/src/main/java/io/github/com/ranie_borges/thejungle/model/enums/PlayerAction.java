@@ -0,0 +1,15 @@
+package io.github.com.ranie_borges.thejungle.model.enums;
+
+/**
+ * Inputs the simulation reacts to, independent of where they come from (keyboard or a script)
+ */
+public enum PlayerAction {
+    MOVE_UP,
+    MOVE_DOWN,
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    INTERACT,
+    FISH,
+    CONFIRM,
+    TOGGLE_INVENTORY
+}
@@ -6,8 +6,12 @@ import io.github.com.ranie_borges.thejungle.model.events.interfaces.IEvent;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Event implements IEvent {
+    // Bumped whenever any event is enabled or disabled, so cached event samplers know to rebuild
+    private static final AtomicInteger availabilityVersion = new AtomicInteger();
+
     private String name;
     private String description;
     private float probability;
@@ -63,6 +67,16 @@ public abstract class Event implements IEvent {
     }
 
     public void setPossible(boolean possible) {
-        this.isActivatable = possible;
+        if (this.isActivatable != possible) {
+            this.isActivatable = possible;
+            availabilityVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Changes every time an event is enabled or disabled
+     */
+    public static int getAvailabilityVersion() {
+        return availabilityVersion.get();
     }
 }
@@ -6,19 +6,24 @@ import io.github.com.ranie_borges.thejungle.model.entity.creatures.Boat;
 import io.github.com.ranie_borges.thejungle.model.entity.creatures.NPC;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Ruins;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
 public class BoatMan {
-    private static final Random random = new Random();
     private static final float EVENT_PROBABILITY = 0.01f;// probability of the event occurring
 
-    public static void triggerEvent(LakeRiver lakeriver, SpriteBatch batch) {
+    /**
+     * @param random Random of the playthrough
+     */
+    public static void triggerEvent(LakeRiver lakeriver, SpriteBatch batch, Random random) {
         if (random.nextFloat() < EVENT_PROBABILITY) {
             Boat.talk();
 
-            Texture BoatTexture = new Texture(Gdx.files.internal("sprites/npcs/npc3.png"));
+            TextureRegion BoatTexture = TextureRegistry.getRegion("sprites/npcs/npc3.png");
+            if (BoatTexture == null) {
+                return;
+            }
 
             int spawnX = 50 + random.nextInt(201);
             int spawnY = 50 + random.nextInt(201);
@@ -26,8 +31,6 @@ public class BoatMan {
             batch.begin();
             batch.draw(BoatTexture, spawnX, spawnY, 64, 64);
             batch.end();
-
-            BoatTexture.dispose();
         }
     }
 }
@@ -1,32 +1,45 @@
 package io.github.com.ranie_borges.thejungle.model.events.events;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPlayerInput;
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
+/**
+ * Snake bite alert of one game. Each game owns its own instance, through its
+ * {@link io.github.com.ranie_borges.thejungle.controller.managers.CharacterManager}, so games
+ * simulated side by side never see each other's alert or cooldown.
+ */
 public class SnakeEventManager {
-    private static boolean showAlert = false;
-    private static boolean waitForSpace = false;
-    private static float timer = 0f;
+    private static final String SNAKE_BITE_IMAGE_PATH = "sprites/criaturas/snakeBite.png";
+    private static final String SNAKE_HISS_SOUND_PATH = "sounds/snakeHiss.mp3";
     private static final float DURATION = 3f;
-    private static final Texture snakeBiteImage = new Texture(Gdx.files.internal("sprites/criaturas/snakeBite.png"));
-    private static final Sound snakeHissSound = Gdx.audio.newSound(Gdx.files.internal("sounds/snakeHiss.mp3"));
-    private static float biteCooldown = 0f;
     private static final float BITE_COOLDOWN_DURATION = 5f;
 
-    public static void triggerSnakeBite() {
+    private boolean showAlert = false;
+    private boolean waitForSpace = false;
+    private float timer = 0f;
+    // Loaded on first use, so the event logic also runs without a GL context or audio device
+    private Sound snakeHissSound;
+    private float biteCooldown = 0f;
+
+    public void triggerSnakeBite() {
         if (biteCooldown > 0) return;
 
         showAlert = true;
         waitForSpace = true;
         timer = 0f;
         biteCooldown = BITE_COOLDOWN_DURATION;
-        snakeHissSound.play(0.8f);
+        Sound hiss = getSnakeHissSound();
+        if (hiss != null) {
+            hiss.play(0.8f);
+        }
     }
 
 
-    public static void update(float delta) {
+    public void update(float delta) {
         if (biteCooldown > 0) {
             biteCooldown -= delta;
             if (biteCooldown < 0) biteCooldown = 0;
@@ -41,27 +54,36 @@ public class SnakeEventManager {
     }
 
 
-    public static void handleInput() {
-        if (waitForSpace && Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+    public void handleInput(IPlayerInput input) {
+        if (waitForSpace && input.isJustPressed(PlayerAction.CONFIRM)) {
             waitForSpace = false;
             showAlert = false;
         }
     }
 
-    public static boolean isAlertActive() {
+    public boolean isAlertActive() {
         return showAlert;
     }
 
-    public static boolean isWaitingForSpace() {
+    public boolean isWaitingForSpace() {
         return waitForSpace;
     }
 
     public static Texture getSnakeBiteImage() {
-        return snakeBiteImage;
+        return TextureRegistry.get(SNAKE_BITE_IMAGE_PATH);
+    }
+
+    private Sound getSnakeHissSound() {
+        if (snakeHissSound == null) {
+            snakeHissSound = GameAssets.sound(SNAKE_HISS_SOUND_PATH);
+        }
+        return snakeHissSound;
     }
 
-    public static void dispose() {
-        snakeBiteImage.dispose();
-        snakeHissSound.dispose();
+    /**
+     * Drop the hiss sound; it is owned by {@link GameAssets}
+     */
+    public void dispose() {
+        snakeHissSound = null;
     }
 }
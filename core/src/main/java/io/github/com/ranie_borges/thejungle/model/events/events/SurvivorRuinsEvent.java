@@ -3,19 +3,24 @@ package io.github.com.ranie_borges.thejungle.model.events.events;
 import java.util.Random;
 import io.github.com.ranie_borges.thejungle.model.entity.creatures.NPC;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Ruins;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
 public class SurvivorRuinsEvent {
-    private static final Random random = new Random();
     private static final float EVENT_PROBABILITY = 0.01f;
 
-    public static void triggerEvent(Ruins ruins, SpriteBatch batch) {
+    /**
+     * @param random Random of the playthrough
+     */
+    public static void triggerEvent(Ruins ruins, SpriteBatch batch, Random random) {
         if (random.nextFloat() < EVENT_PROBABILITY) {
             NPC.talk();
 
-            Texture survivorTexture = new Texture(Gdx.files.internal("sprites/npcs/npc3.png"));
+            TextureRegion survivorTexture = TextureRegistry.getRegion("sprites/npcs/npc3.png");
+            if (survivorTexture == null) {
+                return;
+            }
 
             int spawnX = 50 + random.nextInt(201);
             int spawnY = 50 + random.nextInt(201);
@@ -23,8 +28,6 @@ public class SurvivorRuinsEvent {
             batch.begin();
             batch.draw(survivorTexture, spawnX, spawnY, 64, 64);
             batch.end();
-
-            survivorTexture.dispose();
         }
     }
 }
@@ -31,6 +31,39 @@ public class AmbientData {
         this.remainingResources = new ArrayList<>();
     }
 
+    /**
+     * Copy used for save snapshots. The tile map is deep-copied so the copy stays
+     * stable while the original keeps being edited by the game.
+     *
+     * @param other The ambient data to copy
+     * @return A detached copy
+     */
+    public static AmbientData copyOf(AmbientData other) {
+        AmbientData copy = new AmbientData(copyMap(other.map));
+        copy.visitCount = other.visitCount;
+        if (other.remainingResources != null) {
+            copy.remainingResources = new ArrayList<>(other.remainingResources);
+        }
+        return copy;
+    }
+
+    /**
+     * Deep-copies a tile map row by row
+     *
+     * @param map The map to copy, may be null
+     * @return A new array with the same contents, or null
+     */
+    public static int[][] copyMap(int[][] map) {
+        if (map == null) {
+            return null;
+        }
+        int[][] copy = new int[map.length][];
+        for (int y = 0; y < map.length; y++) {
+            copy[y] = map[y] != null ? map[y].clone() : null;
+        }
+        return copy;
+    }
+
     public int[][] getMap() {
         return map;
     }
@@ -10,12 +10,14 @@ import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.events.Event;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * Represents the current state of the game that can be saved and loaded
@@ -51,6 +53,16 @@ public class GameState {
     private AmbientController ambientController;
     private ChatController chatController; // New: ChatController field
 
+    // Root seed of the playthrough and number of maps generated from it, see WorldSeed
+    @Expose
+    private long worldSeed;
+
+    @Expose
+    private int mapVisitIndex;
+
+    // Chances rolled while playing, derived from the world seed on first use
+    private Random random;
+
     @Expose
     private int mapWidth;
 
@@ -63,6 +75,7 @@ public class GameState {
         this.eventController = new EventController(this);
         this.visitedAmbients = new HashMap<>();
         this.chatController = new ChatController(); // New: Initialize ChatController
+        this.worldSeed = WorldSeed.randomSeed().getSeed();
     }
 
     public Character getPlayerCharacter() {
@@ -206,6 +219,33 @@ public class GameState {
         return null;
     }
 
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    public void setWorldSeed(long worldSeed) {
+        this.worldSeed = worldSeed;
+        this.random = null;
+    }
+
+    /**
+     * @return Random of this playthrough for gameplay chances, so a seed replays the same run
+     */
+    public Random getRandom() {
+        if (random == null) {
+            random = new WorldSeed(worldSeed).random(null, 0, WorldSeed.Purpose.GAMEPLAY);
+        }
+        return random;
+    }
+
+    public int getMapVisitIndex() {
+        return mapVisitIndex;
+    }
+
+    public void setMapVisitIndex(int mapVisitIndex) {
+        this.mapVisitIndex = mapVisitIndex;
+    }
+
     public int getMapWidth() {
         return mapWidth;
     }
@@ -7,6 +7,7 @@ import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.enums.AmbientAttribute;
 import io.github.com.ranie_borges.thejungle.model.enums.Clime;
 import io.github.com.ranie_borges.thejungle.model.world.interfaces.IAmbients;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
 import java.util.*;
 
@@ -26,9 +27,10 @@ public abstract class Ambient implements IAmbients {
     private Map<Event, Double> possibleEvents;
     @Expose
     private Set<Clime> climes;
-    private transient final Texture floorTexture;
-    private transient final Texture wallTexture;
-    private transient final Texture sidebarTexture;
+    // Asset paths only; textures are uploaded on first use through TextureRegistry
+    private transient final String floorTexturePath;
+    private transient final String wallTexturePath;
+    private transient final String sidebarTexturePath;
     @Expose
     private final float wallDensity;
     @Expose
@@ -40,6 +42,9 @@ public abstract class Ambient implements IAmbients {
     @Expose
     private float darknessFactor = 1.0f;
 
+    // Bumped whenever the event table changes, so cached event samplers know to rebuild
+    private transient int eventsVersion;
+
     public static final int MAX_AMBIENT_USES = 3;
 
     protected Ambient(
@@ -47,9 +52,9 @@ public abstract class Ambient implements IAmbients {
             String description,
             float difficult,
             Set<AmbientAttribute> attributes,
-            Texture floorTexture,
-            Texture wallTexture,
-            Texture sidebarTexture,
+            String floorTexturePath,
+            String wallTexturePath,
+            String sidebarTexturePath,
             float wallDensity,
             float itemDensity) {
         setName(name);
@@ -59,9 +64,9 @@ public abstract class Ambient implements IAmbients {
         this.resources = new HashSet<>();
         this.possibleEvents = new HashMap<>();
         this.climes = new HashSet<>();
-        this.floorTexture = floorTexture;
-        this.wallTexture = wallTexture;
-        this.sidebarTexture = sidebarTexture;
+        this.floorTexturePath = floorTexturePath;
+        this.wallTexturePath = wallTexturePath;
+        this.sidebarTexturePath = sidebarTexturePath;
         this.wallDensity = wallDensity;
         this.itemDensity = itemDensity;
     }
@@ -108,6 +113,28 @@ public abstract class Ambient implements IAmbients {
 
     public void setPossibleEvents(Map<Event, Double> possibleEvents) {
         this.possibleEvents = possibleEvents;
+        eventsVersion++;
+    }
+
+    public void addPossibleEvent(Event event, double weight) {
+        if (possibleEvents == null) {
+            possibleEvents = new HashMap<>();
+        }
+        possibleEvents.put(event, weight);
+        eventsVersion++;
+    }
+
+    public void removePossibleEvent(Event event) {
+        if (possibleEvents != null && possibleEvents.remove(event) != null) {
+            eventsVersion++;
+        }
+    }
+
+    /**
+     * Changes with every set, add or remove of a possible event
+     */
+    public int getEventsVersion() {
+        return eventsVersion;
     }
 
     public Set<Clime> getClimes() {
@@ -131,15 +158,27 @@ public abstract class Ambient implements IAmbients {
     }
 
     public Texture getFloorTexture() {
-        return floorTexture;
+        return TextureRegistry.get(floorTexturePath);
     }
 
     public Texture getWallTexture() {
-        return wallTexture;
+        return TextureRegistry.get(wallTexturePath);
     }
 
     public Texture getSidebarTexture() {
-        return sidebarTexture;
+        return TextureRegistry.get(sidebarTexturePath);
+    }
+
+    public String getFloorTexturePath() {
+        return floorTexturePath;
+    }
+
+    public String getWallTexturePath() {
+        return wallTexturePath;
+    }
+
+    public String getSidebarTexturePath() {
+        return sidebarTexturePath;
     }
 
     public float getItemDensity() {
@@ -150,6 +189,35 @@ public abstract class Ambient implements IAmbients {
         return wallDensity;
     }
 
+    /**
+     * Generate a map with an unseeded random source
+     */
+    @Override
+    public int[][] generateMap(int mapWidth, int mapHeight) {
+        return generateMap(mapWidth, mapHeight, new Random());
+    }
+
+    /**
+     * Generate a map reproducibly: the same seed always yields the same tiles
+     */
+    @Override
+    public int[][] generateMap(int mapWidth, int mapHeight, long seed) {
+        return generateMap(mapWidth, mapHeight, new Random(seed));
+    }
+
+    /**
+     * Build the tiles of a map. Implementations must draw every random number from {@code rand}.
+     */
+    protected abstract int[][] generateMap(int mapWidth, int mapHeight, Random rand);
+
+    /**
+     * Take over per-map state produced while another instance of the same ambient type
+     * generated the map now in use (see MapPregenerator). Ambients that keep no such state
+     * need not override this.
+     */
+    public void adoptGeneratedState(Ambient generator) {
+    }
+
     protected void addDoors(int[][] map, int mapWidth, int mapHeight, Random rand) {
         int numDoors = 2 + (rand.nextFloat() < itemDensity ? 1 : 0);
         java.util.List<int[]> borderPositions = new java.util.ArrayList<>();
@@ -165,7 +233,7 @@ public abstract class Ambient implements IAmbients {
         }
 
         // Place doors
-        java.util.Collections.shuffle(borderPositions);
+        java.util.Collections.shuffle(borderPositions, rand);
         for (int i = 0; i < Math.min(numDoors, borderPositions.size()); i++) {
             int[] pos = borderPositions.get(i);
             int y = pos[0], x = pos[1];
@@ -0,0 +1,249 @@
+package io.github.com.ranie_borges.thejungle.model.world;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import io.github.com.ranie_borges.thejungle.model.entity.Creature;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPositioned;
+import io.github.com.ranie_borges.thejungle.model.enums.EntityKind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every creature and material on the current map, in one registry.
+ * <p>
+ * Per-entity data used each frame (position, draw size and offset, sprite id, kind) lives in
+ * dense parallel arrays indexed by slot, so rendering and culling are a single pass with no
+ * per-type lists. Sprites are interned in a table, so creatures sharing a flyweight sprite share
+ * one id. Slots keep insertion order (materials are added before creatures and so drawn below
+ * them). Proximity queries go through the {@link SpatialIndex} the store keeps in sync.
+ * Must only be used from the render thread.
+ */
+public class EntityStore {
+    private static final Logger logger = LoggerFactory.getLogger(EntityStore.class);
+    private static final int INITIAL_CAPACITY = 64;
+    public static final int NO_SPRITE = -1;
+
+    private final float tileSize;
+    private final SpatialIndex spatialIndex;
+    private final Map<IPositioned, Integer> slotOf = new IdentityHashMap<>();
+    private final List<Sprite> spriteTable = new ArrayList<>();
+    private final Map<Sprite, Integer> spriteIds = new IdentityHashMap<>();
+
+    private IPositioned[] entities = new IPositioned[INITIAL_CAPACITY];
+    private EntityKind[] kinds = new EntityKind[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] size = new float[INITIAL_CAPACITY];
+    private float[] drawOffsetX = new float[INITIAL_CAPACITY];
+    private float[] drawOffsetY = new float[INITIAL_CAPACITY];
+    private int[] spriteId = new int[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * @param mapWidth Map width in tiles
+     * @param mapHeight Map height in tiles
+     * @param tileSize Tile size in pixels
+     */
+    public EntityStore(int mapWidth, int mapHeight, float tileSize) {
+        this.tileSize = tileSize;
+        this.spatialIndex = new SpatialIndex(mapWidth, mapHeight, tileSize);
+    }
+
+    public void add(IPositioned entity) {
+        if (entity == null || slotOf.containsKey(entity)) {
+            return;
+        }
+        EntityKind kind = EntityKind.of(entity);
+        if (kind == null) {
+            logger.warn("EntityStore: unsupported entity type {}", entity.getClass().getSimpleName());
+            return;
+        }
+        if (count == entities.length) {
+            grow();
+        }
+        int slot = count++;
+        entities[slot] = entity;
+        kinds[slot] = kind;
+        spriteId[slot] = internSprite(idleSprite(entity));
+        fillGeometry(slot);
+        slotOf.put(entity, slot);
+        spatialIndex.add(entity);
+    }
+
+    public void addAll(List<? extends IPositioned> list) {
+        if (list != null) {
+            for (IPositioned entity : list) {
+                add(entity);
+            }
+        }
+    }
+
+    /**
+     * Remove an entity, keeping the draw order of the others
+     */
+    public void remove(IPositioned entity) {
+        Integer slot = slotOf.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        int tail = count - slot - 1;
+        if (tail > 0) {
+            System.arraycopy(entities, slot + 1, entities, slot, tail);
+            System.arraycopy(kinds, slot + 1, kinds, slot, tail);
+            System.arraycopy(x, slot + 1, x, slot, tail);
+            System.arraycopy(y, slot + 1, y, slot, tail);
+            System.arraycopy(size, slot + 1, size, slot, tail);
+            System.arraycopy(drawOffsetX, slot + 1, drawOffsetX, slot, tail);
+            System.arraycopy(drawOffsetY, slot + 1, drawOffsetY, slot, tail);
+            System.arraycopy(spriteId, slot + 1, spriteId, slot, tail);
+            for (int i = slot; i < count - 1; i++) {
+                slotOf.put(entities[i], i);
+            }
+        }
+        count--;
+        entities[count] = null;
+        kinds[count] = null;
+        spatialIndex.remove(entity);
+    }
+
+    /**
+     * Copy an entity's position and sprite after it moved or its sprite was reloaded
+     */
+    public void update(IPositioned entity) {
+        Integer slot = slotOf.get(entity);
+        if (slot == null) {
+            return;
+        }
+        spriteId[slot] = internSprite(idleSprite(entity));
+        fillGeometry(slot);
+        spatialIndex.update(entity);
+    }
+
+    public void clear() {
+        Arrays.fill(entities, 0, count, null);
+        Arrays.fill(kinds, 0, count, null);
+        count = 0;
+        slotOf.clear();
+        spriteTable.clear();
+        spriteIds.clear();
+        spatialIndex.clear();
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean contains(IPositioned entity) {
+        return slotOf.containsKey(entity);
+    }
+
+    public IPositioned get(int slot) {
+        return entities[slot];
+    }
+
+    public EntityKind getKind(int slot) {
+        return kinds[slot];
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    public float getSize(int slot) {
+        return size[slot];
+    }
+
+    public float getDrawOffsetX(int slot) {
+        return drawOffsetX[slot];
+    }
+
+    public float getDrawOffsetY(int slot) {
+        return drawOffsetY[slot];
+    }
+
+    /**
+     * @return The sprite of a slot, or null if the entity has none
+     */
+    public Sprite getSprite(int slot) {
+        int id = spriteId[slot];
+        return id == NO_SPRITE ? null : spriteTable.get(id);
+    }
+
+    public <T extends IPositioned> T findNearest(float px, float py, float radius, Class<T> type) {
+        return spatialIndex.findNearest(px, py, radius, type);
+    }
+
+    public <T extends IPositioned> List<T> queryRadius(float px, float py, float radius, Class<T> type, List<T> out) {
+        return spatialIndex.queryRadius(px, py, radius, type, out);
+    }
+
+    public <T extends IPositioned> List<T> queryTile(int tileX, int tileY, Class<T> type, List<T> out) {
+        return spatialIndex.queryTile(tileX, tileY, type, out);
+    }
+
+    private void fillGeometry(int slot) {
+        IPositioned entity = entities[slot];
+        x[slot] = entity.getPosition().x;
+        y[slot] = entity.getPosition().y;
+        if (kinds[slot] == EntityKind.MATERIAL && "Tree".equals(((Item) entity).getName())) {
+            // Trees are drawn four tiles tall, standing on their tile
+            size[slot] = tileSize * 4;
+            drawOffsetX[slot] = (tileSize - size[slot]) / 2f;
+            drawOffsetY[slot] = 0;
+        } else if (kinds[slot] == EntityKind.MATERIAL) {
+            size[slot] = tileSize;
+            drawOffsetX[slot] = 0;
+            drawOffsetY[slot] = 0;
+        } else {
+            size[slot] = kinds[slot].getDrawSize();
+            drawOffsetX[slot] = (tileSize - size[slot]) / 2f;
+            drawOffsetY[slot] = (tileSize - size[slot]) / 2f;
+        }
+    }
+
+    private static Sprite idleSprite(IPositioned entity) {
+        Map<String, Sprite> sprites = null;
+        if (entity instanceof Creature creature) {
+            sprites = creature.getSprites();
+        } else if (entity instanceof Item item) {
+            sprites = item.getSprites();
+        }
+        Sprite sprite = sprites != null ? sprites.get("idle") : null;
+        return sprite != null && sprite.getTexture() != null ? sprite : null;
+    }
+
+    private int internSprite(Sprite sprite) {
+        if (sprite == null) {
+            return NO_SPRITE;
+        }
+        Integer id = spriteIds.get(sprite);
+        if (id == null) {
+            id = spriteTable.size();
+            spriteTable.add(sprite);
+            spriteIds.put(sprite, id);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        size = Arrays.copyOf(size, capacity);
+        drawOffsetX = Arrays.copyOf(drawOffsetX, capacity);
+        drawOffsetY = Arrays.copyOf(drawOffsetY, capacity);
+        spriteId = Arrays.copyOf(spriteId, capacity);
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.com.ranie_borges.thejungle.model.world;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPositioned;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid over the map with one bucket per tile, shared by creatures and materials.
+ * <p>
+ * An entity is filed under the tile its center stands on, so proximity queries only look at
+ * the buckets a radius overlaps instead of every entity on the map. Entities must be
+ * re-filed with {@link #update(IPositioned)} after they move.
+ * Must only be used from the render thread.
+ */
+public class SpatialIndex {
+    private final int width;
+    private final int height;
+    private final float cellSize;
+    private final List<List<IPositioned>> cells;
+    private final Map<IPositioned, Integer> cellOf = new IdentityHashMap<>();
+
+    /**
+     * @param width Map width in tiles
+     * @param height Map height in tiles
+     * @param cellSize Tile size in pixels
+     */
+    public SpatialIndex(int width, int height, float cellSize) {
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.cells = new ArrayList<>(width * height);
+        for (int i = 0; i < width * height; i++) {
+            cells.add(new ArrayList<>(2));
+        }
+    }
+
+    public void add(IPositioned entity) {
+        if (entity == null || cellOf.containsKey(entity)) {
+            return;
+        }
+        int cell = cellIndex(entity.getPosition());
+        cells.get(cell).add(entity);
+        cellOf.put(entity, cell);
+    }
+
+    public void addAll(List<? extends IPositioned> entities) {
+        if (entities != null) {
+            for (IPositioned entity : entities) {
+                add(entity);
+            }
+        }
+    }
+
+    public void remove(IPositioned entity) {
+        Integer cell = cellOf.remove(entity);
+        if (cell != null) {
+            cells.get(cell).remove(entity);
+        }
+    }
+
+    /**
+     * Re-file an entity after its position changed
+     */
+    public void update(IPositioned entity) {
+        Integer cell = cellOf.get(entity);
+        if (cell == null) {
+            add(entity);
+            return;
+        }
+        int newCell = cellIndex(entity.getPosition());
+        if (newCell != cell) {
+            cells.get(cell).remove(entity);
+            cells.get(newCell).add(entity);
+            cellOf.put(entity, newCell);
+        }
+    }
+
+    public void clear() {
+        for (IPositioned entity : cellOf.keySet()) {
+            cells.get(cellOf.get(entity)).clear();
+        }
+        cellOf.clear();
+    }
+
+    public boolean contains(IPositioned entity) {
+        return cellOf.containsKey(entity);
+    }
+
+    public int size() {
+        return cellOf.size();
+    }
+
+    /**
+     * Collect entities of a type whose position is closer than {@code radius} to a point
+     *
+     * @param out Receives the matches; not cleared
+     * @return {@code out}
+     */
+    public <T extends IPositioned> List<T> queryRadius(float x, float y, float radius, Class<T> type, List<T> out) {
+        float radius2 = radius * radius;
+        int minX = cellCoord(x - radius, width);
+        int maxX = cellCoord(x + radius, width);
+        int minY = cellCoord(y - radius, height);
+        int maxY = cellCoord(y + radius, height);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (IPositioned entity : cells.get(cy * width + cx)) {
+                    if (type.isInstance(entity) && entity.getPosition().dst2(x, y) < radius2) {
+                        out.add(type.cast(entity));
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return The entity of a type closest to a point within {@code radius}, or null
+     */
+    public <T extends IPositioned> T findNearest(float x, float y, float radius, Class<T> type) {
+        float best = radius * radius;
+        T nearest = null;
+        int minX = cellCoord(x - radius, width);
+        int maxX = cellCoord(x + radius, width);
+        int minY = cellCoord(y - radius, height);
+        int maxY = cellCoord(y + radius, height);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (IPositioned entity : cells.get(cy * width + cx)) {
+                    if (!type.isInstance(entity)) continue;
+                    float d2 = entity.getPosition().dst2(x, y);
+                    if (d2 < best) {
+                        best = d2;
+                        nearest = type.cast(entity);
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Collect entities of a type standing on a tile
+     *
+     * @param out Receives the matches; not cleared
+     * @return {@code out}
+     */
+    public <T extends IPositioned> List<T> queryTile(int tileX, int tileY, Class<T> type, List<T> out) {
+        if (tileX < 0 || tileY < 0 || tileX >= width || tileY >= height) {
+            return out;
+        }
+        for (IPositioned entity : cells.get(tileY * width + tileX)) {
+            if (type.isInstance(entity)) {
+                out.add(type.cast(entity));
+            }
+        }
+        return out;
+    }
+
+    private int cellIndex(Vector2 position) {
+        return cellCoord(position.y, height) * width + cellCoord(position.x, width);
+    }
+
+    // Tile whose area contains the entity's center; positions off the map clamp to the edge
+    private int cellCoord(float pixel, int limit) {
+        int coord = (int) Math.floor((pixel + cellSize / 2f) / cellSize);
+        return Math.max(0, Math.min(limit - 1, coord));
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.com.ranie_borges.thejungle.model.world;
+
+import java.util.Random;
+
+/**
+ * Root seed of a playthrough. Every random stream used to build a map (tiles, doors,
+ * resources, creatures, player spawn) is derived from this seed, the ambient and the
+ * visit index, so the same (seed, ambient, visit) always produces the same area.
+ * <p>
+ * Derived seeds are independent of each other: drawing more numbers from one stream
+ * never shifts another.
+ */
+public final class WorldSeed {
+    /**
+     * Independent random streams of a single map. The id, not the declaration order, goes into
+     * the derived seed: never change or reuse an id, or saved seeds stop producing the same world.
+     */
+    public enum Purpose {
+        MAP(0),
+        CAVE_DOORS(1),
+        SPAWNS(2),
+        PLAYER_SPAWN(3),
+        AMBIENT_ROTATION(4),
+        // 5 was a chunk stream; retired
+        EVENTS(6),
+        // Scripted player of a simulated run
+        POLICY(7),
+        // Seed of each simulated run, derived from the batch seed
+        RUN(8),
+        // Chances rolled while playing: drinking, eating, fishing, avoiding fights
+        GAMEPLAY(9);
+
+        private final int id;
+
+        Purpose(int id) {
+            this.id = id;
+        }
+    }
+
+    private final long seed;
+
+    public WorldSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return A seed picked from the system entropy, for new games
+     */
+    public static WorldSeed randomSeed() {
+        return new WorldSeed(new Random().nextLong());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param ambientName Name of the ambient the stream belongs to
+     * @param visit Index of the map within the playthrough
+     * @return Seed for the given stream
+     */
+    public long derive(String ambientName, int visit, Purpose purpose) {
+        long h = mix(seed ^ (ambientName != null ? ambientName.hashCode() : 0));
+        h = mix(h + visit);
+        return mix(h + purpose.id);
+    }
+
+    public Random random(String ambientName, int visit, Purpose purpose) {
+        return new Random(derive(ambientName, visit, purpose));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(seed);
+    }
+}
@@ -1,7 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.world.ambients;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 
@@ -19,9 +17,9 @@ public class Cave extends Ambient {
             "A dark and damp cave, echoing with the sounds of dripping water and distant growls.",
             3.5f,
             Set.of(HUMID_CLIMATE),
-            new Texture(Gdx.files.internal("scenarios/cave/caveFloor.png")),
-            new Texture(Gdx.files.internal("scenarios/cave/caveWall.png")),
-            new Texture(Gdx.files.internal("scenarios/cave/sidebar.jpg")),
+            "scenarios/cave/caveFloor.png",
+            "scenarios/cave/caveWall.png",
+            "scenarios/cave/sidebar.jpg",
             0.3f,
             0.2f
         );
@@ -53,9 +51,8 @@ public class Cave extends Ambient {
     }
 
     @Override
-    public int[][] generateMap(int mapWidth, int mapHeight) {
+    protected int[][] generateMap(int mapWidth, int mapHeight, Random rand) {
         int[][] map = new int[mapHeight][mapWidth];
-        Random rand = new Random();
 
         // Start with all walls
         for (int y = 0; y < mapHeight; y++) {
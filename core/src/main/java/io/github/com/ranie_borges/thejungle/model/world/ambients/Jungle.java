@@ -1,6 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.world.ambients;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
@@ -8,6 +7,7 @@ import io.github.com.ranie_borges.thejungle.model.entity.itens.Food;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
 import io.github.com.ranie_borges.thejungle.model.events.events.SnakeEventManager;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
 import java.util.Random;
 import java.util.Set;
@@ -18,8 +18,7 @@ import static io.github.com.ranie_borges.thejungle.model.enums.Clime.FOREST;
 
 public class Jungle extends Ambient {
     private boolean[][] tallGrass;
-    private transient final Texture tallGrassTexture; // Made transient if not already
-    private final transient Random random = new Random(); // Added transient
+    private static final String TALL_GRASS_TEXTURE = "scenarios/jungle/tall_grass.png";
 
     public Jungle() {
         super(
@@ -27,13 +26,12 @@ public class Jungle extends Ambient {
             "A dense forest with tall trees, lush vegetation, and sounds of wild animals.",
             1f,
             Set.of(DENSE_VEGETATION, ABUNDANT_FAUNA),
-            new Texture(Gdx.files.internal("scenarios/jungle/jungleFloor.jpg")),
-            new Texture(Gdx.files.internal("scenarios/jungle/jungleWall.png")),
-            new Texture(Gdx.files.internal("scenarios/jungle/sidebar.jpg")),
+            "scenarios/jungle/jungleFloor.jpg",
+            "scenarios/jungle/jungleWall.png",
+            "scenarios/jungle/sidebar.jpg",
             0.2f,
             0.3f
         );
-        this.tallGrassTexture = new Texture(Gdx.files.internal("scenarios/jungle/tall_grass.png"));
         setClimes(Set.of(FOREST));
         setResources(Set.of(
             new Drinkable("Stream Water", 0.1f, 0.8f, true, 5f),
@@ -49,30 +47,39 @@ public class Jungle extends Ambient {
         return tallGrass[y][x];
     }
 
-    public void checkSnakeBite(io.github.com.ranie_borges.thejungle.model.entity.Character character) {
+    /**
+     * @param snakeEvents Snake alert of the game the character is in
+     */
+    public void checkSnakeBite(io.github.com.ranie_borges.thejungle.model.entity.Character character, SnakeEventManager snakeEvents) {
         Vector2 pos = character.getPosition();
         int tileX = (int)(pos.x / 32f); // Assuming TILE_SIZE is 32
         int tileY = (int)(pos.y / 32f);
 
         if (isTallGrass(tileX, tileY)) {
-//             Snake bite logic, potentially using this.random
+//             Snake bite logic, using the Random of the playthrough
 //             float chance = 1f; // Example: 10% chance
-//             if (this.random.nextFloat() < chance) {
-//             SnakeEventManager.triggerSnakeBite();
+//             if (character.getGameState().getRandom().nextFloat() < chance) {
+//             snakeEvents.triggerSnakeBite();
 //             }
         }
     }
 
+    @Override
+    public void adoptGeneratedState(Ambient generator) {
+        if (generator instanceof Jungle jungle) {
+            this.tallGrass = jungle.tallGrass;
+        }
+    }
+
     public Texture getTallGrassTexture() {
-        return tallGrassTexture;
+        return TextureRegistry.get(TALL_GRASS_TEXTURE);
     }
 
     @Override
-    public int[][] generateMap(int mapWidth, int mapHeight) {
+    protected int[][] generateMap(int mapWidth, int mapHeight, Random rand) {
         int[][] map = new int[mapHeight][mapWidth];
         tallGrass = new boolean[mapHeight][mapWidth]; // Initialize tallGrass array
 
-        // Random rand = new Random(); // Use the class field random
         float wallDensity = getWallDensity();
 
         for (int y = 0; y < mapHeight; y++) {
@@ -81,7 +88,7 @@ public class Jungle extends Ambient {
                 boolean isDenseArea = (x / 3 + y / 3) % 2 == 0; // Example logic for varied density
                 float localDensity = isDenseArea ? wallDensity * 1.5f : wallDensity * 0.7f;
 
-                boolean isWall = random.nextFloat() < localDensity;
+                boolean isWall = rand.nextFloat() < localDensity;
                 map[y][x] = isBorder ? 1 : (isWall ? 1 : 0); // 1 for TILE_WALL, 0 for TILE_GRASS
 
                 // Tall grass can grow on non-wall, non-border tiles in dense areas
@@ -98,15 +105,15 @@ public class Jungle extends Ambient {
             }
 
             // Meander path slightly
-            if (random.nextFloat() < 0.3 && pathY > 2 && pathY < mapHeight - 3) {
-                pathY += random.nextBoolean() ? 1 : -1;
+            if (rand.nextFloat() < 0.3 && pathY > 2 && pathY < mapHeight - 3) {
+                pathY += rand.nextBoolean() ? 1 : -1;
                 if (pathY > 0 && pathY < mapHeight -1) { // Check new pathY bounds
                     map[pathY][x] = 0; // Clear new path segment
                     tallGrass[pathY][x] = false;
                 }
             }
         }
-        addDoors(map, mapWidth, mapHeight, random);
+        addDoors(map, mapWidth, mapHeight, rand);
         return map;
     }
 
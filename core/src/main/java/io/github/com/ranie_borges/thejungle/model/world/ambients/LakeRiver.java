@@ -1,11 +1,11 @@
 package io.github.com.ranie_borges.thejungle.model.world.ambients;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Food;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
 
 import java.util.Random;
@@ -15,8 +15,7 @@ import static io.github.com.ranie_borges.thejungle.model.enums.AmbientAttribute.
 
 public class LakeRiver extends Ambient implements UI {
 
-    private transient final Texture waterTexture;
-    private final transient Random rand = new Random(); // Added transient
+    private static final String WATER_TEXTURE = "scenarios/lakeriver/lakeriverWater.png";
 
     public LakeRiver() {
         super(
@@ -24,14 +23,13 @@ public class LakeRiver extends Ambient implements UI {
             "A tranquil body of water with clear surface, surrounded by vibrant vegetation and teeming with aquatic life.",
             1.5f,
             Set.of(HUMID_CLIMATE),
-            new Texture(Gdx.files.internal("scenarios/lakeriver/lakeriverFloor.png")),
-            new Texture(Gdx.files.internal("scenarios/lakeriver/lakeriverWall.png")),
-            new Texture(Gdx.files.internal("scenarios/lakeriver/sidebar.jpg")),
+            "scenarios/lakeriver/lakeriverFloor.png",
+            "scenarios/lakeriver/lakeriverWall.png",
+            "scenarios/lakeriver/sidebar.jpg",
             0.15f,
             0.4f
         );
 
-        this.waterTexture = new Texture(Gdx.files.internal("scenarios/lakeriver/lakeriverWater.png"));
         setResources(Set.of(
             new Drinkable("Fresh Water", 0.1f, 1.0f, true, 8f),
             new Food("Wild Berries", 0.5f, 1.2f, 12, "Fruit", 3),
@@ -40,11 +38,11 @@ public class LakeRiver extends Ambient implements UI {
     }
 
     public Texture getWaterTexture() {
-        return waterTexture;
+        return TextureRegistry.get(WATER_TEXTURE);
     }
 
     @Override
-    public int[][] generateMap(int mapWidth, int mapHeight) {
+    protected int[][] generateMap(int mapWidth, int mapHeight, Random rand) {
         int[][] map = new int[mapHeight][mapWidth];
 
         for (int y = 0; y < mapHeight; y++) {
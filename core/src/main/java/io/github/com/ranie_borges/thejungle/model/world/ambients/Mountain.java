@@ -1,7 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.world.ambients;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Food;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
@@ -20,9 +18,9 @@ public class Mountain extends Ambient {
             "Steep rocky peaks with thin air and panoramic views. The harsh terrain offers limited resources but valuable minerals.",
             3.0f,
             Set.of(DRY_CLIMATE),
-            new Texture(Gdx.files.internal("scenarios/mountain/mountainFloor.png")),
-            new Texture(Gdx.files.internal("scenarios/mountain/mountainWall.png")),
-            new Texture(Gdx.files.internal("scenarios/mountain/sidebar.jpg")),
+            "scenarios/mountain/mountainFloor.png",
+            "scenarios/mountain/mountainWall.png",
+            "scenarios/mountain/sidebar.jpg",
             0.35f,  // wallDensity - more rocky terrain
             0.2f    // itemDensity - scarce resources
         );
@@ -55,9 +53,8 @@ public class Mountain extends Ambient {
     }
 
     @Override
-    public int[][] generateMap(int mapWidth, int mapHeight) {
+    protected int[][] generateMap(int mapWidth, int mapHeight, Random rand) {
         int[][] map = new int[mapHeight][mapWidth];
-        Random rand = new Random();
 
         // Create mountain terrain with peaks and valleys
         for (int y = 0; y < mapHeight; y++) {
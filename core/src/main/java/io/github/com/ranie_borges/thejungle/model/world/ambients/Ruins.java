@@ -1,7 +1,5 @@
 package io.github.com.ranie_borges.thejungle.model.world.ambients;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 
@@ -19,9 +17,9 @@ public class Ruins extends Ambient {
             "Ancient stone structures overtaken by time, with crumbling walls and hidden passages. Artifacts of a forgotten civilization may be found here.",
             2.5f,
             Set.of(DRY_CLIMATE),
-            new Texture(Gdx.files.internal("scenarios/ruins/ruinsFloor.png")),
-            new Texture(Gdx.files.internal("scenarios/ruins/ruinsWall.png")),
-            new Texture(Gdx.files.internal("scenarios/ruins/sidebar.jpg")),
+            "scenarios/ruins/ruinsFloor.png",
+            "scenarios/ruins/ruinsWall.png",
+            "scenarios/ruins/sidebar.jpg",
             0.4f,   // wallDensity - more structural remains
             0.3f    // itemDensity - moderate artifact presence
         );
@@ -53,9 +51,8 @@ public class Ruins extends Ambient {
     }
 
     @Override
-    public int[][] generateMap(int mapWidth, int mapHeight) {
+    protected int[][] generateMap(int mapWidth, int mapHeight, Random rand) {
         int[][] map = new int[mapHeight][mapWidth];
-        Random rand = new Random();
 
         // Start with empty space
         for (int y = 0; y < mapHeight; y++) {
@@ -44,4 +44,6 @@ public interface IAmbients {
 
     int[][] generateMap(int mapWidth, int mapHeight);
 
+    int[][] generateMap(int mapWidth, int mapHeight, long seed);
+
 }
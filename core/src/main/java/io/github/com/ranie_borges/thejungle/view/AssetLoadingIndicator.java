@@ -0,0 +1,57 @@
+package io.github.com.ranie_borges.thejungle.view;
+
+import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeOut;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
+
+/**
+ * Progress bar of the assets streamed by {@link GameAssets}; it fades out once they are all loaded.
+ */
+public final class AssetLoadingIndicator extends Table {
+    private final ProgressBar progressBar;
+    private final Label progressLabel;
+    private int shownPercent = -1;
+    private boolean finished;
+
+    /**
+     * @param skin Skin with a {@code default-horizontal} progress bar style
+     */
+    public AssetLoadingIndicator(Skin skin) {
+        progressBar = new ProgressBar(0f, 1f, 0.001f, false, skin, "default-horizontal");
+        progressBar.setAnimateDuration(0.2f);
+        progressLabel = new Label("", skin);
+        add(progressLabel).padRight(10);
+        add(progressBar).width(300);
+        refresh();
+        if (finished) {
+            clearActions(); // Nothing to show when everything was already loaded
+            getColor().a = 0f;
+        }
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        if (!finished) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        float progress = GameAssets.getProgress();
+        progressBar.setValue(progress);
+        int percent = (int) (progress * 100);
+        if (percent != shownPercent) {
+            shownPercent = percent; // Only rebuild the label text when the number changes
+            progressLabel.setText("loading " + percent + "%");
+        }
+        if (GameAssets.isFinished()) {
+            finished = true;
+            addAction(fadeOut(1f));
+        }
+    }
+}
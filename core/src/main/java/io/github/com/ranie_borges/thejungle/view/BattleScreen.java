@@ -15,6 +15,7 @@ import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.model.entity.Creature;
 import io.github.com.ranie_borges.thejungle.model.entity.creatures.Cannibal;
 import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
 
 public class BattleScreen {
     private final SpriteBatch batch;
@@ -42,12 +43,13 @@ public class BattleScreen {
         this.previousScreen = previousScreen;
         batch = new SpriteBatch();
         renderer = new ShapeRenderer();
-        background = new Texture("Gameplay/battle_background.png");
+        // Streamed by GameAssets before the map screen opened, and owned by it
+        background = GameAssets.texture("Gameplay/battle_background.png");
 
-        playerSprite = new Texture("sprites/character/personagem_luta.png");
+        playerSprite = GameAssets.texture("sprites/character/personagem_luta.png");
 
-        enemySprite = new Texture("sprites/criaturas/veado_luta.png");
-        cannibalSprite = new Texture("sprites/criaturas/canibal_luta.png");
+        enemySprite = GameAssets.texture("sprites/criaturas/veado_luta.png");
+        cannibalSprite = GameAssets.texture("sprites/criaturas/canibal_luta.png");
 
         font = new BitmapFont();
 
@@ -218,9 +220,6 @@ public class BattleScreen {
     public void dispose() {
         batch.dispose();
         renderer.dispose();
-        background.dispose();
-        playerSprite.dispose();
-        enemySprite.dispose();
         font.dispose();
     }
 }
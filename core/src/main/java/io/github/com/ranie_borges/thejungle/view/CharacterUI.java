@@ -3,6 +3,7 @@ package io.github.com.ranie_borges.thejungle.view;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -106,7 +107,7 @@ public class CharacterUI {
                 float sy = startY + (rows - 1 - row) * (slotSize + padding);
 
                 // Icon
-                Texture icon = item.getIconTexture();
+                TextureRegion icon = item.getIconRegion();
                 if (icon != null) {
                     batch.draw(icon, sx + 4, sy + 4, slotSize - 8, slotSize - 8);
                 }
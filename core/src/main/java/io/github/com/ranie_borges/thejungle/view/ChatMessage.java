@@ -1,24 +1,48 @@
 package io.github.com.ranie_borges.thejungle.view;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.utils.Pool;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
 
-public class ChatMessage implements UI {
-    private final String text;
-    private final Color color;
+/**
+ * A line of the chat log. Instances are pooled by ChatController and reused for new messages;
+ * the laid-out glyphs are kept with the message so drawing it does not lay the text out again.
+ */
+public final class ChatMessage implements UI, Pool.Poolable {
+    public static final float DEFAULT_DURATION = 5f;
+
+    private String text;
+    private final Color color = new Color(Color.WHITE);
     private float timeLeft;
+    private BitmapFontCache glyphs;
+    private boolean laidOut;
+
+    public ChatMessage() {
+    }
 
     public ChatMessage(String text) {
-        this(text, Color.WHITE, 5f);
+        this(text, Color.WHITE, DEFAULT_DURATION);
     }
 
     public ChatMessage(String text, Color color) {
-        this(text, color, 5f);
+        this(text, color, DEFAULT_DURATION);
     }
+
     public ChatMessage(String text, Color color, float timeLeft) {
-        this.text = text;
-        this.color = color;
+        set(text, color, timeLeft);
+    }
+
+    /**
+     * Reuse this message for new text
+     */
+    public ChatMessage set(String text, Color color, float timeLeft) {
+        this.text = text != null ? text : "";
+        this.color.set(color != null ? color : Color.WHITE);
         this.timeLeft = timeLeft;
+        this.laidOut = false;
+        return this;
     }
 
     public String getText() {
@@ -36,4 +60,31 @@ public class ChatMessage implements UI {
     public void setTimeLeft(float timeLeft) {
         this.timeLeft = timeLeft;
     }
+
+    /**
+     * The message's glyphs at the origin, laid out with the font on first use and then reused.
+     * The cache belongs to the message and must not be disposed by the caller.
+     */
+    public BitmapFontCache getGlyphs(BitmapFont font) {
+        if (glyphs == null || glyphs.getFont() != font) {
+            glyphs = new BitmapFontCache(font, font.usesIntegerPositions());
+            laidOut = false;
+        }
+        if (!laidOut) {
+            glyphs.setColor(color);
+            glyphs.setText(text, 0, 0);
+            laidOut = true;
+        }
+        return glyphs;
+    }
+
+    @Override
+    public void reset() {
+        text = null;
+        timeLeft = 0;
+        laidOut = false;
+        if (glyphs != null) {
+            glyphs.clear();
+        }
+    }
 }
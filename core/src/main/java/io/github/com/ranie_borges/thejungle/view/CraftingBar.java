@@ -1,46 +1,71 @@
 package io.github.com.ranie_borges.thejungle.view;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Color;
 import io.github.com.ranie_borges.thejungle.controller.CraftController;
+import io.github.com.ranie_borges.thejungle.controller.CraftingTracker;
 import io.github.com.ranie_borges.thejungle.model.entity.Character;
-import io.github.com.ranie_borges.thejungle.model.entity.Item;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
-import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;   // Import Tool
-import io.github.com.ranie_borges.thejungle.model.entity.itens.Weapon; // Import Weapon
+import io.github.com.ranie_borges.thejungle.view.helpers.TextureRegistry;
 
 import java.util.*;
 
+/**
+ * Bar of craftable recipes at the bottom of the map screen. Availability comes from the
+ * character's {@link CraftingTracker} and every label is built up front, so drawing the bar
+ * allocates nothing.
+ */
 public class CraftingBar {
-    private final List<Recipe> recipes = Arrays.asList(
-        new Recipe("Knife", Map.of("stick", 1, "rock", 1), Tool::createKnife), // Changed from Material::createKnife
-        new Recipe("Axe", Map.of("stick", 2, "rock", 3), Tool::createAxe),     // Changed from Material::createAxe
-        new Recipe("Spear", Map.of("stick", 3, "rock", 1), Weapon::createWoodenSpear) // Changed from Material::createSpear
-    );
+    private static final Color UNAVAILABLE_TINT = new Color(0.5f, 0.5f, 0.5f, 0.7f);
 
-    private final Map<String, Texture> icons = new HashMap<>();
+    private final List<Recipe> recipes = CraftController.getRecipes();
+
+    // Shared regions from the icon atlas (or the preloaded PNGs); owned by TextureRegistry
+    private final Map<String, TextureRegion> icons = new HashMap<>();
+    private final String[] iconKeys;
+    private final String[] abbreviations;
+    private final String[][] requirementLines;
     private final BitmapFont font = new BitmapFont();
     private final GlyphLayout layout = new GlyphLayout();
+    private CraftingTracker tracker;
 
     public CraftingBar() {
         font.getData().setScale(1.2f);
+        iconKeys = new String[recipes.size()];
+        abbreviations = new String[recipes.size()];
+        requirementLines = new String[recipes.size()][];
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            String name = recipe.getResultName();
+            iconKeys[i] = name.toLowerCase();
+            abbreviations[i] = name.substring(0, Math.min(name.length(), 3));
+            List<String> lines = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : recipe.getRequiredItems().entrySet()) {
+                lines.add(entry.getKey() + ": " + entry.getValue());
+            }
+            for (String tool : recipe.getRequiredTools()) {
+                lines.add("(" + tool + ")"); // Needed but not consumed
+            }
+            requirementLines[i] = lines.toArray(new String[0]);
+        }
         for (Recipe r : recipes) {
             String iconName = r.getResultName().toLowerCase().replace(" ", "_"); // Handle spaces in names for consistency
-            try {
-                icons.put(r.getResultName().toLowerCase(), new Texture(Gdx.files.internal("icons/" + iconName + ".png")));
-            } catch (Exception e) {
+            TextureRegion icon = TextureRegistry.getRegion("icons/" + iconName + ".png");
+            if (icon == null) {
                 System.err.println("Warning: Could not load icon for " + r.getResultName() + " at icons/" + iconName + ".png. Using default.");
-                try {
-                    icons.put(r.getResultName().toLowerCase(), new Texture(Gdx.files.internal("icons/default.png")));
-                } catch (Exception e2) {
+                icon = TextureRegistry.getRegion("icons/default.png");
+                if (icon == null) {
                     System.err.println("Error: Could not load default icon icons/default.png.");
                 }
             }
+            if (icon != null) {
+                icons.put(r.getResultName().toLowerCase(), icon);
+            }
         }
     }
 
@@ -51,6 +76,13 @@ public class CraftingBar {
         float totalWidth = recipes.size() * (slotSize + spacing) - spacing; // Adjust total width to not include last spacing
         float startX = (screenWidth - totalWidth) / 2f;
 
+        if (character == null) {
+            return;
+        }
+        if (tracker == null || tracker.getInventory() != character) {
+            tracker = CraftController.trackerFor(character);
+        }
+
         int mouseX = Gdx.input.getX();
         int mouseY = screenHeight - Gdx.input.getY();
 
@@ -67,17 +99,17 @@ public class CraftingBar {
         for (int i = 0; i < recipes.size(); i++) {
             Recipe recipe = recipes.get(i);
             String name = recipe.getResultName();
-            Texture icon = icons.get(name.toLowerCase());
+            TextureRegion icon = icons.get(iconKeys[i]);
             float x = startX + i * (slotSize + spacing);
 
-            boolean canCraft = CraftController.canCraft(name, character.getInventory()); // Pass GDX Array
+            boolean canCraft = tracker.isCraftable(recipe);
 
             if (icon != null) {
-                batch.setColor(canCraft ? Color.WHITE : new Color(0.5f, 0.5f, 0.5f, 0.7f)); // Dim if cannot craft
+                batch.setColor(canCraft ? Color.WHITE : UNAVAILABLE_TINT); // Dim if cannot craft
                 batch.draw(icon, x, barY + ( (slotSize + 80 - spacing*2) - slotSize ) / 2 , slotSize, slotSize); // Centered icon a bit higher
             } else {
                 font.setColor(Color.LIGHT_GRAY);
-                layout.setText(font, name.substring(0, Math.min(name.length(), 3)));
+                layout.setText(font, abbreviations[i]);
                 font.draw(batch, layout, x + (slotSize - layout.width)/2, barY + slotSize/2 + layout.height/2);
             }
             batch.setColor(Color.WHITE); // Reset color
@@ -90,8 +122,7 @@ public class CraftingBar {
 
                 float detailY = barY + slotSize + 10;
                 font.setColor(Color.WHITE);
-                for (Map.Entry<String, Integer> entry : recipe.getRequiredItems().entrySet()) {
-                    String req = entry.getKey() + ": " + entry.getValue();
+                for (String req : requirementLines[i]) {
                     layout.setText(font, req);
                     font.draw(batch, req, x + (slotSize - layout.width) / 2f -15 , detailY); // Align left of center
                     detailY -= 15; // Move text downwards
@@ -99,10 +130,8 @@ public class CraftingBar {
 
                 if (Gdx.input.justTouched()) {
                     if (canCraft) {
-                        Item craftedItem = CraftController.craft(name, character.getInventory()); // This consumes ingredients
-                        if (craftedItem != null) {
-                            character.insertItemInInventory(craftedItem);
-                        } else {
+                        // Consumes the ingredients and puts every output into the inventory
+                        if (CraftController.craftInto(name, character).isEmpty()) {
                             Gdx.app.log("INFO","Crafting " + name + " failed even though canCraft was true.");
                         }
                     } else {
@@ -116,9 +145,6 @@ public class CraftingBar {
     }
 
     public void dispose() {
-        for (Texture tex : icons.values()) {
-            if (tex != null) tex.dispose();
-        }
         icons.clear();
         if (font != null) font.dispose();
     }
@@ -7,51 +7,40 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
-import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.controller.CraftingTracker;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.controller.CraftController;
 import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class CraftingScreen implements Screen {
     private final Stage stage;
     private final Skin skin;
     private final Table table;
-    private List<Recipe> availableRecipes;
-    private final Array<Item> inventory;
+    private final Character character;
+    private final CraftingTracker tracker;
 
-    public CraftingScreen(Array<Item> inventory) {
-        this.inventory = inventory;
+    public CraftingScreen(Character character) {
+        this.character = character;
+        this.tracker = CraftController.trackerFor(character);
         this.stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
         this.skin = new Skin(Gdx.files.internal("uiskin.json"));
         this.table = new Table();
         table.setFillParent(true);
         stage.addActor(table);
-        loadAvailableRecipes();
         buildUI();
     }
 
-    private void loadAvailableRecipes() {
-        List<Item> itemList = new ArrayList<>();
-        for (Item item : inventory) {
-            if (item != null) itemList.add(item);
-        }
-        List<Item> filtered = new ArrayList<>();
-        for (Item item : inventory) {
-            if (item != null) filtered.add(item);
-        }
-        this.availableRecipes = CraftController.getAvailableRecipes(filtered);
-    }
-
     private void buildUI() {
         table.clear();
         table.add(new Label("Receitas Disponíveis", skin)).colspan(2).padBottom(10);
         table.row();
 
-        for (Recipe recipe : availableRecipes) {
+        Array<Recipe> availableRecipes = tracker.getCraftable();
+        for (int i = 0; i < availableRecipes.size; i++) {
+            Recipe recipe = availableRecipes.get(i);
             TextButton recipeButton = new TextButton(recipe.getResultName(), skin);
             recipeButton.addListener(event -> {
                 if (event.toString().equals("touchDown")) {
@@ -71,15 +60,8 @@ public class CraftingScreen implements Screen {
             @Override
             protected void result(Object obj) {
                 if ((Boolean) obj) {
-                    List<Item> currentItems = new ArrayList<>();
-                    for (Item i : inventory) if (i != null) currentItems.add(i);
-
-                    if (CraftController.canCraft(recipe.getResultName(), currentItems)) {
-                        CraftController.consumeIngredients(recipe, inventory);
-                        Item crafted = recipe.craft();
-                        if (crafted != null) {
-                            inventory.add(crafted);
-                            loadAvailableRecipes();
+                    if (tracker.isCraftable(recipe)) {
+                        if (!CraftController.craftInto(recipe.getResultName(), character).isEmpty()) {
                             buildUI();
                         }
                     } else {
@@ -97,6 +79,12 @@ public class CraftingScreen implements Screen {
         for (Map.Entry<String, Integer> entry : recipe.getRequiredItems().entrySet()) {
             details.append("- ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
         }
+        if (!recipe.getRequiredTools().isEmpty()) {
+            details.append("Ferramentas necessárias:\n");
+            for (String tool : recipe.getRequiredTools()) {
+                details.append("- ").append(tool).append("\n");
+            }
+        }
 
         dialog.text(details.toString().trim());
         dialog.button("Craftar", true);
@@ -2,6 +2,7 @@
 package io.github.com.ranie_borges.thejungle.view;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
@@ -11,6 +12,7 @@ import com.badlogic.gdx.graphics.Color;
 import io.github.com.ranie_borges.thejungle.controller.ChatController;
 import io.github.com.ranie_borges.thejungle.model.entity.Character;
 import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
 
 public class Hud {
     private final Texture sidebarTexture;
@@ -26,17 +28,22 @@ public class Hud {
         this.classIcon = classIcon;
         this.font = font;
         this.layout = new GlyphLayout();
-        this.backpackTexture = new Texture(Gdx.files.internal("Gameplay/backpack.png"));
+        this.backpackTexture = GameAssets.texture("Gameplay/backpack.png");
         this.chatController = chatController;
     }
 
     /**
-     * Updates the chat messages (removes expired messages)
+     * Updates the chat messages (expires old messages) and scrolls the chat history with Page Up/Page Down
      *
      * @param delta Time elapsed since last frame
      */
     public void update(float delta) {
         chatController.update(delta);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_UP)) {
+            chatController.scroll(ChatController.VISIBLE_MESSAGES);
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_DOWN)) {
+            chatController.scroll(-ChatController.VISIBLE_MESSAGES);
+        }
     }
 
     public void render(SpriteBatch batch, ShapeRenderer shapeRenderer, Character character, GameState gameState,
@@ -51,6 +51,13 @@ public class LetterScreen implements Screen {
         table.add(infoLabel);
         stage.addActor(table);
 
+        // Keeps showing the streaming progress if the loading screen was skipped early
+        Table loadingTable = new Table();
+        loadingTable.setFillParent(true);
+        loadingTable.bottom().left().pad(10);
+        loadingTable.add(new AssetLoadingIndicator(skin));
+        stage.addActor(loadingTable);
+
         // Faz o Stage começar com fade-in do preto
         stage.getRoot().getColor().a = 0f;
         stage.getRoot().addAction(fadeIn(1f));
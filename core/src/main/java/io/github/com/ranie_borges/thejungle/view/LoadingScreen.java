@@ -51,6 +51,13 @@ public class LoadingScreen implements Screen {
         table.bottom().right().pad(10);
         table.add(infoLabel);
         stage.addActor(table);
+
+        // Map and battle assets stream in while this screen is shown (see Main.render)
+        Table loadingTable = new Table();
+        loadingTable.setFillParent(true);
+        loadingTable.bottom().left().pad(10);
+        loadingTable.add(new AssetLoadingIndicator(skin));
+        stage.addActor(loadingTable);
     }
 
     @Override
@@ -158,7 +158,7 @@ public class MainMenuScreen implements Screen {
     }
 
     /**
-     * Finds the most recently modified save file, prioritizing autosave.json if it
+     * Finds the most recently modified save file, prioritizing the autosave if it
      * exists
      *
      * @param saveManager The SaveManager instance
@@ -172,7 +172,7 @@ public class MainMenuScreen implements Screen {
         }
 
         for (File file : saveFiles) {
-            if (file.getName().equals("autosave.json")) {
+            if ("autosave".equals(SaveManager.getSaveName(file))) {
                 return file;
             }
         }
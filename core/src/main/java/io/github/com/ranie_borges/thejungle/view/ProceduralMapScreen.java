@@ -30,11 +30,16 @@ import io.github.com.ranie_borges.thejungle.model.entity.itens.Medicine;
 import io.github.com.ranie_borges.thejungle.model.events.events.SnakeEventManager;
 import io.github.com.ranie_borges.thejungle.model.stats.GameState;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.EntityStore;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
 import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
+import io.github.com.ranie_borges.thejungle.view.helpers.FrameProfiler;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
 import io.github.com.ranie_borges.thejungle.view.helpers.GameRenderHelper;
 import io.github.com.ranie_borges.thejungle.view.helpers.LightingManager;
 import io.github.com.ranie_borges.thejungle.view.helpers.TextureManager;
+import io.github.com.ranie_borges.thejungle.view.helpers.TileLayerCache;
 import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
 import io.github.com.ranie_borges.thejungle.core.Main;
 import com.badlogic.gdx.audio.Sound;
@@ -63,13 +68,9 @@ public class ProceduralMapScreen implements Screen, UI {
     private final Character character;
     private Ambient ambient;
     private int[][] map;
-    private List<Material> materiaisNoMapa = new ArrayList<>();
-    private List<Deer> deers = new ArrayList<>();
-    private List<Cannibal> cannibals = new ArrayList<>();
-    private List<Fish> fishes = new ArrayList<>();
-    private List<NPC> NPCS = new ArrayList<>();
-    private List<Boat> boats = new ArrayList<>();
-    private List<RadioGuy> radioguys = new ArrayList<>();
+    // Every creature and material of the current map
+    private final EntityStore entities = new EntityStore(MAP_WIDTH, MAP_HEIGHT, TILE_SIZE);
+    private final List<Material> nearbyMaterials = new ArrayList<>();
 
 
     private static final float NPC_INTERACTION_RADIUS = TILE_SIZE * 1.5f;
@@ -79,11 +80,14 @@ public class ProceduralMapScreen implements Screen, UI {
     private Texture classIcon;
     private Texture inventoryBackground, backpackIcon;
     private TextureManager textureManager;
+    private TileLayerCache tileLayerCache;
     private LightingManager lightingManager;
+    private boolean ownsLightingManager;
     private CraftingBar craftingBar;
     private Hud hud;
     private CharacterUI characterUI;
     private Stage stage;
+    private final FrameProfiler frameProfiler = new FrameProfiler();
 
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
@@ -156,6 +160,7 @@ public class ProceduralMapScreen implements Screen, UI {
             this.mapManager.externallySetCurrentAmbient(this.ambient);
         } else {
             this.mapManager = new MapManager(this.ambient);
+            this.mapManager.setWorldSeed(new WorldSeed(this.gameState.getWorldSeed()), this.gameState.getMapVisitIndex());
             this.gameState.setMapManager(this.mapManager);
         }
 
@@ -185,6 +190,9 @@ public class ProceduralMapScreen implements Screen, UI {
     @Override
     public void show() {
         try {
+            // Normally streamed on the earlier screens; only waits when they were skipped or a save was continued
+            GameAssets.finishLoading();
+
             stage = new Stage();
             Gdx.input.setInputProcessor(stage);
             skin = new Skin(Gdx.files.internal("mainMenu/uiskin.json"));
@@ -194,7 +202,11 @@ public class ProceduralMapScreen implements Screen, UI {
             textureManager = new TextureManager();
             logger.info("TextureManager initialized in show().");
 
-            lightingManager = new LightingManager();
+            // The game's manager is kept across screens, so its buffer is not reallocated for every new game or load
+            ownsLightingManager = game == null;
+            lightingManager = ownsLightingManager ? new LightingManager() : game.getLightingManager();
+            lightingManager.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            tileLayerCache = new TileLayerCache();
             craftingBar = new CraftingBar();
 
             if (character != null) {
@@ -208,11 +220,10 @@ public class ProceduralMapScreen implements Screen, UI {
             inventoryBackground = textureManager.getOrLoadTexture("Gameplay/backpackInside.png");
             backpackIcon = textureManager.getOrLoadTexture("Gameplay/backpack.png");
 
-            if (bgHudShared == null || bgHudShared.toString().contains("unknown")) {
-                try {
-                    bgHudShared = new Texture(Gdx.files.internal("GameScreen/boxhud.png"));
-                } catch (Exception e) {
-                    logger.error("Failed to load shared boxhud.png", e);
+            if (bgHudShared == null) {
+                bgHudShared = GameAssets.texture("GameScreen/boxhud.png");
+                if (bgHudShared == null) {
+                    logger.error("Failed to load shared boxhud.png");
                 }
             }
             promptFont = new BitmapFont();
@@ -232,12 +243,9 @@ public class ProceduralMapScreen implements Screen, UI {
 
             // Carregar o som da erupção
             if (eruptionSound == null) {
-                try {
-                    eruptionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/eruption.ogg"));
-                    logger.info("Som de erupção carregado.");
-                } catch (Exception e) {
-                    logger.error("Falha ao carregar o som de erupção: {}", e.getMessage(), e);
-                    eruptionSound = null;
+                eruptionSound = GameAssets.sound("sounds/eruption.ogg");
+                if (eruptionSound == null) {
+                    logger.error("Falha ao carregar o som de erupção.");
                 }
             }
 
@@ -356,13 +364,12 @@ public class ProceduralMapScreen implements Screen, UI {
 
         if (this.map != null) this.gameState.setCurrentMap(this.map);
         if (this.ambient != null) this.gameState.setCurrentAmbient(this.ambient);
+        this.gameState.setMapVisitIndex(mapManager.getVisitIndex());
 
         logger.info("Updating screen entities for ambient: {}", this.ambient != null ? this.ambient.getName() : "UNKNOWN AMBIENT");
 
         updateTextures(this.ambient);
 
-        if (lightingManager != null) lightingManager.initializeBuffer();
-
         if (characterManager != null) {
             characterManager.setMap(this.map);
             characterManager.setCurrentAmbient(this.ambient);
@@ -370,9 +377,9 @@ public class ProceduralMapScreen implements Screen, UI {
 
         if (character != null) {
             if (!playerSpawned) {
-                playerSpawned = character.setInitialSpawn(map, MAP_WIDTH, MAP_HEIGHT, TILE_SIZE, TILE_GRASS, TILE_CAVE, ambient != null ? ambient.getName() : "DefaultAmbient", ambient);
+                playerSpawned = character.setInitialSpawn(map, MAP_WIDTH, MAP_HEIGHT, TILE_SIZE, TILE_GRASS, TILE_CAVE, ambient != null ? ambient.getName() : "DefaultAmbient", ambient, mapManager.random(WorldSeed.Purpose.PLAYER_SPAWN));
             } else {
-                if (characterManager != null) characterManager.safeSpawnCharacter();
+                if (characterManager != null) characterManager.safeSpawnCharacter(mapManager.random(WorldSeed.Purpose.PLAYER_SPAWN));
             }
         } else {
             logger.error("Character is null during updateScreenMapAndEntities, cannot spawn.");
@@ -383,44 +390,47 @@ public class ProceduralMapScreen implements Screen, UI {
             this.map = mapManager.getMap();
             this.gameState.setCurrentMap(this.map);
         }
+        // Doors may have been carved into the same map array, so rebake the static tiles
+        if (tileLayerCache != null) tileLayerCache.invalidate();
 
         // Ensure resourceController is not null before using it
         if (resourceController != null && this.ambient != null && this.map != null) {
             logger.info("Spawning resources, creatures, and fish for ambient: {}", this.ambient.getName());
-            deers = resourceController.spawnCreatures(this.ambient, this.map);
-            cannibals = resourceController.spawnCannibals(this.ambient, this.map);
-            materiaisNoMapa = resourceController.spawnResources(this.ambient, this.map); // This should return a list of Material objects
-            fishes = resourceController.spawnFish(this.ambient, this.map);
-            NPCS = resourceController.spawnNPC(this.ambient, this.map);
-            boats = resourceController.spawnBoat(this.ambient, this.map);
-            radioguys = resourceController.spawnRadioGuy(this.ambient, this.map);
-
-
+            resourceController.setSeed(mapManager.deriveSeed(WorldSeed.Purpose.SPAWNS));
+            List<Material> materials = resourceController.spawnResources(this.ambient, this.map);
+            List<Deer> deers = resourceController.spawnCreatures(this.ambient, this.map);
+            List<Cannibal> cannibals = resourceController.spawnCannibals(this.ambient, this.map);
+            List<Fish> fishes = resourceController.spawnFish(this.ambient, this.map);
+            List<NPC> npcs = resourceController.spawnNPC(this.ambient, this.map);
+            List<Boat> boats = resourceController.spawnBoat(this.ambient, this.map);
+            List<RadioGuy> radioGuys = resourceController.spawnRadioGuy(this.ambient, this.map);
 
             // Initialize sprites for all spawned materials
-            if (materiaisNoMapa != null && textureManager != null) {
-                logger.info("Initializing sprites for {} materials on map.", materiaisNoMapa.size());
-                for (Material material : materiaisNoMapa) {
+            if (materials != null && textureManager != null) {
+                for (Material material : materials) {
                     if (material != null) {
-                        logger.debug("Initializing sprites for material: {}", material.getName());
                         material.initializeSprites(this.textureManager);
                     } else {
-                        logger.warn("Encountered a null material in materiaisNoMapa during sprite initialization.");
+                        logger.warn("Encountered a null material during sprite initialization.");
+                    }
+                }
+            } else if (textureManager == null) {
+                logger.warn("textureManager is null, cannot initialize material sprites.");
+            }
+
+            // Materials go in first so creatures are drawn over them
+            entities.clear();
+            entities.addAll(materials);
+            for (List<? extends Creature> creatures : List.of(deers, cannibals, fishes, npcs, boats, radioGuys)) {
+                if (creatures == null) continue;
+                for (Creature creature : creatures) {
+                    if (creature != null) {
+                        creature.reloadSprites();
+                        entities.add(creature);
                     }
                 }
-                logger.info("Finished initializing material sprites. Count: {}", materiaisNoMapa.size());
-            } else {
-                if (materiaisNoMapa == null) logger.warn("materiaisNoMapa list is null after spawning, cannot initialize sprites.");
-                if (textureManager == null) logger.warn("textureManager is null, cannot initialize material sprites.");
             }
-
-            // Reload sprites for creatures if necessary (though their constructors should handle initial sprite setup)
-            if (deers != null) for (Deer deer : deers) if (deer != null) deer.reloadSprites(); else logger.warn("Null deer in list.");
-            if (cannibals != null) for (Cannibal cannibal : cannibals) if (cannibal != null) cannibal.reloadSprites(); else logger.warn("Null cannibal in list.");
-            if (fishes != null) for (Fish fish : fishes) if (fish != null) fish.reloadSprites(); else logger.warn("Null fish in list.");
-            if (NPCS != null) for (NPC npc : NPCS) if (npc != null) npc.reloadSprites(); else logger.warn("Null NPC in list.");
-            if (boats != null) for (Boat boat : boats) if (boat != null) boat.reloadSprites(); else logger.warn("Null Boat in list.");
-            if (radioguys != null) for (RadioGuy radioguy : radioguys) if (radioguy != null) radioguy.reloadSprites(); else logger.warn("Null RadioGuy in list.");
+            logger.info("{} entities on map ({} materials)", entities.size(), materials != null ? materials.size() : 0);
 
         } else {
             logger.warn("Cannot spawn resources/creatures: resourceController, ambient, or map is null.");
@@ -435,6 +445,8 @@ public class ProceduralMapScreen implements Screen, UI {
         if (this.gameState.getChatController() != null && !gameOverTriggered && this.ambient != null) {
             this.gameState.getChatController().addMessage("Entered " + this.ambient.getName() + ".");
         }
+        // Build the maps the next door can lead to while the player explores this one
+        mapManager.pregenerateNextMaps();
     }
 
     private void handleDoorTraversal(Ambient ambientAtDoor) {
@@ -489,12 +501,26 @@ public class ProceduralMapScreen implements Screen, UI {
 
     @Override
     public void render(float delta) {
+        frameProfiler.handleInput();
+        frameProfiler.beginFrame();
+        try {
+            renderFrame(delta);
+        } finally {
+            frameProfiler.endFrame(batch);
+        }
+        if (Gdx.graphics != null) {
+            frameProfiler.renderOverlay(batch, font, SIDEBAR_WIDTH + 10, Gdx.graphics.getHeight() - 10, delta);
+        }
+    }
+
+    private void renderFrame(float delta) {
         if (gameOverTriggered) {
             if (stage != null) { stage.act(delta); stage.draw(); }
             return;
         }
-        SnakeEventManager.handleInput();
-        if (SnakeEventManager.isWaitingForSpace()) {
+        SnakeEventManager snakeEvents = characterManager.getSnakeEvents();
+        snakeEvents.handleInput(characterManager.getInput());
+        if (snakeEvents.isWaitingForSpace()) {
             Gdx.gl.glClearColor(0, 0, 0, 1); Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
             if (batch != null && renderHelper != null) renderHelper.renderSnakeAlertScreen(batch);
             return;
@@ -513,6 +539,7 @@ public class ProceduralMapScreen implements Screen, UI {
                     if (!this.mapTransitionTriggered) {
                         character.updateStateTime(delta);
                         characterManager.updateCharacterStats(delta);
+                        if (hud != null) hud.update(delta);
                         if (gameStateManager != null) gameStateManager.update(delta, character, this.ambient, this.map);
                         blinkTimer += delta;
                         if (blinkTimer >= 0.5f) { blinkVisible = !blinkVisible; blinkTimer = 0f; }
@@ -550,8 +577,8 @@ public class ProceduralMapScreen implements Screen, UI {
         }
 
         // Lógica de renderização normal da ProceduralMapScreen
-        SnakeEventManager.handleInput();
-        if (SnakeEventManager.isWaitingForSpace()) {
+        snakeEvents.handleInput(characterManager.getInput());
+        if (snakeEvents.isWaitingForSpace()) {
             Gdx.gl.glClearColor(0, 0, 0, 1);
             Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
             if (batch != null && renderHelper != null) {
@@ -560,24 +587,16 @@ public class ProceduralMapScreen implements Screen, UI {
             return;
         }
 
+        float playerX = character.getPosition().x;
+        float playerY = character.getPosition().y;
+
         // Verifica se o jogador inicia uma batalha ao pressionar E
         if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            Creature enemy = null;
             // Verifica se há canibal próximo
-            for (Cannibal cannibal : cannibals) {
-                if (cannibal != null && character.getPosition().dst(cannibal.getPosition()) < TILE_SIZE * 1.5f) {
-                    enemy = cannibal;
-                    break;
-                }
-            }
+            Creature enemy = entities.findNearest(playerX, playerY, TILE_SIZE * 1.5f, Cannibal.class);
             // Se não encontrou canibal, procura por cervos
             if (enemy == null) {
-                for (Deer deer : deers) {
-                    if (deer != null && character.getPosition().dst(deer.getPosition()) < TILE_SIZE * 1.5f) {
-                        enemy = deer;
-                        break;
-                    }
-                }
+                enemy = entities.findNearest(playerX, playerY, TILE_SIZE * 1.5f, Deer.class);
             }
             // Se um inimigo for encontrado, inicia a batalha
             if (enemy != null) {
@@ -594,14 +613,11 @@ public class ProceduralMapScreen implements Screen, UI {
             Material selectedTree = null;
             int playerTileX = (int)((character.getPosition().x + TILE_SIZE / 2f) / TILE_SIZE);
             int playerTileY = (int)((character.getPosition().y + TILE_SIZE / 2f) / TILE_SIZE);
-            for (Material material : materiaisNoMapa) {
+            nearbyMaterials.clear();
+            for (Material material : entities.queryTile(playerTileX, playerTileY, Material.class, nearbyMaterials)) {
                 if ("Tree".equalsIgnoreCase(material.getName())) {
-                    int treeTileX = (int)((material.getPosition().x + TILE_SIZE / 2f) / TILE_SIZE);
-                    int treeTileY = (int)((material.getPosition().y + TILE_SIZE / 2f) / TILE_SIZE);
-                    if (playerTileX == treeTileX && playerTileY == treeTileY) {
-                        selectedTree = material;
-                        break;
-                    }
+                    selectedTree = material;
+                    break;
                 }
             }
             if (selectedTree != null) {
@@ -611,51 +627,39 @@ public class ProceduralMapScreen implements Screen, UI {
                 Gdx.app.log("ProceduralMapScreen", "Nenhuma árvore exata encontrada para cortar.");
             }
         }
+        frameProfiler.split(FrameProfiler.Phase.LOGIC);
         lightingManager.beginLightBuffer();
-        batch.begin();
+        frameProfiler.split(FrameProfiler.Phase.LIGHTING);
         renderHelper.updateCameraOffset(character.getPosition().x, character.getPosition().y, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         offsetX = renderHelper.getOffsetX();
         offsetY = renderHelper.getOffsetY();
 
-        renderHelper.renderMap(batch, this.map, textureManager.getFloorTexture(), textureManager.getWallTexture(), this.ambient);
-        renderHelper.renderMaterials(batch, materiaisNoMapa);
-        renderHelper.renderCreatures(batch, deers, cannibals, character, fishes,NPCS,boats, radioguys);
-
-        if (this.ambient instanceof Jungle) {
-            Jungle jungle = (Jungle) this.ambient;
-            Texture grassOverlay = jungle.getTallGrassTexture();
-            if (grassOverlay != null) {
-                for (int y_coord = 0; y_coord < MAP_HEIGHT; y_coord++) {
-                    for (int x_coord = 0; x_coord < MAP_WIDTH; x_coord++) {
-                        if (jungle.isTallGrass(x_coord, y_coord)) {
-                            float dx = x_coord * TILE_SIZE + offsetX;
-                            float dy = y_coord * TILE_SIZE + offsetY;
-                            batch.draw(grassOverlay, dx, dy, TILE_SIZE, TILE_SIZE);
-                        }
-                    }
-                }
-            }
-        }
+        tileLayerCache.renderGround(batch.getProjectionMatrix(), this.map, this.ambient, textureManager.getFloorTexture(), textureManager.getWallTexture(), offsetX, offsetY);
+        frameProfiler.split(FrameProfiler.Phase.MAP);
+        batch.begin();
+        renderHelper.renderEntities(batch, entities, character);
         batch.end();
-
+        frameProfiler.split(FrameProfiler.Phase.ENTITIES);
+        tileLayerCache.renderOverlay(batch.getProjectionMatrix(), offsetX, offsetY);
+        frameProfiler.split(FrameProfiler.Phase.MAP);
+
+        boolean inTallGrass = character.isInTallGrass();
+        lightingManager.clearLights();
+        lightingManager.setDarkness(LightingManager.darknessFor(this.ambient, inTallGrass));
+        lightingManager.addLight(character.getPosition().x + offsetX + TILE_SIZE / 2f, character.getPosition().y + offsetY + TILE_SIZE / 2f,
+            inTallGrass ? LightingManager.TALL_GRASS_LIGHT_RADIUS : LightingManager.PLAYER_LIGHT_RADIUS);
         lightingManager.endLightBufferAndRender(batch);
+        frameProfiler.split(FrameProfiler.Phase.LIGHTING);
 
-        if (character.isInTallGrass()) {
-            float playerScreenX = character.getPosition().x + offsetX + TILE_SIZE / 2f;
-            float playerScreenY = character.getPosition().y + offsetY + TILE_SIZE / 2f;
-            if(shapeRenderer != null) lightingManager.renderTallGrassEffect(shapeRenderer, playerScreenX, playerScreenY);
-        }
-
-        for (Material m : materiaisNoMapa) {
+        nearbyMaterials.clear();
+        for (Material m : entities.queryRadius(playerX, playerY, TILE_SIZE * 1.5f, Material.class, nearbyMaterials)) {
             float playerDistToMaterial = character.getPosition().dst(m.getPosition());
-            if (playerDistToMaterial < TILE_SIZE * 1.5f) {
-                float materialScreenX = m.getPosition().x + offsetX; float materialScreenY = m.getPosition().y + offsetY;
-                boolean mouseIsOverMaterial = Gdx.input.getX() >= materialScreenX && Gdx.input.getX() <= materialScreenX + TILE_SIZE && (Gdx.graphics.getHeight() - Gdx.input.getY()) >= materialScreenY && (Gdx.graphics.getHeight() - Gdx.input.getY()) <= materialScreenY + TILE_SIZE;
-                if (mouseIsOverMaterial || playerDistToMaterial < TILE_SIZE * 0.8f) {
-                    if ("Medicinal".equalsIgnoreCase(m.getName()) && "Plant".equalsIgnoreCase(m.getType())) Medicine.renderUseOption(batch, m, character, offsetX, offsetY);
-                    else if ("Berry".equalsIgnoreCase(m.getName())) renderHelper.renderInteractionPrompt(batch, m, "Collect Berry");
-                    else if ("rock".equalsIgnoreCase(m.getName()) || "stick".equalsIgnoreCase(m.getName())) renderHelper.renderInteractionPrompt(batch, m, "Collect " + m.getName());
-                }
+            float materialScreenX = m.getPosition().x + offsetX; float materialScreenY = m.getPosition().y + offsetY;
+            boolean mouseIsOverMaterial = Gdx.input.getX() >= materialScreenX && Gdx.input.getX() <= materialScreenX + TILE_SIZE && (Gdx.graphics.getHeight() - Gdx.input.getY()) >= materialScreenY && (Gdx.graphics.getHeight() - Gdx.input.getY()) <= materialScreenY + TILE_SIZE;
+            if (mouseIsOverMaterial || playerDistToMaterial < TILE_SIZE * 0.8f) {
+                if ("Medicinal".equalsIgnoreCase(m.getName()) && "Plant".equalsIgnoreCase(m.getType())) Medicine.renderUseOption(batch, m, character, offsetX, offsetY);
+                else if ("Berry".equalsIgnoreCase(m.getName())) renderHelper.renderInteractionPrompt(batch, m, "Collect Berry");
+                else if ("rock".equalsIgnoreCase(m.getName()) || "stick".equalsIgnoreCase(m.getName())) renderHelper.renderInteractionPrompt(batch, m, "Collect " + m.getName());
             }
         }
 
@@ -664,25 +668,17 @@ public class ProceduralMapScreen implements Screen, UI {
             if (craftingBar != null) craftingBar.render(batch, shapeRenderer, character, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         }
         if (hud != null) hud.render(batch, shapeRenderer, character, gameState, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        frameProfiler.split(FrameProfiler.Phase.HUD);
 
         if (stage != null) { stage.act(delta); stage.draw(); }
+        frameProfiler.split(FrameProfiler.Phase.STAGE);
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.E)) { //
             if (!showInventory) { //
                 boolean actionTaken = false;
                 // Verifica se o jogador tentou interagir com um NPC
-                if (this.NPCS != null && !this.NPCS.isEmpty() && character != null) {
-                    NPC closestNpc = null;
-                    float minDistance = NPC_INTERACTION_RADIUS;
-
-                    for (NPC npc : this.NPCS) {
-                        if (npc == null) continue;
-                        float distanceToNpc = character.getPosition().dst(npc.getPosition());
-                        if (distanceToNpc < minDistance) {
-                            minDistance = distanceToNpc;
-                            closestNpc = npc;
-                        }
-                    }
+                if (character != null) {
+                    NPC closestNpc = entities.findNearest(playerX, playerY, NPC_INTERACTION_RADIUS, NPC.class);
 
                     if (closestNpc != null) {
                         // Interage com o NPC mais próximo encontrado dentro do raio
@@ -697,18 +693,8 @@ public class ProceduralMapScreen implements Screen, UI {
                     }
                 }
                 // Verifica se o jogador tentou interagir com um barco
-                if (this.boats != null && !this.boats.isEmpty() && character != null) {
-                    Boat closestBoat = null;
-                    float minDistance = Boat_INTERACTION_RADIUS;
-
-                    for (Boat boat : this.boats) {
-                        if (boat == null) continue;
-                        float distanceToBoat = character.getPosition().dst(boat.getPosition());
-                        if (distanceToBoat < minDistance) {
-                            minDistance = distanceToBoat;
-                            closestBoat = boat;
-                        }
-                    }
+                if (character != null) {
+                    Boat closestBoat = entities.findNearest(playerX, playerY, Boat_INTERACTION_RADIUS, Boat.class);
 
                     if (closestBoat != null) {
                         // Interage com o barco mais próximo encontrado dentro do raio
@@ -723,18 +709,8 @@ public class ProceduralMapScreen implements Screen, UI {
                     }
                 }
                 // Verifica se o jogador tentou interagir com um rádio
-                if (this.radioguys != null && !this.radioguys.isEmpty() && character != null) {
-                    RadioGuy closestRadioGuy = null;
-                    float minDistance = RadioGuy_INTERACTION_RADIUS;
-
-                    for (RadioGuy radioguy : this.radioguys) {
-                        if (radioguy == null) continue;
-                        float distanceToRadioGuy = character.getPosition().dst(radioguy.getPosition());
-                        if (distanceToRadioGuy < minDistance) {
-                            minDistance = distanceToRadioGuy;
-                            closestRadioGuy = radioguy;
-                        }
-                    }
+                if (character != null) {
+                    RadioGuy closestRadioGuy = entities.findNearest(playerX, playerY, RadioGuy_INTERACTION_RADIUS, RadioGuy.class);
 
                     if (closestRadioGuy != null) {
                         // Interage com o rádio mais próximo encontrado dentro do raio
@@ -763,7 +739,7 @@ public class ProceduralMapScreen implements Screen, UI {
                         }
                     }
                     if (!actionTaken) { //
-                        character.tryCollectNearbyMaterial(materiaisNoMapa); //
+                        character.tryCollectNearbyMaterial(entities); //
                     }
                 }
 
@@ -777,14 +753,12 @@ public class ProceduralMapScreen implements Screen, UI {
                 }
             }
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F) && character != null && this.radioguys != null && !this.radioguys.isEmpty()) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F) && character != null) {
             // Supondo um raio de proximidade de 50 pixels
             float interactRadius = 50f;
-            for (io.github.com.ranie_borges.thejungle.model.entity.creatures.RadioGuy rg : this.radioguys) {
-                if (character.getPosition().dst(rg.getPosition()) <= interactRadius) {
-                    rg.interact(character, game);
-                    break;
-                }
+            RadioGuy rg = entities.findNearest(playerX, playerY, interactRadius, RadioGuy.class);
+            if (rg != null) {
+                rg.interact(character, game);
             }
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
@@ -798,7 +772,7 @@ public class ProceduralMapScreen implements Screen, UI {
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.F)) {
             if (character != null && ambient instanceof LakeRiver) {
-                boolean captured = character.tryCaptureFish(fishes);
+                boolean captured = character.tryCaptureFish(entities);
                 if (captured) {
                     logger.info("{} captured a fish!", character.getName());
                 } else {
@@ -809,16 +783,12 @@ public class ProceduralMapScreen implements Screen, UI {
 
     }
     public void removeEnemyFromMap(Creature enemy) {
-        if (enemy instanceof Deer) {
-            deers.remove(enemy);
-        } else if (enemy instanceof Cannibal) {
-            cannibals.remove(enemy);
-        }
+        entities.remove(enemy);
         logger.info("Inimigo {} removido do mapa.", enemy.getName());
     }
    public void removeTreeFromMap(Material tree) {
-        if (materiaisNoMapa != null && materiaisNoMapa.contains(tree)) {
-            materiaisNoMapa.remove(tree);
+        if (entities.contains(tree)) {
+            entities.remove(tree);
             logger.info("Árvore {} removida do mapa.", tree.getName());
         } else {
             logger.warn("Árvore {} não encontrada no mapa para remoção.", tree.getName());
@@ -834,6 +804,8 @@ public class ProceduralMapScreen implements Screen, UI {
             saveNameToDelete = this.game.getScenarioController().getCurrentSaveFileName();
         }
         if (saveNameToDelete == null) saveNameToDelete = "autosave.json";
+        // Make sure no background save recreates the file after GameOverScreen deletes it
+        if (gameStateManager != null) gameStateManager.cancelPendingSaves();
 
         if (this.game != null && this.game.getScenarioController() != null) {
             this.game.getScenarioController().triggerGameOver(saveNameToDelete);
@@ -857,7 +829,7 @@ public class ProceduralMapScreen implements Screen, UI {
         if (stage != null) stage.getViewport().update(width, height, true);
         offsetX = (width - (MAP_WIDTH * TILE_SIZE)) / 2f;
         offsetY = (height - (MAP_HEIGHT * TILE_SIZE)) / 2f;
-        if (lightingManager != null) lightingManager.initializeBuffer();
+        if (lightingManager != null) lightingManager.resize(width, height);
     }
 
     @Override
@@ -883,32 +855,34 @@ public class ProceduralMapScreen implements Screen, UI {
             if (eruptionSoundId != -1) {
                 eruptionSound.stop(eruptionSoundId); // Garante que pare o som antes de descartar
             }
-            eruptionSound.dispose();
-            eruptionSound = null;
-            logger.info("Som de erupção descartado.");
+            eruptionSound = null; // Owned by GameAssets
+            eruptionSoundId = -1;
         }
         try {
             if (gameStateManager != null && character != null && this.ambient != null && this.map != null && !gameOverTriggered) {
                 gameStateManager.autosave(character, this.ambient, this.map);
             }
+            if (gameStateManager != null) gameStateManager.dispose(); // Flushes the autosave queued above
+            if (mapManager != null) mapManager.shutdownPregeneration();
             if (batch != null) batch.dispose(); batch = null;
             if (shapeRenderer != null) shapeRenderer.dispose(); shapeRenderer = null;
             if (font != null) font.dispose(); font = null;
             if (promptFont != null) promptFont.dispose(); promptFont = null;
             if (textureManager != null) textureManager.dispose(); textureManager = null;
-            if (lightingManager != null) lightingManager.dispose(); lightingManager = null;
+            if (lightingManager != null && ownsLightingManager) lightingManager.dispose();
+            lightingManager = null;
+            if (tileLayerCache != null) tileLayerCache.dispose(); tileLayerCache = null;
             if (renderHelper != null) renderHelper.dispose(); renderHelper = null;
             if (craftingBar != null) craftingBar.dispose(); craftingBar = null;
+            if (gameState != null && gameState.getChatController() != null) gameState.getChatController().dispose();
 
-            // Static/shared textures like bgHudShared or Medicine.bgHud should ideally be managed by an AssetManager
-            // For now, not re-disposing them here to avoid issues if they are used elsewhere or already handled.
-            // if (bgHudShared != null && !bgHudShared.isDisposed()) { /* bgHudShared.dispose(); */ bgHudShared = null; }
+            // bgHudShared is owned by GameAssets and disposed with it
 
             if (stage != null) stage.dispose(); stage = null;
             // Skin is loaded in show() and might be shared or used by other screens if not careful.
             // If it's exclusively for this screen and loaded by it, dispose it.
             // if (skin != null) skin.dispose(); skin = null;
-            SnakeEventManager.dispose();
+            characterManager.getSnakeEvents().dispose();
         } catch (Exception e) {
             logger.error("Error disposing resources in ProceduralMapScreen: {}", e.getMessage(), e);
         }
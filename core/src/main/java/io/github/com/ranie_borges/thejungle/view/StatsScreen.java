@@ -22,6 +22,7 @@ import io.github.com.ranie_borges.thejungle.model.entity.characters.Hunter;
 import io.github.com.ranie_borges.thejungle.model.entity.characters.Lumberjack;
 import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
 import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.view.helpers.GameAssets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -253,16 +254,16 @@ public class StatsScreen implements Screen {
         Texture texture;
         switch (profession) {
             case SURVIVOR_PROFESSION:
-                texture = new Texture("StatsScreen/desempregadoFundo.png");
+                texture = GameAssets.texture("StatsScreen/desempregadoFundo.png");
                 break;
             case HUNTER_PROFESSION:
-                texture = new Texture("StatsScreen/cacadorFundo.png");
+                texture = GameAssets.texture("StatsScreen/cacadorFundo.png");
                 break;
             case LUMBERJACK_PROFESSION:
-                texture = new Texture("StatsScreen/lenhadorFundo.png");
+                texture = GameAssets.texture("StatsScreen/lenhadorFundo.png");
                 break;
             case DOCTOR_PROFESSION:
-                texture = new Texture("StatsScreen/medicoFundo.png");
+                texture = GameAssets.texture("StatsScreen/medicoFundo.png");
                 break;
             default:
                 throw new IllegalArgumentException("Invalid profession was passed as argument");
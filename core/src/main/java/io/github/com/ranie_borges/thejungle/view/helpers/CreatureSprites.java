@@ -0,0 +1,56 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flyweight sprite cache for creatures. Every instance of a creature type shares the same
+ * sprite map, so spawning creatures never loads textures or allocates sprites.
+ * <p>
+ * The shared sprites are positioned and sized right before each draw by
+ * {@link GameRenderHelper}, so no per-instance state lives in them.
+ * Must only be used from the render thread.
+ */
+public final class CreatureSprites {
+    private static final Logger logger = LoggerFactory.getLogger(CreatureSprites.class);
+
+    private static final Map<String, Map<String, Sprite>> cache = new HashMap<>();
+
+    private CreatureSprites() {
+    }
+
+    /**
+     * Get the shared sprite map for a creature whose only animation is "idle"
+     *
+     * @param idlePath Internal asset path of the idle image, also used as cache key
+     * @return Unmodifiable sprite map, empty if the image could not be loaded or there is no GL context
+     */
+    public static Map<String, Sprite> idle(String idlePath) {
+        if (!TextureRegistry.isGraphicsAvailable()) {
+            return Collections.emptyMap();
+        }
+        TextureRegion region = TextureRegistry.getRegion(idlePath);
+        if (region == null) {
+            logger.error("CreatureSprites: no image for '{}'", idlePath);
+            return Collections.emptyMap();
+        }
+
+        Map<String, Sprite> sprites = cache.get(idlePath);
+        // Rebuild if the registry reloaded the texture since the sprite was made
+        if (sprites == null || sprites.get("idle").getTexture() != region.getTexture()) {
+            sprites = Collections.singletonMap("idle", new Sprite(region));
+            cache.put(idlePath, sprites);
+        }
+        return sprites;
+    }
+
+    public static void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,293 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times the phases of a frame and shows them in a toggleable overlay (F3).
+ * <p>
+ * A frame is bracketed by {@link #beginFrame()} and {@link #endFrame(SpriteBatch)}; each
+ * {@link #split(Phase)} charges the time since the previous split to a phase, so phases never nest
+ * and code between splits is never counted twice. Frame times go to a {@link FrameTimeHistogram}
+ * for the whole session, which F4 exports with the phase averages to {@code profiling/}.
+ * Draw calls, texture binds and shader switches come from a {@link GLProfiler}, which is only
+ * enabled while the overlay is visible since it wraps every GL call. GC pauses and the bytes
+ * allocated by the render thread are read from the JVM management beans.
+ * Must only be used from the render thread.
+ */
+public class FrameProfiler {
+    private static final Logger logger = LoggerFactory.getLogger(FrameProfiler.class);
+    private static final String EXPORT_DIRECTORY = "profiling";
+    private static final float SMOOTHING = 0.1f;
+    private static final float OVERLAY_REFRESH_SECONDS = 0.25f;
+
+    /**
+     * Parts of ProceduralMapScreen.render; OTHER is whatever ran after the last split
+     */
+    public enum Phase {
+        LOGIC("Logic"),
+        MAP("Map"),
+        ENTITIES("Entities"),
+        LIGHTING("Lighting"),
+        HUD("HUD/chat"),
+        STAGE("Stage"),
+        OTHER("Other");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final FrameTimeHistogram histogram = new FrameTimeHistogram();
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final float[] phaseAverageMillis = new float[PHASES.length];
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean threads = allocationBean();
+    private final StringBuilder overlayText = new StringBuilder(512);
+    private final Color previousFontColor = new Color();
+    private GLProfiler glProfiler;
+
+    private boolean overlayVisible = false;
+    private float overlayRefreshTimer = OVERLAY_REFRESH_SECONDS;
+    private long frameStart;
+    private long lastSplit;
+    private long allocatedAtStart;
+    private int lastTotalRenderCalls;
+
+    private float frameAverageMillis;
+    private float allocatedAverageBytes;
+    private int batchRenderCalls;
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private long gcCount;
+    private long gcMillis;
+    private long gcPauses;
+    private long gcPauseMillis;
+    private long lastGcPauseMillis;
+
+    public FrameProfiler() {
+        gcCount = readGcCount();
+        gcMillis = readGcMillis();
+    }
+
+    /**
+     * Toggle the overlay (F3) and export the histogram (F4)
+     */
+    public void handleInput() {
+        if (Gdx.input == null) {
+            return;
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            setOverlayVisible(!overlayVisible);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            export();
+        }
+    }
+
+    public void beginFrame() {
+        if (glProfiler != null && glProfiler.isEnabled()) {
+            glProfiler.reset();
+        }
+        frameStart = System.nanoTime();
+        lastSplit = frameStart;
+        allocatedAtStart = allocatedBytes();
+    }
+
+    /**
+     * Charge the time since the previous split (or the start of the frame) to a phase
+     */
+    public void split(Phase phase) {
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - lastSplit;
+        lastSplit = now;
+    }
+
+    /**
+     * @param batch The screen's batch, whose render calls are counted; may be null
+     */
+    public void endFrame(SpriteBatch batch) {
+        split(Phase.OTHER);
+        long frameNanos = lastSplit - frameStart;
+        histogram.record(frameNanos);
+        frameAverageMillis += (frameNanos / 1_000_000f - frameAverageMillis) * SMOOTHING;
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseAverageMillis[i] += (phaseNanos[i] / 1_000_000f - phaseAverageMillis[i]) * SMOOTHING;
+            phaseNanos[i] = 0;
+        }
+
+        long allocated = allocatedBytes() - allocatedAtStart;
+        allocatedAverageBytes += (allocated - allocatedAverageBytes) * SMOOTHING;
+
+        if (batch != null) {
+            batchRenderCalls = batch.totalRenderCalls - lastTotalRenderCalls;
+            lastTotalRenderCalls = batch.totalRenderCalls;
+        }
+        if (glProfiler != null && glProfiler.isEnabled()) {
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            shaderSwitches = glProfiler.getShaderSwitches();
+        }
+
+        long count = readGcCount();
+        long millis = readGcMillis();
+        if (count > gcCount) {
+            gcPauses += count - gcCount;
+            lastGcPauseMillis = millis - gcMillis;
+            gcPauseMillis += lastGcPauseMillis;
+            if (lastGcPauseMillis > frameAverageMillis * 2) {
+                logger.debug("GC pause of {} ms during frame of {} ms", lastGcPauseMillis, frameNanos / 1_000_000f);
+            }
+        }
+        gcCount = count;
+        gcMillis = millis;
+    }
+
+    /**
+     * Draw the overlay with its top-left corner at (x, y) if it is visible; begins and ends the batch itself
+     */
+    public void renderOverlay(SpriteBatch batch, BitmapFont font, float x, float y, float delta) {
+        if (!overlayVisible || batch == null || font == null) {
+            return;
+        }
+        overlayRefreshTimer += delta;
+        if (overlayRefreshTimer >= OVERLAY_REFRESH_SECONDS) {
+            overlayRefreshTimer = 0f;
+            rebuildOverlayText();
+        }
+        previousFontColor.set(font.getColor());
+        batch.begin();
+        font.setColor(Color.YELLOW);
+        font.draw(batch, overlayText, x, y);
+        font.setColor(previousFontColor);
+        batch.end();
+    }
+
+    private void rebuildOverlayText() {
+        overlayText.setLength(0);
+        overlayText.append(String.format(Locale.ROOT, "FPS %d  frame %.2f ms  p50 %.2f  p95 %.2f  p99 %.2f  max %.1f%n",
+            Gdx.graphics != null ? Gdx.graphics.getFramesPerSecond() : 0, frameAverageMillis,
+            histogram.percentileMillis(50), histogram.percentileMillis(95), histogram.percentileMillis(99), histogram.getMaxMillis()));
+        for (Phase phase : PHASES) {
+            overlayText.append(String.format(Locale.ROOT, "  %-9s %6.2f ms%n", phase.label, phaseAverageMillis[phase.ordinal()]));
+        }
+        overlayText.append(String.format(Locale.ROOT, "Batch flushes %d  draw calls %d  texture binds %d  shader switches %d%n",
+            batchRenderCalls, drawCalls, textureBindings, shaderSwitches));
+        overlayText.append(String.format(Locale.ROOT, "Alloc %.1f KB/frame  GC %d pauses, %d ms (last %d ms)",
+            allocatedAverageBytes / 1024f, gcPauses, gcPauseMillis, lastGcPauseMillis));
+    }
+
+    public void setOverlayVisible(boolean visible) {
+        overlayVisible = visible;
+        if (visible && glProfiler == null && Gdx.graphics != null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+        }
+        if (glProfiler != null) {
+            if (visible) glProfiler.enable();
+            else glProfiler.disable();
+        }
+        overlayRefreshTimer = OVERLAY_REFRESH_SECONDS;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    public FrameTimeHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Write the session's frame-time percentiles, phase averages, GC totals and histogram buckets
+     * to a CSV file under {@code profiling/}
+     *
+     * @return The file written, or null if it could not be written
+     */
+    public Path export() {
+        Path file = Path.of(EXPORT_DIRECTORY,
+            "frames-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        try {
+            Files.createDirectories(file.getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+                out.println("metric,value");
+                out.printf(Locale.ROOT, "frames,%d%n", histogram.getCount());
+                out.printf(Locale.ROOT, "mean_ms,%.3f%n", histogram.getMeanMillis());
+                out.printf(Locale.ROOT, "p50_ms,%.3f%n", histogram.percentileMillis(50));
+                out.printf(Locale.ROOT, "p95_ms,%.3f%n", histogram.percentileMillis(95));
+                out.printf(Locale.ROOT, "p99_ms,%.3f%n", histogram.percentileMillis(99));
+                out.printf(Locale.ROOT, "max_ms,%.3f%n", histogram.getMaxMillis());
+                out.printf(Locale.ROOT, "gc_pauses,%d%n", gcPauses);
+                out.printf(Locale.ROOT, "gc_pause_ms,%d%n", gcPauseMillis);
+                for (Phase phase : PHASES) {
+                    out.printf(Locale.ROOT, "phase_%s_avg_ms,%.3f%n", phase.name().toLowerCase(Locale.ROOT), phaseAverageMillis[phase.ordinal()]);
+                }
+                out.println();
+                out.println("bucket_upper_ms,frames");
+                int last = histogram.getBucketCount() - 1;
+                for (int i = 0; i < last; i++) {
+                    if (histogram.getBucket(i) > 0) {
+                        out.printf(Locale.ROOT, "%.2f,%d%n", (i + 1) * FrameTimeHistogram.BUCKET_MICROS / 1000f, histogram.getBucket(i));
+                    }
+                }
+                out.printf(Locale.ROOT, "inf,%d%n", histogram.getBucket(last));
+            }
+            logger.info("Frame profile exported to {}", file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            logger.error("Failed to export frame profile to {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private long readGcCount() {
+        long count = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            count += Math.max(0, collectors.get(i).getCollectionCount());
+        }
+        return count;
+    }
+
+    private long readGcMillis() {
+        long millis = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            millis += Math.max(0, collectors.get(i).getCollectionTime());
+        }
+        return millis;
+    }
+
+    private long allocatedBytes() {
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    // Per-thread allocation counters are a HotSpot extension; without them allocations read as 0
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of frame times, cheap enough to record every frame of a session.
+ * <p>
+ * Buckets are {@link #BUCKET_MICROS} wide up to {@link #MAX_MILLIS}; slower frames land in an
+ * overflow bucket but still count towards the mean and max. Percentiles are resolved to the upper
+ * edge of their bucket (capped at the slowest frame). Recording never allocates.
+ */
+public class FrameTimeHistogram {
+    public static final int BUCKET_MICROS = 250;
+    public static final int MAX_MILLIS = 250;
+    private static final int BUCKETS = MAX_MILLIS * 1000 / BUCKET_MICROS;
+
+    // Last slot is the overflow bucket
+    private final long[] counts = new long[BUCKETS + 1];
+    private long total;
+    private long sumNanos;
+    private long maxNanos;
+
+    public void record(long frameNanos) {
+        int bucket = (int) Math.min(BUCKETS, Math.max(0, frameNanos / 1000 / BUCKET_MICROS));
+        counts[bucket]++;
+        total++;
+        sumNanos += frameNanos;
+        maxNanos = Math.max(maxNanos, frameNanos);
+    }
+
+    /**
+     * @param percentile Between 0 and 100
+     * @return Frame time in milliseconds under which that share of frames fall
+     */
+    public float percentileMillis(double percentile) {
+        if (total == 0) {
+            return 0f;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min((i + 1) * BUCKET_MICROS / 1000f, getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    public float getMeanMillis() {
+        return total == 0 ? 0f : sumNanos / (float) total / 1_000_000f;
+    }
+
+    public float getMaxMillis() {
+        return maxNanos / 1_000_000f;
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * @return Frames in a bucket; index {@link #getBucketCount()} - 1 is the overflow bucket
+     */
+    public long getBucket(int index) {
+        return counts[index];
+    }
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+}
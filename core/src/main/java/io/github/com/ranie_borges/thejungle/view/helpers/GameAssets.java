@@ -0,0 +1,375 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectLongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Session-wide {@link AssetManager} holding everything the map and battle screens draw or play,
+ * so entering them does not decode anything from disk.
+ * <p>
+ * The manifest is a list of patterns per asset type, expanded against {@value #ASSET_LIST} (every
+ * file under assets, written by the {@code generateAssetList} Gradle task) or, when that file is
+ * missing, against a listing of the assets folder. Images packed into an atlas by
+ * {@code packTextures} are skipped, since {@link TextureRegistry} draws them from the atlas.
+ * <p>
+ * {@link #queueManifest()} is called once at startup and {@link #update()} every frame, so
+ * textures and sounds stream in on the menu, loading and letter screens; {@link #getProgress()}
+ * is weighted by file size. A screen entered before streaming finished waits for the rest.
+ * Everything here is owned by this class: callers must not dispose it. Must only be used from
+ * the render thread.
+ */
+public final class GameAssets {
+    private static final Logger logger = LoggerFactory.getLogger(GameAssets.class);
+
+    /** Asset list written by the generateAssetList Gradle task, one path per line */
+    public static final String ASSET_LIST = "assets.txt";
+    /** Time spent loading per frame while the game is running, in milliseconds */
+    private static final int FRAME_BUDGET_MS = 8;
+
+    // What the map and battle screens use, queued in this order: atlases first (their images are
+    // skipped below), then the profession portraits the stats screen shows before the game starts
+    private static final ManifestEntry[] MANIFEST = {
+        new ManifestEntry(TextureAtlas.class, "atlas/*.atlas"),
+        new ManifestEntry(Texture.class, "StatsScreen/*Fundo.png"),
+        new ManifestEntry(Texture.class,
+            "scenarios/**.png", "scenarios/**.jpg", "Gameplay/*.png", "Gameplay/*.jpg", "GameScreen/*.png",
+            "sprites/character/*.png", "sprites/criaturas/*.png", "sprites/npcs/*.png", "sprites/itens/*.png",
+            "sprites/win/*.png", "icons/*.png"),
+        new ManifestEntry(Sound.class, "sounds/eruption.ogg", "sounds/snakeHiss.mp3"),
+    };
+
+    private static AssetManager manager;
+    // Path to type of every manifest asset; only these are served from the manager
+    private static final ObjectMap<String, Class<?>> manifest = new ObjectMap<>();
+    private static final Array<String> pending = new Array<>();
+    private static final ObjectLongMap<String> sizes = new ObjectLongMap<>();
+    private static final ObjectMap<String, Sound> extraSounds = new ObjectMap<>();
+    // Manifest assets requested before the manager got to them, loaded outside it by get()
+    private static final ObjectMap<String, Disposable> loadedEarly = new ObjectMap<>();
+    private static long totalBytes;
+    private static long loadedBytes;
+    private static long queuedAt;
+
+    private GameAssets() {
+    }
+
+    /**
+     * Queue every manifest asset; later calls do nothing. Nothing is queued without a GL context.
+     */
+    public static void queueManifest() {
+        if (!manifest.isEmpty() || getManager() == null) {
+            return;
+        }
+        List<String> files = listAssets();
+        ObjectSet<String> packed = new ObjectSet<>();
+        for (String file : files) {
+            if (MANIFEST[0].matches(file)) {
+                collectPackedImages(file, packed);
+            }
+        }
+        for (ManifestEntry entry : MANIFEST) {
+            for (String file : files) {
+                if (!entry.matches(file) || packed.contains(file) || manifest.containsKey(file)) {
+                    continue;
+                }
+                manifest.put(file, entry.type);
+                manager.load(file, entry.type);
+                long size = Gdx.files.internal(file).length();
+                sizes.put(file, size);
+                totalBytes += size;
+                pending.add(file);
+            }
+        }
+        queuedAt = TimeUtils.millis();
+        logger.info("GameAssets: {} assets queued ({} KB, {} images in atlases)", manifest.size, totalBytes / 1024, packed.size);
+    }
+
+    /**
+     * Stream queued assets for at most a few milliseconds
+     *
+     * @return true once everything is loaded
+     */
+    public static boolean update() {
+        return update(FRAME_BUDGET_MS);
+    }
+
+    public static boolean update(int millis) {
+        if (manager == null || pending.isEmpty()) {
+            return true;
+        }
+        manager.update(millis);
+        return refreshPending();
+    }
+
+    /**
+     * Block until everything queued is loaded; used when a screen that needs the assets is
+     * entered before they finished streaming
+     */
+    public static void finishLoading() {
+        if (manager == null || pending.isEmpty()) {
+            return;
+        }
+        logger.warn("GameAssets: waiting for {} remaining assets", pending.size);
+        while (!update(FRAME_BUDGET_MS)) {
+            Thread.yield();
+        }
+    }
+
+    public static boolean isFinished() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * @return Fraction of the queued bytes that are loaded, 1 when nothing is queued
+     */
+    public static float getProgress() {
+        return totalBytes > 0 ? (float) loadedBytes / totalBytes : 1f;
+    }
+
+    /**
+     * @return Whether the path is part of the manifest, so it is served by {@link #get(String, Class)}
+     */
+    public static boolean isManaged(String path) {
+        return path != null && manifest.containsKey(path);
+    }
+
+    /**
+     * @return The manifest texture, or for other paths the one shared by {@link TextureRegistry}
+     */
+    public static Texture texture(String path) {
+        return isManaged(path) ? get(path, Texture.class) : TextureRegistry.get(path);
+    }
+
+    /**
+     * @return The manifest sound, or for other paths one loaded now and kept until {@link #dispose()}
+     */
+    public static Sound sound(String path) {
+        if (isManaged(path)) {
+            return get(path, Sound.class);
+        }
+        if (path == null || Gdx.audio == null || Gdx.files == null) {
+            return null;
+        }
+        Sound sound = extraSounds.get(path);
+        if (sound == null) {
+            try {
+                sound = Gdx.audio.newSound(Gdx.files.internal(path));
+                extraSounds.put(path, sound);
+            } catch (RuntimeException e) {
+                logger.error("GameAssets: failed to load sound '{}': {}", path, e.getMessage());
+            }
+        }
+        return sound;
+    }
+
+    /**
+     * Get a manifest asset. One that is still queued is decoded right away, on its own, and
+     * dropped from the queue, so the assets queued before it keep streaming in the background.
+     *
+     * @return The asset, or null if the path is not in the manifest, there is no GL context or
+     *         it failed to load
+     */
+    public static <T> T get(String path, Class<T> type) {
+        if (!isManaged(path) || manager == null) {
+            return null;
+        }
+        if (manager.isLoaded(path, type)) {
+            return manager.get(path, type);
+        }
+        Object early = loadedEarly.get(path);
+        if (early != null) {
+            return type.isInstance(early) ? type.cast(early) : null;
+        }
+        if (!manager.contains(path)) {
+            return null; // Failed while streaming; the error listener logged it
+        }
+        logger.warn("GameAssets: '{}' requested before it was streamed, loading it now", path);
+        long start = TimeUtils.millis();
+        T asset = loadNow(path, type);
+        if (asset == null) {
+            return null;
+        }
+        loadedEarly.put(path, (Disposable) asset);
+        manager.unload(path); // Also cancels it if it is being loaded right now
+        refreshPending();
+        logger.debug("GameAssets: '{}' loaded in {} ms", path, TimeUtils.timeSinceMillis(start));
+        return asset;
+    }
+
+    /**
+     * Decode a manifest asset outside the manager
+     */
+    private static <T> T loadNow(String path, Class<T> type) {
+        try {
+            FileHandle file = Gdx.files.internal(path);
+            Object asset;
+            if (type == Texture.class) {
+                asset = new Texture(file);
+            } else if (type == TextureAtlas.class) {
+                asset = new TextureAtlas(file);
+            } else if (type == Sound.class && Gdx.audio != null) {
+                asset = Gdx.audio.newSound(file);
+            } else {
+                return null;
+            }
+            return type.cast(asset);
+        } catch (RuntimeException e) {
+            logger.error("GameAssets: failed to load '{}': {}", path, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * @return The manager, created on first use; null without a GL context (e.g. a headless simulation)
+     */
+    public static AssetManager getManager() {
+        if (manager == null && TextureRegistry.isGraphicsAvailable()) {
+            manager = new AssetManager();
+            // Log and skip assets that fail instead of stopping the whole queue
+            manager.setErrorListener((asset, throwable) ->
+                logger.error("GameAssets: failed to load '{}': {}", asset.fileName, throwable.getMessage(), throwable));
+        }
+        return manager;
+    }
+
+    /**
+     * Dispose every asset, at application shutdown
+     */
+    public static void dispose() {
+        if (manager != null) {
+            logger.info("Disposing GameAssets. Loaded assets: {}", manager.getLoadedAssets());
+            manager.dispose();
+            manager = null;
+        }
+        for (Sound sound : extraSounds.values()) {
+            sound.dispose();
+        }
+        extraSounds.clear();
+        for (Disposable asset : loadedEarly.values()) {
+            asset.dispose();
+        }
+        loadedEarly.clear();
+        manifest.clear();
+        pending.clear();
+        sizes.clear();
+        totalBytes = 0;
+        loadedBytes = 0;
+    }
+
+    private static boolean refreshPending() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        for (int i = pending.size - 1; i >= 0; i--) {
+            String path = pending.get(i);
+            // Failed assets leave the manager too; they count as done so loading can finish
+            if (!manager.contains(path) || manager.isLoaded(path)) {
+                loadedBytes += sizes.get(path, 0);
+                pending.removeIndex(i);
+            }
+        }
+        if (pending.isEmpty()) {
+            loadedBytes = totalBytes;
+            logger.info("GameAssets: {} assets loaded in {} ms", manager.getLoadedAssets(), TimeUtils.timeSinceMillis(queuedAt));
+            return true;
+        }
+        return false;
+    }
+
+    private static List<String> listAssets() {
+        List<String> files = new ArrayList<>();
+        FileHandle list = Gdx.files.internal(ASSET_LIST);
+        if (list.exists()) {
+            for (String line : list.readString("UTF-8").split("\\R")) {
+                String path = line.trim().replace('\\', '/');
+                if (!path.isEmpty()) {
+                    files.add(path);
+                }
+            }
+            return files;
+        }
+        logger.info("GameAssets: '{}' not found, listing the assets folder (run gradle generateAssetList)", ASSET_LIST);
+        listDirectory(Gdx.files.internal("."), "", files);
+        files.sort(null);
+        return files;
+    }
+
+    private static void listDirectory(FileHandle directory, String prefix, List<String> out) {
+        for (FileHandle child : directory.list()) {
+            String path = prefix + child.name();
+            if (child.isDirectory()) {
+                listDirectory(child, path + "/", out);
+            } else {
+                out.add(path);
+            }
+        }
+    }
+
+    /**
+     * Add the source image of every region of an atlas; region names are the paths without extension
+     */
+    private static void collectPackedImages(String atlasPath, ObjectSet<String> out) {
+        try {
+            FileHandle file = Gdx.files.internal(atlasPath);
+            TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+            for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                out.add(region.name + ".png");
+            }
+        } catch (RuntimeException e) {
+            logger.error("GameAssets: failed to read atlas '{}': {}", atlasPath, e.getMessage());
+        }
+    }
+
+    private static final class ManifestEntry {
+        final Class<?> type;
+        final Pattern[] patterns;
+
+        /**
+         * @param globs Asset paths where {@code *} matches within a folder and {@code **} across folders
+         */
+        ManifestEntry(Class<?> type, String... globs) {
+            this.type = type;
+            this.patterns = new Pattern[globs.length];
+            for (int i = 0; i < globs.length; i++) {
+                StringBuilder regex = new StringBuilder();
+                String glob = globs[i];
+                for (int c = 0; c < glob.length(); c++) {
+                    if (glob.startsWith("**", c)) {
+                        regex.append(".*");
+                        c++;
+                    } else if (glob.charAt(c) == '*') {
+                        regex.append("[^/]*");
+                    } else {
+                        regex.append(Pattern.quote(String.valueOf(glob.charAt(c))));
+                    }
+                }
+                patterns[i] = Pattern.compile(regex.toString());
+            }
+        }
+
+        boolean matches(String path) {
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(path).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
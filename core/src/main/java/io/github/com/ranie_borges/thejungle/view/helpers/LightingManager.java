@@ -6,77 +6,193 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Handles lighting effects for the game world
+ * Handles lighting effects for the game world.
+ * <p>
+ * The world is drawn into a light buffer, which is then drawn to the screen in a single pass
+ * through the vision shader: everything outside the registered lights is darkened by the current
+ * darkness. Lights are registered every frame with {@link #addLight(float, float, float)}; at most
+ * {@link #MAX_LIGHTS} are used.
+ * <p>
+ * The buffer is only allocated when the screen size or buffer scale changes, so one manager can be
+ * kept for the whole session and shared by every map screen. With a scale below 1 the world is
+ * drawn at a fraction of the screen resolution and upsampled with linear filtering, which saves
+ * fill rate on weaker machines.
  */
 public class LightingManager {
+    private static final Logger logger = LoggerFactory.getLogger(LightingManager.class);
+
+    public static final int MAX_LIGHTS = 8;
+    public static final float PLAYER_LIGHT_RADIUS = 300f;
+    public static final float TALL_GRASS_LIGHT_RADIUS = 150f;
+    private static final float TALL_GRASS_DARKNESS = 0.65f;
+    private static final float MAX_DARKNESS = 0.85f;
+    private static final float LIGHT_SOFTNESS = 0.15f;
+    private static final float MIN_BUFFER_SCALE = 0.25f;
+
     private FrameBuffer lightBuffer;
+    private float bufferScale;
+    private int screenWidth;
+    private int screenHeight;
+    private ShaderProgram visionShader;
+    private final float[] lights = new float[MAX_LIGHTS * 3];
+    private int lightCount;
+    private float darkness;
 
     public LightingManager() {
-        initializeBuffer();
+        this(1f);
     }
 
     /**
-     * Initialize or re-initialize the lighting buffer
+     * @param bufferScale Resolution of the light buffer relative to the screen, e.g. 0.5 or 0.25
      */
-    public void initializeBuffer() {
+    public LightingManager(float bufferScale) {
+        this.bufferScale = clampScale(bufferScale);
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        loadShader();
+    }
+
+    /**
+     * Allocate the buffer for a screen size; does nothing if the size did not change
+     */
+    public void resize(int width, int height) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        int bufferWidth = Math.max(1, Math.round(width * bufferScale));
+        int bufferHeight = Math.max(1, Math.round(height * bufferScale));
+        screenWidth = width;
+        screenHeight = height;
+        if (lightBuffer != null && lightBuffer.getWidth() == bufferWidth && lightBuffer.getHeight() == bufferHeight) {
+            return;
+        }
         if (lightBuffer != null) {
             lightBuffer.dispose();
         }
-        lightBuffer = new FrameBuffer(Pixmap.Format.RGBA8888,
-                Gdx.graphics.getWidth(),
-                Gdx.graphics.getHeight(),
-                false);
+        lightBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, bufferWidth, bufferHeight, false);
+        // Set once per buffer: linear filtering upsamples a reduced buffer, nearest keeps a full-size one sharp
+        Texture.TextureFilter filter = bufferScale < 1f ? Texture.TextureFilter.Linear : Texture.TextureFilter.Nearest;
+        Texture bufferTexture = lightBuffer.getColorBufferTexture();
+        bufferTexture.setFilter(filter, filter);
+        bufferTexture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
+        logger.debug("Light buffer allocated at {}x{} for a {}x{} screen", bufferWidth, bufferHeight, width, height);
+    }
+
+    /**
+     * Change the buffer resolution; the buffer is reallocated right away if it differs
+     */
+    public void setBufferScale(float bufferScale) {
+        float scale = clampScale(bufferScale);
+        if (scale != this.bufferScale) {
+            this.bufferScale = scale;
+            resize(screenWidth, screenHeight);
+        }
+    }
+
+    public float getBufferScale() {
+        return bufferScale;
+    }
+
+    private static float clampScale(float scale) {
+        return Float.isNaN(scale) ? 1f : Math.max(MIN_BUFFER_SCALE, Math.min(1f, scale));
+    }
+
+    private void loadShader() {
+        String vertex = Gdx.files.internal("shaders/vision.vert").readString();
+        String fragment = "#define MAX_LIGHTS " + MAX_LIGHTS + "\n" + Gdx.files.internal("shaders/vision.frag").readString();
+        ShaderProgram shader = new ShaderProgram(vertex, fragment);
+        if (!shader.isCompiled()) {
+            logger.error("Vision shader failed to compile, drawing without lighting: {}", shader.getLog());
+            shader.dispose();
+            return;
+        }
+        visionShader = shader;
+    }
+
+    /**
+     * Darkness outside the lights: the ambient's darkness above its default of 1, or the tall
+     * grass shade if that is darker
+     */
+    public static float darknessFor(Ambient ambient, boolean inTallGrass) {
+        float ambientDarkness = ambient != null ? Math.max(0f, Math.min(MAX_DARKNESS, ambient.getDarknessFactor() - 1f)) : 0f;
+        return inTallGrass ? Math.max(ambientDarkness, TALL_GRASS_DARKNESS) : ambientDarkness;
+    }
+
+    public void setDarkness(float darkness) {
+        this.darkness = Math.max(0f, Math.min(1f, darkness));
+    }
+
+    /**
+     * Remove the lights of the previous frame
+     */
+    public void clearLights() {
+        lightCount = 0;
+    }
+
+    /**
+     * Register a light for the next {@link #endLightBufferAndRender(SpriteBatch)}.
+     * Lights beyond {@link #MAX_LIGHTS} are ignored.
+     *
+     * @param screenX Center in screen pixels
+     * @param screenY Center in screen pixels
+     * @param radius Radius in pixels; the light fades out over its outer edge
+     */
+    public void addLight(float screenX, float screenY, float radius) {
+        if (lightCount >= MAX_LIGHTS) {
+            return;
+        }
+        int i = lightCount++ * 3;
+        lights[i] = screenX;
+        lights[i + 1] = screenY;
+        lights[i + 2] = radius;
     }
 
     /**
      * Begin rendering to the light buffer
      */
     public void beginLightBuffer() {
+        if (Gdx.graphics.getWidth() != screenWidth || Gdx.graphics.getHeight() != screenHeight) {
+            resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
         lightBuffer.begin();
         Gdx.gl.glClearColor(0, 0, 0, 1); // Clear light buffer with black
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
     }
 
     /**
-     * End rendering to the light buffer and render it to the screen
+     * End rendering to the light buffer and draw it to the screen through the vision shader
      */
     public void endLightBufferAndRender(SpriteBatch batch) {
         lightBuffer.end();
 
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        if (visionShader != null) {
+            batch.setShader(visionShader);
+        }
         batch.begin();
-        Texture bufferTexture = lightBuffer.getColorBufferTexture();
-        bufferTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-        bufferTexture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
-
-        batch.draw(bufferTexture,
+        if (visionShader != null) {
+            // Uniforms are set after begin(), which binds the shader
+            visionShader.setUniformf("u_resolution", width, height);
+            visionShader.setUniformf("u_darkness", darkness);
+            visionShader.setUniformf("u_softness", LIGHT_SOFTNESS);
+            visionShader.setUniformi("u_lightCount", lightCount);
+            if (lightCount > 0) {
+                visionShader.setUniform3fv("u_lights[0]", lights, 0, lightCount * 3);
+            }
+        }
+        batch.draw(lightBuffer.getColorBufferTexture(),
                 0, 0,
-                Gdx.graphics.getWidth(), Gdx.graphics.getHeight(),
+                width, height,
                 0, 0, 1, 1);
         batch.end();
-    }
-
-    /**
-     * Render a dark overlay with a visible circle around the player position
-     * Used for tall grass effect
-     */
-    public void renderTallGrassEffect(ShapeRenderer shapeRenderer, float playerScreenX, float playerScreenY) {
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0f, 0f, 0f, 0.65f); // shadow transparency
-        shapeRenderer.rect(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        shapeRenderer.end();
-
-        Gdx.gl.glBlendFunc(GL20.GL_DST_COLOR, GL20.GL_ZERO);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(1, 1, 1, 1); // white = reveals
-        shapeRenderer.circle(playerScreenX, playerScreenY, 150);
-        shapeRenderer.end();
-
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        if (visionShader != null) {
+            batch.setShader(null);
+        }
     }
 
     /**
@@ -87,5 +203,9 @@ public class LightingManager {
             lightBuffer.dispose();
             lightBuffer = null;
         }
+        if (visionShader != null) {
+            visionShader.dispose();
+            visionShader = null;
+        }
     }
 }
@@ -2,6 +2,7 @@ package io.github.com.ranie_borges.thejungle.view.helpers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import io.github.com.ranie_borges.thejungle.model.world.Ambient;
 import org.slf4j.Logger; // Import Logger
 import org.slf4j.LoggerFactory; // Import LoggerFactory
@@ -34,7 +35,7 @@ public class TextureManager {
         disposeAmbientTextures();
 
         floorTexture = (ambient.getFloorTexture() != null)
-            ? ambient.getFloorTexture() // This assumes Ambient subclasses load their own Textures
+            ? ambient.getFloorTexture() // Resolved lazily through TextureRegistry
             : getOrLoadTexture("scenarios/jungle/jungleFloor.jpg"); // Fallback if not pre-loaded by Ambient
 
         wallTexture = (ambient.getWallTexture() != null)
@@ -69,39 +70,37 @@ public class TextureManager {
         return getOrLoadTexture(path);
     }
 
+    /**
+     * Get a texture through the shared {@link TextureRegistry}, which owns it for the session
+     */
     public Texture getOrLoadTexture(String path) {
         if (path == null || path.trim().isEmpty()) {
             logger.warn("Attempted to load texture with null or empty path.");
             return null;
         }
-        if (textureCache.containsKey(path)) {
-            Texture cachedTexture = textureCache.get(path);
-            if (cachedTexture != null) {
-                // logger.trace("TextureManager: Returning cached texture for path: {}", path);
-                return cachedTexture;
-            } else {
-                logger.warn("TextureManager: Cache contained null for path: {}. Attempting reload.", path);
-                // Remove the null entry so it can be reloaded
-                textureCache.remove(path);
-            }
+        Texture cachedTexture = textureCache.get(path);
+        if (cachedTexture != null) {
+            return cachedTexture;
         }
 
-        Texture texture = null;
-        try {
-            logger.debug("TextureManager: Attempting to load texture from path: {}", path);
-            texture = new Texture(Gdx.files.internal(path));
+        Texture texture = TextureRegistry.get(path);
+        if (texture != null) {
             textureCache.put(path, texture);
-            logger.info("TextureManager: Successfully loaded and cached texture from path: {}", path);
-        } catch (Exception e) {
-            logger.error("TextureManager: CRITICAL - Failed to load texture from path: '{}'. Error: {}", path, e.getMessage(), e);
-            // Do not cache null on failure, so retries are possible if the issue was temporary
-            // Or cache a placeholder error texture if desired:
-            // texture = getErrorPlaceholderTexture();
-            // textureCache.put(path, texture); // Cache placeholder to prevent repeated load errors for same path
+            logger.debug("TextureManager: got shared texture for path: {}", path);
+        } else {
+            // Not cached, so retries are possible if the issue was temporary
+            logger.error("TextureManager: CRITICAL - Failed to load texture from path: '{}'", path);
         }
         return texture;
     }
 
+    /**
+     * Get a sprite region, from the packed atlas when available. See {@link TextureRegistry#getRegion(String)}.
+     */
+    public TextureRegion getRegion(String path) {
+        return TextureRegistry.getRegion(path);
+    }
+
     // Optional: Placeholder for missing textures
     // private Texture getErrorPlaceholderTexture() {
     //     if (textureCache.containsKey("error_placeholder")) return textureCache.get("error_placeholder");
@@ -129,17 +128,9 @@ public class TextureManager {
     }
 
     public void dispose() {
-        logger.info("Disposing TextureManager. Cached textures: {}", textureCache.size());
-        for (Map.Entry<String, Texture> entry : textureCache.entrySet()) {
-            if (entry.getValue() != null) {
-                logger.debug("Disposing cached texture: {}", entry.getKey());
-                entry.getValue().dispose();
-            }
-        }
+        logger.info("Disposing TextureManager. Dropping {} shared textures", textureCache.size());
+        // Textures are owned by TextureRegistry for the whole session
         textureCache.clear();
-        // Ambient-specific textures (floorTexture, wallTexture, sidebarTexture) are either
-        // from the cache (and disposed above) or were direct references from Ambient objects
-        // which should manage their own disposal if they created them.
         floorTexture = null;
         wallTexture = null;
         sidebarTexture = null;
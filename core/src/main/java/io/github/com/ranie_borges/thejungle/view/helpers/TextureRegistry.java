@@ -0,0 +1,203 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session-wide texture registry shared by every {@link TextureManager} and by the ambients.
+ * <p>
+ * Each path is uploaded to the GPU at most once and stays resident for the whole session, so
+ * switching back to an ambient does not upload it again. Callers keep the returned textures and
+ * regions as long as they like and never dispose them; everything is disposed together by
+ * {@link #disposeAll()} at shutdown.
+ * <p>
+ * Sprites are looked up with {@link #getRegion(String)}, which prefers the atlases packed by the
+ * {@code packTextures} Gradle task so that creatures, materials and icons share a few GPU
+ * textures, and falls back to the standalone PNG when an image is not packed.
+ * <p>
+ * Textures and atlases of the {@link GameAssets} manifest are taken from its manager, already
+ * decoded, and stay owned by it: disposing the registry only drops them from here.
+ * Must only be used from the render thread.
+ */
+public final class TextureRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(TextureRegistry.class);
+
+    /** Atlases written by the packTextures Gradle task, searched in order */
+    private static final String[] ATLAS_PATHS = { "atlas/entities.atlas", "atlas/character.atlas" };
+
+    private static final Map<String, Entry> entries = new HashMap<>();
+    private static final Map<String, TextureRegion> regions = new HashMap<>();
+    private static TextureAtlas[] atlases;
+    // Atlases loaded here rather than by GameAssets, disposed with the registry
+    private static final List<TextureAtlas> ownedAtlases = new ArrayList<>();
+
+    private static final class Entry {
+        final Texture texture;
+        // Owned by GameAssets, so never disposed here
+        final boolean managed;
+
+        Entry(Texture texture, boolean managed) {
+            this.texture = texture;
+            this.managed = managed;
+        }
+    }
+
+    private TextureRegistry() {
+    }
+
+    /**
+     * Get a texture, loading it on first use
+     *
+     * @param path Internal asset path
+     * @return The shared texture, or null if it could not be loaded
+     */
+    public static Texture get(String path) {
+        Entry entry = getOrLoad(path);
+        return entry != null ? entry.texture : null;
+    }
+
+    /**
+     * Get the region for an image, e.g. {@code "sprites/criaturas/DeerIdle.png"}. Packed images
+     * come from the atlas (region name is the path without extension); others wrap the
+     * standalone texture. Regions are cached and shared, so callers must not modify them.
+     *
+     * @param path Internal asset path of the source image
+     * @return The region, or null if the image is neither packed nor loadable
+     */
+    public static TextureRegion getRegion(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        TextureRegion region = regions.get(path);
+        if (region != null || !isGraphicsAvailable()) {
+            return region;
+        }
+
+        String regionName = stripExtension(path);
+        for (TextureAtlas atlas : getAtlases()) {
+            region = atlas.findRegion(regionName);
+            if (region != null) {
+                break;
+            }
+        }
+        if (region == null) {
+            if (!Gdx.files.internal(path).exists()) {
+                return null;
+            }
+            Texture texture = get(path);
+            if (texture == null) {
+                return null;
+            }
+            region = new TextureRegion(texture);
+        }
+        regions.put(path, region);
+        return region;
+    }
+
+    private static TextureAtlas[] getAtlases() {
+        if (atlases != null) {
+            return atlases;
+        }
+        List<TextureAtlas> loaded = new ArrayList<>();
+        for (String atlasPath : ATLAS_PATHS) {
+            if (GameAssets.isManaged(atlasPath)) {
+                TextureAtlas atlas = GameAssets.get(atlasPath, TextureAtlas.class);
+                if (atlas != null) {
+                    loaded.add(atlas);
+                }
+                continue;
+            }
+            FileHandle file = Gdx.files.internal(atlasPath);
+            if (!file.exists()) {
+                logger.info("TextureRegistry: atlas '{}' not found, using standalone textures (run gradle packTextures)", atlasPath);
+                continue;
+            }
+            try {
+                TextureAtlas atlas = new TextureAtlas(file);
+                ownedAtlases.add(atlas);
+                loaded.add(atlas);
+                logger.debug("TextureRegistry: loaded atlas '{}'", atlasPath);
+            } catch (Exception e) {
+                logger.error("TextureRegistry: failed to load atlas '{}': {}", atlasPath, e.getMessage(), e);
+            }
+        }
+        atlases = loaded.toArray(new TextureAtlas[0]);
+        return atlases;
+    }
+
+    private static String stripExtension(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+
+    /**
+     * @return false when there is no GL context (e.g. a headless simulation); nothing is loaded then
+     */
+    public static boolean isGraphicsAvailable() {
+        return Gdx.gl != null && Gdx.files != null;
+    }
+
+    public static boolean isLoaded(String path) {
+        return path != null && entries.containsKey(path);
+    }
+
+    /**
+     * Dispose every texture, at application shutdown
+     */
+    public static void disposeAll() {
+        logger.info("Disposing TextureRegistry. Loaded textures: {}", entries.size());
+        for (Entry entry : entries.values()) {
+            if (!entry.managed) {
+                entry.texture.dispose();
+            }
+        }
+        entries.clear();
+        for (TextureAtlas atlas : ownedAtlases) {
+            atlas.dispose();
+        }
+        ownedAtlases.clear();
+        atlases = null;
+        regions.clear();
+        CreatureSprites.clear();
+    }
+
+    private static Entry getOrLoad(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            logger.warn("TextureRegistry: attempted to load texture with null or empty path.");
+            return null;
+        }
+        Entry entry = entries.get(path);
+        if (entry != null || !isGraphicsAvailable()) {
+            return entry;
+        }
+        if (GameAssets.isManaged(path)) {
+            Texture texture = GameAssets.get(path, Texture.class);
+            if (texture == null) {
+                return null;
+            }
+            entry = new Entry(texture, true);
+            entries.put(path, entry);
+            return entry;
+        }
+        try {
+            entry = new Entry(new Texture(Gdx.files.internal(path)), false);
+            entries.put(path, entry);
+            logger.debug("TextureRegistry: loaded texture '{}'", path);
+            return entry;
+        } catch (Exception e) {
+            // Not cached, so a later call can retry
+            logger.error("TextureRegistry: failed to load texture '{}': {}", path, e.getMessage(), e);
+            return null;
+        }
+    }
+}
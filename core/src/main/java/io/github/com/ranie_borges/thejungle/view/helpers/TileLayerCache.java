@@ -0,0 +1,192 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
+import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Static geometry for the current map, baked into a {@link SpriteCache}.
+ * <p>
+ * The ground layer (floor, walls, doors, water) and the Jungle tall-grass overlay are uploaded
+ * once per map and drawn each frame with a camera translation, so the per-frame cost no longer
+ * depends on the map size. The layers are rebuilt when the map or ambient changes, or after
+ * {@link #invalidate()} is called for an in-place tile edit.
+ */
+public class TileLayerCache implements UI {
+    private static final Logger logger = LoggerFactory.getLogger(TileLayerCache.class);
+    private static final int NO_CACHE = -1;
+    // Door tiles take six quads (floor, tinted wall and four frame strips)
+    private static final int SPRITES_PER_TILE = 6;
+
+    private final SpriteCache cache;
+    private final Matrix4 transform = new Matrix4();
+
+    private int groundId = NO_CACHE;
+    private int overlayId = NO_CACHE;
+    private int[][] builtMap;
+    private Ambient builtAmbient;
+    private boolean dirty = true;
+
+    public TileLayerCache() {
+        // Worst case every tile is a door, plus a tall-grass quad per tile; no index buffer so
+        // large maps are not capped at 8191 sprites
+        cache = new SpriteCache(MAP_WIDTH * MAP_HEIGHT * (SPRITES_PER_TILE + 1), false);
+    }
+
+    /**
+     * Mark the layers stale after a tile of the current map was edited in place
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Draw the ground layer. Must be called outside SpriteBatch.begin/end.
+     *
+     * @param projection Projection matrix of the SpriteBatch the rest of the frame uses
+     * @param floorTexture Fallback floor texture if the ambient has none
+     * @param wallTexture Fallback wall texture if the ambient has none
+     */
+    public void renderGround(Matrix4 projection, int[][] map, Ambient ambient,
+                             Texture floorTexture, Texture wallTexture, float offsetX, float offsetY) {
+        if (map == null) {
+            return;
+        }
+        if (dirty || map != builtMap || ambient != builtAmbient) {
+            rebuild(map, ambient, floorTexture, wallTexture);
+        }
+        draw(groundId, projection, offsetX, offsetY);
+    }
+
+    /**
+     * Draw the overlay layer (Jungle tall grass) on top of creatures and the player.
+     * Uses the layers built by the last {@link #renderGround} call.
+     */
+    public void renderOverlay(Matrix4 projection, float offsetX, float offsetY) {
+        draw(overlayId, projection, offsetX, offsetY);
+    }
+
+    private void draw(int cacheId, Matrix4 projection, float offsetX, float offsetY) {
+        if (cacheId == NO_CACHE) {
+            return;
+        }
+        cache.setProjectionMatrix(projection);
+        cache.setTransformMatrix(transform.setToTranslation(offsetX, offsetY, 0));
+        // SpriteCache does not manage blending; door and water tints are translucent
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.begin();
+        cache.draw(cacheId);
+        cache.end();
+    }
+
+    private void rebuild(int[][] map, Ambient ambient, Texture floorTexture, Texture wallTexture) {
+        cache.clear();
+        groundId = NO_CACHE;
+        overlayId = NO_CACHE;
+
+        Texture floor = (ambient != null && ambient.getFloorTexture() != null) ? ambient.getFloorTexture() : floorTexture;
+        Texture wall = (ambient != null && ambient.getWallTexture() != null) ? ambient.getWallTexture() : wallTexture;
+        Texture water = (ambient instanceof LakeRiver) ? ((LakeRiver) ambient).getWaterTexture() : null;
+        Jungle jungle = (ambient instanceof Jungle) ? (Jungle) ambient : null;
+        Texture tallGrass = jungle != null ? jungle.getTallGrassTexture() : null;
+
+        int rows = Math.min(MAP_HEIGHT, map.length);
+        cache.beginCache();
+        for (int y = 0; y < rows; y++) {
+            int cols = Math.min(MAP_WIDTH, map[y].length);
+            for (int x = 0; x < cols; x++) {
+                addGroundTile(map[y][x], x, y, floor, wall, water, jungle, tallGrass);
+            }
+        }
+        groundId = cache.endCache();
+
+        if (tallGrass != null) {
+            cache.beginCache();
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < Math.min(MAP_WIDTH, map[y].length); x++) {
+                    if (jungle.isTallGrass(x, y)) {
+                        cache.add(tallGrass, x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE,
+                            0, 0, tallGrass.getWidth(), tallGrass.getHeight(), false, false);
+                    }
+                }
+            }
+            overlayId = cache.endCache();
+        }
+
+        builtMap = map;
+        builtAmbient = ambient;
+        dirty = false;
+        logger.debug("Tile layers rebuilt for {}", ambient != null ? ambient.getName() : "unknown ambient");
+    }
+
+    private void addGroundTile(int tileType, int x, int y, Texture floor, Texture wall, Texture water,
+                               Jungle jungle, Texture tallGrass) {
+        float tileX = x * TILE_SIZE;
+        float tileY = y * TILE_SIZE;
+
+        switch (tileType) {
+            case TILE_WALL:
+                add(wall, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                break;
+            case TILE_DOOR:
+                add(floor, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                if (wall != null) {
+                    cache.setColor(1, 0.8f, 0, 0.85f);
+                    add(wall, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                    cache.setColor(1, 0.6f, 0, 1);
+                    add(wall, tileX, tileY, TILE_SIZE, TILE_SIZE * 0.15f);
+                    add(wall, tileX, tileY + TILE_SIZE * 0.85f, TILE_SIZE, TILE_SIZE * 0.15f);
+                    add(wall, tileX, tileY, TILE_SIZE * 0.15f, TILE_SIZE);
+                    add(wall, tileX + TILE_SIZE * 0.85f, tileY, TILE_SIZE * 0.15f, TILE_SIZE);
+                }
+                cache.setColor(1, 1, 1, 1);
+                break;
+            case TILE_CAVE:
+                if (jungle != null) {
+                    add(floor, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                    if (floor != null && jungle.isTallGrass(x, y)) {
+                        add(tallGrass, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                    }
+                } else {
+                    cache.setColor(0.5f, 0.5f, 0.5f, 1f);
+                    add(floor, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                    cache.setColor(1, 1, 1, 1);
+                }
+                break;
+            case TILE_WATER:
+                if (water != null) {
+                    add(water, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                } else {
+                    cache.setColor(0.2f, 0.6f, 1f, 0.8f);
+                    add(floor, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                    cache.setColor(1, 1, 1, 1);
+                }
+                break;
+            case TILE_GRASS:
+            default:
+                add(floor, tileX, tileY, TILE_SIZE, TILE_SIZE);
+                break;
+        }
+    }
+
+    private void add(Texture texture, float x, float y, float width, float height) {
+        if (texture != null) {
+            cache.add(texture, x, y, width, height, 0, 0, texture.getWidth(), texture.getHeight(), false, false);
+        }
+    }
+
+    public void dispose() {
+        cache.dispose();
+        builtMap = null;
+        builtAmbient = null;
+    }
+}
@@ -4,8 +4,11 @@ import com.badlogic.gdx.Gdx;
 
 public interface UI {
     int TILE_SIZE = 32;
-    int MAP_WIDTH = Gdx.graphics.getWidth() / TILE_SIZE - 20;
-    int MAP_HEIGHT = Gdx.graphics.getHeight() / TILE_SIZE;
+    // Screen size used when there is no window, e.g. in headless simulations
+    int DEFAULT_SCREEN_WIDTH = 1920;
+    int DEFAULT_SCREEN_HEIGHT = 1080;
+    int MAP_WIDTH = screenWidth() / TILE_SIZE - 20;
+    int MAP_HEIGHT = screenHeight() / TILE_SIZE;
     int SIDEBAR_WIDTH = 300;
 
     int TILE_GRASS = 0;
@@ -13,4 +16,12 @@ public interface UI {
     int TILE_DOOR = 2;
     int TILE_CAVE = 3;
     int TILE_WATER = 4;
+
+    private static int screenWidth() {
+        return Gdx.graphics != null && Gdx.graphics.getWidth() > 0 ? Gdx.graphics.getWidth() : DEFAULT_SCREEN_WIDTH;
+    }
+
+    private static int screenHeight() {
+        return Gdx.graphics != null && Gdx.graphics.getHeight() > 0 ? Gdx.graphics.getHeight() : DEFAULT_SCREEN_HEIGHT;
+    }
 }
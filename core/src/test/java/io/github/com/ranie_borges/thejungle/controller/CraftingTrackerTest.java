@@ -0,0 +1,153 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CraftingTrackerTest {
+    private static final String RECIPES = "{\"recipes\": ["
+        + "{\"name\": \"Knife\", \"ingredients\": {\"stick\": 1, \"rock\": 1}, \"outputs\": [{\"type\": \"Tool\", \"item\": \"Knife\"}]},"
+        + "{\"name\": \"Axe\", \"ingredients\": {\"stick\": 2, \"rock\": 3}, \"outputs\": [{\"type\": \"Tool\", \"item\": \"Axe\"}]}"
+        + "]}";
+
+    private RecipeRegistry registry;
+    private Survivor survivor;
+
+    @Before
+    public void setUp() {
+        registry = RecipeRegistry.fromJson(new StringReader(RECIPES));
+        CraftController.setRegistry(registry);
+        survivor = new Survivor("test", 0, 0);
+        survivor.emptyInventory();
+    }
+
+    @After
+    public void tearDown() {
+        CraftController.setRegistry(null);
+    }
+
+    private static Item stack(Item item, int quantity) {
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    private static Material filler(String name) {
+        return new Material(name, 0f, 1f, "misc", 0f);
+    }
+
+    @Test
+    public void craftableSetFollowsInventoryChanges() {
+        CraftingTracker tracker = new CraftingTracker(registry);
+        tracker.attach(survivor);
+        assertEquals(0, tracker.getCraftable().size);
+
+        survivor.insertItemInInventory(Material.createStick());
+        assertFalse(tracker.isCraftable("Knife"));
+        survivor.insertItemInInventory(Material.createSmallRock());
+        assertTrue(tracker.isCraftable("knife"));
+        assertFalse(tracker.isCraftable("Axe"));
+
+        survivor.insertItemInInventory(Material.createStick());
+        survivor.insertItemInInventory(stack(Material.createSmallRock(), 2));
+        assertTrue(tracker.isCraftable(registry.byResult("Axe")));
+        assertEquals(2, tracker.getCraftable().size);
+
+        survivor.removeItemQuantity("rock", 1);
+        assertFalse(tracker.isCraftable("Axe"));
+        assertTrue(tracker.isCraftable("Knife"));
+
+        survivor.emptyInventory();
+        assertEquals(0, tracker.getCraftable().size);
+    }
+
+    @Test
+    public void attachFollowsOnlyTheCurrentInventory() {
+        Survivor other = new Survivor("other", 0, 0);
+        other.emptyInventory();
+        other.insertItemInInventory(Material.createStick());
+        other.insertItemInInventory(Material.createSmallRock());
+
+        CraftingTracker tracker = new CraftingTracker(registry);
+        tracker.attach(survivor);
+        assertFalse(tracker.isCraftable("Knife"));
+        tracker.attach(other);
+        assertTrue(tracker.isCraftable("Knife"));
+
+        survivor.insertItemInInventory(Material.createStick());
+        other.removeItemQuantity("stick", 1);
+        assertFalse(tracker.isCraftable("Knife"));
+        assertSame(tracker, CraftController.trackerFor(other));
+    }
+
+    @Test
+    public void craftIntoConsumesIngredientsAndStoresResult() {
+        survivor.insertItemInInventory(stack(Material.createStick(), 2));
+        survivor.insertItemInInventory(Material.createSmallRock());
+
+        List<Item> crafted = CraftController.craftInto("Knife", survivor);
+        assertEquals(1, crafted.size());
+        assertEquals(1, survivor.getItemQuantity("stick"));
+        assertEquals(0, survivor.getItemQuantity("rock"));
+        assertSame(crafted.get(0), survivor.findItem("Knife", Tool.class));
+        assertFalse(CraftController.canCraft("Knife", survivor));
+    }
+
+    @Test
+    public void craftIntoReusesSlotsFreedByIngredients() {
+        for (int i = 0; i < survivor.getInventoryInitialCapacity() - 2; i++) {
+            survivor.insertItemInInventory(filler("filler" + i));
+        }
+        survivor.insertItemInInventory(Material.createStick());
+        survivor.insertItemInInventory(Material.createSmallRock());
+        assertTrue(survivor.isInventoryFull());
+
+        assertEquals(1, CraftController.craftInto("Knife", survivor).size());
+        assertNotNull(survivor.findItem("Knife", Tool.class));
+    }
+
+    @Test
+    public void craftIntoConsumesNothingWhenResultHasNoSlot() {
+        for (int i = 0; i < survivor.getInventoryInitialCapacity() - 2; i++) {
+            survivor.insertItemInInventory(filler("filler" + i));
+        }
+        survivor.insertItemInInventory(stack(Material.createStick(), 2));
+        survivor.insertItemInInventory(stack(Material.createSmallRock(), 2));
+
+        assertTrue(CraftController.craftInto("Knife", survivor).isEmpty());
+        assertEquals(2, survivor.getItemQuantity("stick"));
+        assertEquals(2, survivor.getItemQuantity("rock"));
+        assertNull(survivor.findItem("Knife", Tool.class));
+    }
+
+    @Test
+    public void craftIntoConsumesNothingWhenResultIsTooHeavy() {
+        survivor.insertItemInInventory(new Material("boulder", survivor.getMaxCarryWeight() - 0.5f, 1f, "Rock", 0f));
+        survivor.insertItemInInventory(Material.createStick());
+        survivor.insertItemInInventory(Material.createSmallRock());
+
+        assertTrue(CraftController.craftInto("Knife", survivor).isEmpty());
+        assertEquals(1, survivor.getItemQuantity("stick"));
+        assertEquals(1, survivor.getItemQuantity("rock"));
+    }
+
+    @Test
+    public void insertReportsItemsThatDoNotFit() {
+        assertFalse(survivor.insertItemInInventory(new Material("boulder", survivor.getMaxCarryWeight() + 1f, 1f, "Rock", 0f)));
+        assertTrue(survivor.isInventoryEmpty());
+        for (int i = 0; i < survivor.getInventoryInitialCapacity(); i++) {
+            assertTrue(survivor.insertItemInInventory(filler("filler" + i)));
+        }
+        assertFalse(survivor.insertItemInInventory(filler("one too many")));
+        assertTrue(survivor.insertItemInInventory(filler("filler0"))); // Stacks, needs no slot
+        assertEquals(2, survivor.getItemQuantity("filler0"));
+    }
+}
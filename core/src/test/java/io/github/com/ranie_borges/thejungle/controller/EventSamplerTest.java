@@ -0,0 +1,127 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.events.Event;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EventSamplerTest {
+    private static final int DRAWS = 200_000;
+
+    private static Event event(String name) {
+        return new Event(name, name, 0.5f) {
+            @Override
+            public void execute(Character character, Ambient ambient) {
+            }
+        };
+    }
+
+    private static Map<Event, Integer> draw(EventSampler sampler, int draws, long seed) {
+        Random random = new Random(seed);
+        Map<Event, Integer> counts = new HashMap<>();
+        for (int i = 0; i < draws; i++) {
+            counts.merge(sampler.sample(random), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Test
+    public void sampledFrequenciesFollowWeights() {
+        List<Event> events = List.of(event("a"), event("b"), event("c"), event("d"));
+        double[] weights = { 1, 2, 3, 4 };
+        Map<Event, Integer> counts = draw(new EventSampler(events, weights), DRAWS, 42);
+
+        for (int i = 0; i < events.size(); i++) {
+            double expected = weights[i] / 10.0;
+            double actual = counts.getOrDefault(events.get(i), 0) / (double) DRAWS;
+            assertEquals("frequency of " + events.get(i).getName(), expected, actual, 0.01);
+        }
+    }
+
+    @Test
+    public void zeroWeightEventsAreNeverDrawn() {
+        Event never = event("never");
+        Event negative = event("negative");
+        Event always = event("always");
+        EventSampler sampler = new EventSampler(List.of(never, always, negative), new double[] { 0, 3, -1 });
+
+        Map<Event, Integer> counts = draw(sampler, DRAWS, 7);
+        assertFalse(counts.containsKey(never));
+        assertFalse(counts.containsKey(negative));
+        assertEquals(DRAWS, (int) counts.get(always));
+    }
+
+    @Test
+    public void allZeroWeightsDrawUniformly() {
+        List<Event> events = List.of(event("a"), event("b"));
+        Map<Event, Integer> counts = draw(new EventSampler(events, new double[] { 0, 0 }), DRAWS, 3);
+
+        assertEquals(0.5, counts.get(events.get(0)) / (double) DRAWS, 0.01);
+        assertEquals(0.5, counts.get(events.get(1)) / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    public void controllerRebuildsSamplerWhenAmbientEventsChange() {
+        EventController controller = new EventController(new GameState());
+        controller.setSeed(11);
+        Jungle jungle = new Jungle();
+        jungle.setPossibleEvents(new HashMap<>());
+        assertNull(controller.drawEvent(jungle));
+
+        Event first = event("first");
+        jungle.addPossibleEvent(first, 1.0);
+        assertSame(first, controller.drawEvent(jungle));
+
+        Event second = event("second");
+        jungle.addPossibleEvent(second, 1.0);
+        jungle.removePossibleEvent(first);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(second, controller.drawEvent(jungle));
+        }
+
+        jungle.removePossibleEvent(second);
+        assertNull(controller.drawEvent(jungle));
+    }
+
+    @Test
+    public void controllerRebuildsSamplerWhenAmbientChanges() {
+        EventController controller = new EventController(new GameState());
+        Jungle first = new Jungle();
+        first.setPossibleEvents(new HashMap<>());
+        Event firstEvent = event("first");
+        first.addPossibleEvent(firstEvent, 1.0);
+        // Same name and events version, as after a rotation builds a new instance
+        Jungle second = new Jungle();
+        second.setPossibleEvents(new HashMap<>());
+        Event secondEvent = event("second");
+        second.addPossibleEvent(secondEvent, 1.0);
+
+        assertSame(firstEvent, controller.drawEvent(first));
+        assertSame(secondEvent, controller.drawEvent(second));
+        assertSame(firstEvent, controller.drawEvent(first));
+    }
+
+    @Test
+    public void controllerRebuildsSamplerWhenAvailabilityChanges() {
+        EventController controller = new EventController(new GameState());
+        Jungle jungle = new Jungle();
+        jungle.setPossibleEvents(new HashMap<>());
+        Event event = event("toggled");
+        jungle.addPossibleEvent(event, 1.0);
+        assertSame(event, controller.drawEvent(jungle));
+
+        event.setPossible(false);
+        assertNull(controller.drawEvent(jungle));
+        event.setPossible(true);
+        assertSame(event, controller.drawEvent(jungle));
+    }
+}
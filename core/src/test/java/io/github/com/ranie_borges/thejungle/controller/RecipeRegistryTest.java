@@ -0,0 +1,114 @@
+package io.github.com.ranie_borges.thejungle.controller;
+
+import com.google.gson.JsonParseException;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Recipe;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Weapon;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class RecipeRegistryTest {
+    // Tests run from the core module; the game's assets are next to it
+    private static final Path RECIPES = Path.of("..", "assets", RecipeRegistry.RECIPES_FILE);
+
+    private static RecipeRegistry load() throws IOException {
+        try (Reader reader = Files.newBufferedReader(RECIPES, StandardCharsets.UTF_8)) {
+            return RecipeRegistry.fromJson(reader);
+        }
+    }
+
+    @Test
+    public void parsesTheGameRecipes() throws IOException {
+        RecipeRegistry registry = load();
+        assertEquals(3, registry.size());
+
+        Recipe axe = registry.byResult("axe");
+        assertNotNull(axe);
+        assertEquals(Map.of("stick", 2, "rock", 3), axe.getRequiredItems());
+        assertTrue(axe.getRequiredTools().isEmpty());
+        Item crafted = axe.craft();
+        assertTrue(crafted instanceof Tool);
+        assertEquals("Axe", crafted.getName());
+
+        List<Item> spear = registry.byResult("Spear").craftAll();
+        assertEquals(1, spear.size());
+        assertTrue(spear.get(0) instanceof Weapon);
+        assertEquals("Wooden Spear", spear.get(0).getName());
+        assertNull(registry.byResult("Wooden Spear"));
+    }
+
+    @Test
+    public void indexesRecipesByIngredient() throws IOException {
+        RecipeRegistry registry = load();
+        assertEquals(3, registry.usedBy("STICK").size());
+        assertEquals(3, registry.usedBy("rock").size());
+        assertTrue(registry.usedBy("wood").isEmpty());
+        assertTrue(registry.usedBy(null).isEmpty());
+    }
+
+    @Test
+    public void craftableChecksOnlyWhatTheInventoryHolds() throws IOException {
+        RecipeRegistry registry = load();
+        Survivor survivor = new Survivor("test", 0, 0);
+        survivor.emptyInventory();
+        assertTrue(registry.craftable(survivor, new ArrayList<>()).isEmpty());
+
+        Material sticks = Material.createStick();
+        sticks.setQuantity(3);
+        survivor.insertItemInInventory(sticks);
+        survivor.insertItemInInventory(Material.createSmallRock());
+        List<Recipe> craftable = registry.craftable(survivor, new ArrayList<>());
+        assertEquals(2, craftable.size());
+        assertTrue(craftable.contains(registry.byResult("Knife")));
+        assertTrue(craftable.contains(registry.byResult("Spear")));
+    }
+
+    @Test
+    public void toolsAndOutputQuantitiesAreRead() {
+        RecipeRegistry registry = RecipeRegistry.fromJson(new StringReader("{\"recipes\": [{"
+            + "\"name\": \"Stone Spear\", \"ingredients\": {\"Wood\": 1}, \"tools\": [\"Knife\"],"
+            + "\"outputs\": [{\"type\": \"Weapon\", \"item\": \"Stone Spear\"}, {\"item\": \"stick\", \"quantity\": 2}]}]}"));
+        Recipe recipe = registry.byResult("Stone Spear");
+
+        assertEquals(List.of("knife"), recipe.getRequiredTools());
+        assertEquals(1, registry.usedBy("knife").size());
+        List<Item> crafted = recipe.craftAll();
+        assertEquals(2, crafted.size());
+        assertTrue(crafted.get(1) instanceof Material);
+        assertEquals(2, crafted.get(1).getQuantity());
+    }
+
+    @Test
+    public void invalidEntriesAreSkipped() {
+        RecipeRegistry registry = RecipeRegistry.fromJson(new StringReader("{\"recipes\": ["
+            + "{\"ingredients\": {\"stick\": 1}, \"outputs\": [{\"item\": \"Axe\"}]},"
+            + "{\"name\": \"Nothing\", \"ingredients\": {\"stick\": 1}},"
+            + "{\"name\": \"Unknown\", \"outputs\": [{\"item\": \"Laser\"}]},"
+            + "{\"name\": \"Negative\", \"ingredients\": {\"stick\": -1}, \"outputs\": [{\"item\": \"Axe\"}]},"
+            + "{\"name\": \"Axe\", \"ingredients\": {\"stick\": 1}, \"outputs\": [{\"type\": \"Tool\", \"item\": \"Axe\"}]},"
+            + "{\"name\": \"axe\", \"outputs\": [{\"item\": \"Knife\"}]}"
+            + "]}"));
+
+        assertEquals(1, registry.size());
+        assertEquals(Map.of("stick", 1), registry.byResult("AXE").getRequiredItems());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void fileWithoutRecipesIsRejected() {
+        RecipeRegistry.fromJson(new StringReader("{}"));
+    }
+}
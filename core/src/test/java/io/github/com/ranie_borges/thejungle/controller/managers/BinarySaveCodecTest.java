@@ -0,0 +1,191 @@
+package io.github.com.ranie_borges.thejungle.controller.managers;
+
+import io.github.com.ranie_borges.thejungle.controller.exceptions.save.SaveManagerException;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Hunter;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.*;
+import io.github.com.ranie_borges.thejungle.model.stats.AmbientData;
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.Cave;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class BinarySaveCodecTest {
+    private final BinarySaveCodec codec = new BinarySaveCodec();
+
+    private static int[][] map(int rows, int columns) {
+        int[][] map = new int[rows][columns];
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                map[y][x] = (x + y) % 7 == 0 ? -3 : x / 4; // Runs, negatives and values across rows
+            }
+        }
+        return map;
+    }
+
+    private static GameState sampleState() {
+        GameState state = new GameState();
+        state.setDaysSurvived(12);
+        state.setOffsetDateTime(OffsetDateTime.of(2025, 5, 17, 14, 30, 5, 123_000_000, ZoneOffset.ofHours(-3)));
+        state.setMapWidth(40);
+        state.setMapHeight(30);
+        state.setWorldSeed(0x1234_5678_9ABCL);
+        state.setMapVisitIndex(5);
+
+        Hunter hunter = new Hunter("Ana", 64f, 96f);
+        hunter.setLife(73.5f);
+        hunter.setHunger(41f);
+        hunter.setThirsty(22.25f);
+        hunter.setEnergy(60f);
+        hunter.setSanity(88f);
+        hunter.emptyInventory();
+        Material sticks = Material.createStick();
+        sticks.setQuantity(4);
+        hunter.insertItemInInventory(sticks);
+        hunter.insertItemInInventory(Weapon.createWoodenSpear());
+        hunter.insertItemInInventory(Tool.createAxe());
+        hunter.insertItemInInventory(Medicine.createBandage());
+        hunter.insertItemInInventory(new Drinkable("Water", 0.5f, 1f, true, 0.5f));
+        hunter.insertItemInInventory(Food.createBerry());
+        state.setPlayerCharacter(hunter);
+
+        state.setCurrentAmbient(new Cave());
+        state.setCurrentMap(map(30, 40));
+
+        Map<String, AmbientData> visited = new HashMap<>();
+        AmbientData cave = new AmbientData(map(30, 40));
+        cave.setVisitCount(3);
+        cave.setRemainingResources(List.of(Material.createSmallRock(), Material.createCoin()));
+        visited.put("Cave", cave);
+        visited.put("Jungle", new AmbientData(new int[][] { { 1 }, {}, { 2, 2 } }));
+        state.setVisitedAmbients(visited);
+        return state;
+    }
+
+    private byte[] encode(GameState state) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(state, out);
+        return out.toByteArray();
+    }
+
+    private static void assertSameItem(Item expected, Item actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getWeight(), actual.getWeight(), 0f);
+        assertEquals(expected.getDurability(), actual.getDurability(), 0f);
+        assertEquals(expected.getQuantity(), actual.getQuantity());
+    }
+
+    @Test
+    public void roundTripKeepsTheWholeState() throws IOException {
+        GameState state = sampleState();
+        byte[] bytes = encode(state);
+        assertTrue(BinarySaveCodec.hasMagic(new ByteArrayInputStream(bytes)));
+
+        GameState read = codec.read(new ByteArrayInputStream(bytes));
+        assertEquals(12, read.getDaysSurvived());
+        assertEquals(state.getOffsetDateTime(), read.getOffsetDateTime());
+        assertEquals(40, read.getMapWidth());
+        assertEquals(30, read.getMapHeight());
+        assertEquals(state.getWorldSeed(), read.getWorldSeed());
+        assertEquals(5, read.getMapVisitIndex());
+        assertTrue(read.getCurrentAmbient() instanceof Cave);
+        assertArrayEquals(state.getCurrentMap(), read.getCurrentMap());
+
+        Character expected = state.getPlayerCharacter();
+        Character character = read.getPlayerCharacter();
+        assertTrue(character instanceof Hunter);
+        assertEquals("Ana", character.getName());
+        assertEquals(expected.getLife(), character.getLife(), 0f);
+        assertEquals(expected.getHunger(), character.getHunger(), 0f);
+        assertEquals(expected.getThirsty(), character.getThirsty(), 0f);
+        assertEquals(expected.getEnergy(), character.getEnergy(), 0f);
+        assertEquals(expected.getSanity(), character.getSanity(), 0f);
+        assertEquals(expected.getPosition(), character.getPosition());
+        assertEquals(expected.getInventorySize(), character.getInventorySize());
+        for (int i = 0; i < expected.getInventorySize(); i++) {
+            assertSameItem(expected.getItem(i), character.getItem(i));
+        }
+        assertEquals(4, character.getItemQuantity("stick"));
+        assertEquals(((Weapon) expected.getItem(1)).getDamage(), character.findItem("Wooden Spear", Weapon.class).getDamage(), 0f);
+        assertTrue(character.findItem("Water", Drinkable.class).isPotable());
+
+        AmbientData cave = read.getVisitedAmbients().get("Cave");
+        assertEquals(3, cave.getVisitCount());
+        assertArrayEquals(state.getVisitedAmbients().get("Cave").getMap(), cave.getMap());
+        List<Item> resources = cave.getRemainingResources();
+        assertEquals(2, resources.size());
+        assertSameItem(Material.createSmallRock(), resources.get(0));
+        assertEquals("Currency", ((Material) resources.get(1)).getType());
+        assertArrayEquals(new int[][] { { 1 }, {}, { 2, 2 } }, read.getVisitedAmbients().get("Jungle").getMap());
+    }
+
+    @Test
+    public void roundTripKeepsMissingParts() throws IOException {
+        GameState state = new GameState();
+        state.setOffsetDateTime(null);
+        state.setPlayerCharacter(null);
+        state.setCurrentAmbient(null);
+        state.setCurrentMap(null);
+        state.setVisitedAmbients(null);
+
+        GameState read = codec.read(new ByteArrayInputStream(encode(state)));
+        assertNull(read.getPlayerCharacter());
+        assertNull(read.getCurrentAmbient());
+        assertNull(read.getCurrentMap());
+        assertTrue(read.getVisitedAmbients().isEmpty());
+    }
+
+    @Test
+    public void versionOneFilesStillLoad() throws IOException {
+        GameState state = sampleState();
+        state.setOffsetDateTime(null);
+        byte[] bytes = encode(state);
+        // magic, version, days, no date, width, height; then the seed and visit index added in version 2
+        int seedAt = 4 + 2 + 4 + 1 + 4 + 4;
+        byte[] v1 = new byte[bytes.length - 12];
+        System.arraycopy(bytes, 0, v1, 0, seedAt);
+        System.arraycopy(bytes, seedAt + 12, v1, seedAt, bytes.length - seedAt - 12);
+        v1[5] = 1;
+
+        GameState read = codec.read(new ByteArrayInputStream(v1));
+        assertEquals(12, read.getDaysSurvived());
+        assertEquals(0, read.getMapVisitIndex());
+        assertEquals("Ana", read.getPlayerCharacter().getName());
+        assertArrayEquals(state.getCurrentMap(), read.getCurrentMap());
+    }
+
+    @Test
+    public void otherFilesAreRejected() throws IOException {
+        byte[] json = "{\"daysSurvived\": 1}".getBytes();
+        assertFalse(BinarySaveCodec.hasMagic(new ByteArrayInputStream(json)));
+        assertFalse(BinarySaveCodec.hasMagic(new ByteArrayInputStream(new byte[] { 0x54 })));
+
+        byte[] future = encode(sampleState());
+        future[5] = 9;
+        try {
+            codec.read(new ByteArrayInputStream(future));
+            fail("Unsupported version was read");
+        } catch (SaveManagerException expected) {
+            assertTrue(expected.getMessage().contains("version"));
+        }
+        try {
+            codec.read(new ByteArrayInputStream(Arrays.copyOf(json, 16)));
+            fail("JSON was read as a binary save");
+        } catch (SaveManagerException expected) {
+            assertTrue(expected.getMessage().contains("Not a binary save"));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.com.ranie_borges.thejungle.controller.managers;
+
+import io.github.com.ranie_borges.thejungle.model.stats.GameState;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+public class SaveManagerTest {
+    private static final String SAVE_NAME = "save-manager-test";
+
+    @After
+    public void deleteTestSaves() {
+        new SaveManager().deleteSave(SAVE_NAME);
+    }
+
+    private static GameState sampleState() {
+        GameState state = new GameState();
+        state.setDaysSurvived(7);
+        state.setWorldSeed(99L);
+        state.setMapVisitIndex(2);
+        return state;
+    }
+
+    @Test
+    public void savesInBinaryFormatByDefault() {
+        SaveManager saveManager = new SaveManager();
+        assertEquals(SaveManager.SaveFormat.BINARY, saveManager.getSaveFormat());
+        assertTrue(saveManager.saveGame(sampleState(), SAVE_NAME));
+
+        assertTrue(new File("saves/" + SAVE_NAME + ".sav").exists());
+        assertFalse(new File("saves/" + SAVE_NAME + ".json").exists());
+    }
+
+    @Test
+    public void loadingJsonSaveWritesBinaryCopy() {
+        assertTrue(new SaveManager(SaveManager.SaveFormat.JSON).saveGame(sampleState(), SAVE_NAME));
+        File jsonFile = new File("saves/" + SAVE_NAME + ".json");
+        File binaryFile = new File("saves/" + SAVE_NAME + ".sav");
+        assertFalse(binaryFile.exists());
+
+        SaveManager saveManager = new SaveManager();
+        GameState loaded = saveManager.loadGame(SAVE_NAME);
+        assertNotNull(loaded);
+        assertEquals(7, loaded.getDaysSurvived());
+        assertTrue(jsonFile.exists());
+        assertTrue(binaryFile.exists());
+
+        GameState converted = saveManager.loadGame(SAVE_NAME + ".sav");
+        assertNotNull(converted);
+        assertEquals(7, converted.getDaysSurvived());
+        assertEquals(99L, converted.getWorldSeed());
+        assertEquals(2, converted.getMapVisitIndex());
+    }
+
+    @Test
+    public void listsEachSaveOnce() {
+        assertTrue(new SaveManager(SaveManager.SaveFormat.JSON).saveGame(sampleState(), SAVE_NAME));
+        SaveManager saveManager = new SaveManager();
+        assertNotNull(saveManager.loadGame(SAVE_NAME));
+
+        int listed = 0;
+        for (File file : saveManager.getSaveFiles()) {
+            if (SAVE_NAME.equals(SaveManager.getSaveName(file))) {
+                listed++;
+            }
+        }
+        assertEquals(1, listed);
+    }
+}
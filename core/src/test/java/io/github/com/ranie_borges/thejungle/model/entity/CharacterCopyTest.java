@@ -0,0 +1,66 @@
+package io.github.com.ranie_borges.thejungle.model.entity;
+
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Hunter;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Food;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Medicine;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Tool;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Weapon;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CharacterCopyTest {
+    @Test
+    public void copyKeepsClassAndSavedFields() {
+        Hunter hunter = new Hunter("hunter", 64, 96);
+        hunter.setLife(42);
+        hunter.setHunger(31);
+        hunter.setThirsty(17);
+        hunter.setInventoryInitialCapacity(9);
+
+        Character copy = hunter.copy();
+
+        assertSame(Hunter.class, copy.getClass());
+        assertEquals("hunter", copy.getName());
+        assertEquals(42, copy.getLife(), 0f);
+        assertEquals(31, copy.getHunger(), 0f);
+        assertEquals(17, copy.getThirsty(), 0f);
+        assertEquals(hunter.getAttackDamage(), copy.getAttackDamage(), 0);
+        assertEquals(9, copy.getInventoryInitialCapacity());
+        assertEquals(hunter.getPosition(), copy.getPosition());
+        assertNotSame(hunter.getPosition(), copy.getPosition());
+    }
+
+    @Test
+    public void copiedItemsAreDetached() {
+        Hunter hunter = new Hunter("hunter", 0, 0);
+        hunter.setInventoryInitialCapacity(10);
+        hunter.emptyInventory();
+        hunter.insertItemInInventory(Material.createStick());
+        hunter.insertItemInInventory(new Food("Fish", 0.5f, 80f, 20, "Meat", 3));
+        hunter.insertItemInInventory(new Drinkable("Water", 1f, 100f, true, 2f));
+        hunter.insertItemInInventory(new Medicine("Bandage", 0.1f, 100f, 15));
+        hunter.insertItemInInventory(new Tool("Axe", 2f, 90f, 5f, 1f));
+        hunter.insertItemInInventory(new Weapon("Spear", 1.5f, 70f, 8f, 1.2f));
+
+        Character copy = hunter.copy();
+        assertEquals(6, copy.getInventorySize());
+        for (int i = 0; i < hunter.getInventorySize(); i++) {
+            Item original = hunter.getItem(i);
+            Item copied = copy.getItem(i);
+            assertNotSame(original, copied);
+            assertSame(original.getClass(), copied.getClass());
+            assertEquals(original.getName(), copied.getName());
+            assertEquals(original.getWeight(), copied.getWeight(), 0f);
+            assertEquals(original.getDurability(), copied.getDurability(), 0f);
+            assertEquals(original.getQuantity(), copied.getQuantity());
+        }
+
+        hunter.getItem(0).setQuantity(7);
+        hunter.insertItemInInventory(Material.createCoin());
+        assertEquals(1, copy.getItem(0).getQuantity());
+        assertEquals(6, copy.getInventorySize());
+    }
+}
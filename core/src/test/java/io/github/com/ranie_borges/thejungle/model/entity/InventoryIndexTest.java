@@ -0,0 +1,82 @@
+package io.github.com.ranie_borges.thejungle.model.entity;
+
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Food;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InventoryIndexTest {
+    private Survivor survivor;
+
+    @Before
+    public void setUp() {
+        survivor = new Survivor("test", 0, 0);
+        survivor.emptyInventory();
+    }
+
+    @Test
+    public void sameNameAndClassShareOneStack() {
+        survivor.insertItemInInventory(Material.createStick());
+        survivor.insertItemInInventory(Material.createStick());
+
+        assertEquals(1, survivor.getInventorySize());
+        assertEquals(2, survivor.getItemQuantity("stick"));
+        assertEquals(0.2f, survivor.getItemWeight("stick"), 1e-5f);
+        assertSame(survivor.getItem(0), survivor.findItem("stick", Material.class));
+    }
+
+    @Test
+    public void sameNameOfAnotherClassGetsItsOwnStack() {
+        survivor.insertItemInInventory(Material.createBerryBush());
+        survivor.insertItemInInventory(Food.createBerry());
+
+        assertEquals(2, survivor.getInventorySize());
+        assertEquals(2, survivor.getItemQuantity("Berry"));
+        assertTrue(survivor.findItem("Berry", Food.class) instanceof Food);
+        assertSame(survivor.getItem(0), survivor.findItem("Berry", Material.class));
+    }
+
+    @Test
+    public void lookupsIgnoreCase() {
+        survivor.insertItemInInventory(Material.createSmallRock());
+
+        assertEquals(1, survivor.getItemQuantity("ROCK"));
+        assertNotNull(survivor.findItem("Rock", Material.class));
+        assertNull(survivor.findItem("rock", Food.class));
+        assertEquals(0, survivor.getItemQuantity("wood"));
+    }
+
+    @Test
+    public void removalTakesOldestStacksFirst() {
+        Material first = Material.createStick();
+        first.setQuantity(2);
+        survivor.insertItemInInventory(first);
+        survivor.getInventory().add(Material.createStick()); // A second stack, added behind the index's back
+        survivor.getItem(1).setQuantity(3);
+
+        assertEquals(5, survivor.getItemQuantity("stick"));
+        assertFalse(survivor.removeItemQuantity("stick", 6));
+        assertTrue(survivor.removeItemQuantity("stick", 3));
+        assertEquals(1, survivor.getInventorySize());
+        assertEquals(2, survivor.getItemQuantity("stick"));
+        assertNotSame(first, survivor.findItem("stick", Material.class));
+    }
+
+    @Test
+    public void directArrayChangesTriggerRebuild() {
+        survivor.insertItemInInventory(Material.createStick());
+        survivor.getInventory().add(Material.createCoin());
+        assertEquals(1, survivor.getItemQuantity("Coin"));
+
+        survivor.getInventory().removeIndex(0);
+        assertEquals(0, survivor.getItemQuantity("stick"));
+        assertNull(survivor.findItem("stick", Material.class));
+
+        survivor.dropItem(survivor.findItem("coin", Material.class));
+        assertTrue(survivor.isInventoryEmpty());
+        assertEquals(0f, survivor.getItemWeight("coin"), 0f);
+    }
+}
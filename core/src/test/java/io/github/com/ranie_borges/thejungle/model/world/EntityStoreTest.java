@@ -0,0 +1,123 @@
+package io.github.com.ranie_borges.thejungle.model.world;
+
+import io.github.com.ranie_borges.thejungle.model.entity.creatures.Deer;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.enums.EntityKind;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EntityStoreTest {
+    private static final float TILE = 32f;
+
+    private EntityStore store;
+
+    @Before
+    public void setUp() {
+        store = new EntityStore(20, 20, TILE);
+    }
+
+    private static Material material(String name, int tileX, int tileY) {
+        Material material = new Material(name, 1f, 1f, "misc", 0f);
+        material.setPosition(tileX * TILE, tileY * TILE);
+        return material;
+    }
+
+    @Test
+    public void addFillsSlotsInInsertionOrder() {
+        Material rock = material("Rock", 1, 2);
+        Deer deer = new Deer();
+        deer.setPosition(3 * TILE, 4 * TILE);
+        store.add(rock);
+        store.add(deer);
+        store.add(rock); // Already stored
+
+        assertEquals(2, store.size());
+        assertSame(rock, store.get(0));
+        assertSame(deer, store.get(1));
+        assertEquals(EntityKind.MATERIAL, store.getKind(0));
+        assertEquals(EntityKind.DEER, store.getKind(1));
+        assertEquals(TILE, store.getX(0), 0f);
+        assertEquals(2 * TILE, store.getY(0), 0f);
+        assertEquals(EntityKind.DEER.getDrawSize(), store.getSize(1), 0f);
+        assertEquals((TILE - EntityKind.DEER.getDrawSize()) / 2f, store.getDrawOffsetX(1), 0f);
+    }
+
+    @Test
+    public void treesAreDrawnFourTilesTall() {
+        store.add(material("Tree", 0, 0));
+        assertEquals(4 * TILE, store.getSize(0), 0f);
+        assertEquals(0f, store.getDrawOffsetY(0), 0f);
+    }
+
+    @Test
+    public void removeCompactsSlotsAndKeepsOrderPastGrowth() {
+        List<Material> materials = new ArrayList<>();
+        for (int i = 0; i < 150; i++) { // More than the initial capacity
+            Material material = material("M" + i, i % 20, i / 20);
+            materials.add(material);
+            store.add(material);
+        }
+        for (int i = 0; i < materials.size(); i += 2) {
+            store.remove(materials.get(i));
+        }
+
+        assertEquals(75, store.size());
+        for (int slot = 0; slot < store.size(); slot++) {
+            Material expected = materials.get(slot * 2 + 1);
+            assertSame(expected, store.get(slot));
+            assertEquals(expected.getPosition().x, store.getX(slot), 0f);
+            assertEquals(expected.getPosition().y, store.getY(slot), 0f);
+        }
+        assertFalse(store.contains(materials.get(0)));
+        assertTrue(store.contains(materials.get(1)));
+
+        // Slots stay consistent after compaction, so later removals hit the right entity
+        store.remove(materials.get(149));
+        store.remove(materials.get(1));
+        assertEquals(73, store.size());
+        assertSame(materials.get(3), store.get(0));
+        assertSame(materials.get(147), store.get(72));
+    }
+
+    @Test
+    public void removedEntitiesLeaveTheSpatialIndex() {
+        Material kept = material("Kept", 5, 5);
+        Material removed = material("Removed", 5, 6);
+        store.add(kept);
+        store.add(removed);
+        store.remove(removed);
+        store.remove(removed); // Unknown entities are ignored
+
+        List<Material> found = store.queryRadius(5 * TILE, 5 * TILE, 3 * TILE, Material.class, new ArrayList<>());
+        assertEquals(List.of(kept), found);
+        assertTrue(store.queryTile(5, 6, Material.class, new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void updateCopiesTheNewPosition() {
+        Deer deer = new Deer();
+        deer.setPosition(0, 0);
+        store.add(deer);
+        deer.setPosition(10 * TILE, 10 * TILE);
+        store.update(deer);
+
+        assertEquals(10 * TILE, store.getX(0), 0f);
+        assertSame(deer, store.findNearest(10 * TILE, 10 * TILE, TILE, Deer.class));
+        assertNull(store.findNearest(0, 0, TILE, Deer.class));
+    }
+
+    @Test
+    public void clearEmptiesTheStore() {
+        store.add(material("Rock", 1, 1));
+        store.add(new Deer());
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertNull(store.findNearest(0, 0, 10 * TILE, Deer.class));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.com.ranie_borges.thejungle.model.world;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.com.ranie_borges.thejungle.model.entity.interfaces.IPositioned;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpatialIndexTest {
+    private static final float TILE = 32f;
+
+    private static class Point implements IPositioned {
+        final Vector2 position;
+
+        Point(float x, float y) {
+            position = new Vector2(x, y);
+        }
+
+        @Override
+        public Vector2 getPosition() {
+            return position;
+        }
+    }
+
+    private static class OtherPoint extends Point {
+        OtherPoint(float x, float y) {
+            super(x, y);
+        }
+    }
+
+    private SpatialIndex index;
+
+    @Before
+    public void setUp() {
+        index = new SpatialIndex(10, 10, TILE);
+    }
+
+    @Test
+    public void queryRadiusFindsEntitiesAcrossCellsAndSkipsFarOnes() {
+        Point center = new Point(5 * TILE, 5 * TILE);
+        Point neighbour = new Point(6 * TILE, 5 * TILE);
+        Point diagonal = new Point(4 * TILE, 4 * TILE);
+        Point far = new Point(9 * TILE, 9 * TILE);
+        index.addAll(List.of(center, neighbour, diagonal, far));
+
+        List<Point> found = index.queryRadius(5 * TILE, 5 * TILE, 2 * TILE, Point.class, new ArrayList<>());
+        assertEquals(3, found.size());
+        assertTrue(found.containsAll(List.of(center, neighbour, diagonal)));
+        assertFalse(found.contains(far));
+    }
+
+    @Test
+    public void queryRadiusFiltersByTypeAndExcludesTheBoundary() {
+        Point point = new Point(0, 0);
+        OtherPoint other = new OtherPoint(TILE, 0);
+        index.add(point);
+        index.add(other);
+
+        assertEquals(List.of(other), index.queryRadius(0, 0, 2 * TILE, OtherPoint.class, new ArrayList<>()));
+        // Exactly one tile away is not closer than a radius of one tile
+        assertEquals(List.of(point), index.queryRadius(0, 0, TILE, Point.class, new ArrayList<>()));
+    }
+
+    @Test
+    public void findNearestPicksTheClosestWithinRadius() {
+        Point near = new Point(3 * TILE, 3 * TILE);
+        Point nearer = new Point(2 * TILE, 2 * TILE + 4);
+        index.add(near);
+        index.add(nearer);
+
+        assertSame(nearer, index.findNearest(2 * TILE, 2 * TILE, 3 * TILE, Point.class));
+        assertNull(index.findNearest(8 * TILE, 8 * TILE, TILE, Point.class));
+    }
+
+    @Test
+    public void updateRefilesMovedEntities() {
+        Point point = new Point(TILE, TILE);
+        index.add(point);
+        assertEquals(1, index.queryTile(1, 1, Point.class, new ArrayList<>()).size());
+
+        point.getPosition().set(7 * TILE, 3 * TILE);
+        index.update(point);
+        assertTrue(index.queryTile(1, 1, Point.class, new ArrayList<>()).isEmpty());
+        assertEquals(List.of(point), index.queryTile(7, 3, Point.class, new ArrayList<>()));
+        assertSame(point, index.findNearest(7 * TILE, 3 * TILE, TILE, Point.class));
+    }
+
+    @Test
+    public void entitiesOffTheMapAreClampedToTheEdge() {
+        Point outside = new Point(-5 * TILE, 20 * TILE);
+        index.add(outside);
+        assertEquals(List.of(outside), index.queryTile(0, 9, Point.class, new ArrayList<>()));
+        assertTrue(index.queryTile(-1, 0, Point.class, new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void removeAndClearForgetEntities() {
+        Point a = new Point(0, 0);
+        Point b = new Point(TILE, 0);
+        index.add(a);
+        index.add(a); // Adding twice files it once
+        index.add(b);
+        assertEquals(2, index.size());
+
+        index.remove(a);
+        assertFalse(index.contains(a));
+        assertEquals(List.of(b), index.queryRadius(0, 0, 3 * TILE, Point.class, new ArrayList<>()));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.findNearest(0, 0, 5 * TILE, Point.class));
+    }
+}
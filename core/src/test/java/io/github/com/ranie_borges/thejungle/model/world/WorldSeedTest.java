@@ -0,0 +1,31 @@
+package io.github.com.ranie_borges.thejungle.model.world;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class WorldSeedTest {
+    @Test
+    public void derivedSeedsDoNotDependOnPurposeOrder() {
+        // Pinned values: a new or removed purpose must not change the seeds of existing worlds
+        WorldSeed seed = new WorldSeed(42);
+        assertEquals(4705330284115405357L, seed.derive("Jungle", 3, WorldSeed.Purpose.MAP));
+        assertEquals(6188288835820648101L, seed.derive("Jungle", 3, WorldSeed.Purpose.CAVE_DOORS));
+        assertEquals(7179184014138711756L, seed.derive("Jungle", 3, WorldSeed.Purpose.SPAWNS));
+        assertEquals(-747481607171034956L, seed.derive("Jungle", 3, WorldSeed.Purpose.PLAYER_SPAWN));
+        assertEquals(778001169775310085L, seed.derive("Jungle", 3, WorldSeed.Purpose.AMBIENT_ROTATION));
+        assertEquals(-8796829339108503811L, seed.derive("Jungle", 3, WorldSeed.Purpose.EVENTS));
+    }
+
+    @Test
+    public void everyPurposeGetsItsOwnStream() {
+        WorldSeed seed = new WorldSeed(7);
+        Set<Long> seeds = new HashSet<>();
+        for (WorldSeed.Purpose purpose : WorldSeed.Purpose.values()) {
+            assertTrue(purpose.name(), seeds.add(seed.derive("Lake River", 0, purpose)));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.com.ranie_borges.thejungle.view.helpers;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FrameTimeHistogramTest {
+    private static final long MS = 1_000_000L;
+    private static final float BUCKET_MS = FrameTimeHistogram.BUCKET_MICROS / 1000f;
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        assertEquals(0f, histogram.percentileMillis(99), 0f);
+        assertEquals(0f, histogram.getMeanMillis(), 0f);
+        assertEquals(0L, histogram.getCount());
+    }
+
+    @Test
+    public void percentilesResolveToBucketUpperEdge() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        // 1..100 ms, one frame each, a bit past the start of each bucket
+        for (int ms = 1; ms <= 100; ms++) {
+            histogram.record(ms * MS + 10_000);
+        }
+
+        assertEquals(50 + BUCKET_MS, histogram.percentileMillis(50), 1e-4f);
+        assertEquals(90 + BUCKET_MS, histogram.percentileMillis(90), 1e-4f);
+        assertEquals(99 + BUCKET_MS, histogram.percentileMillis(99), 1e-4f);
+        assertEquals(1 + BUCKET_MS, histogram.percentileMillis(1), 1e-4f);
+        // The last bucket's edge is past the slowest frame, so it is capped
+        assertEquals(histogram.getMaxMillis(), histogram.percentileMillis(100), 0f);
+        assertEquals(50.51f, histogram.getMeanMillis(), 1e-3f);
+        assertEquals(100, histogram.getCount());
+    }
+
+    @Test
+    public void percentilesFollowTheDistribution() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        for (int i = 0; i < 990; i++) {
+            histogram.record(16 * MS);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(40 * MS);
+        }
+
+        assertEquals(16 + BUCKET_MS, histogram.percentileMillis(50), 1e-4f);
+        assertEquals(16 + BUCKET_MS, histogram.percentileMillis(99), 1e-4f);
+        assertEquals(40f, histogram.percentileMillis(99.9), 1e-4f);
+        assertEquals(40f, histogram.getMaxMillis(), 0f);
+    }
+
+    @Test
+    public void slowFramesGoToTheOverflowBucket() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        histogram.record(5 * MS);
+        histogram.record(1000 * MS);
+        histogram.record(-1);
+
+        int overflow = histogram.getBucketCount() - 1;
+        assertEquals(1, histogram.getBucket(overflow));
+        assertEquals(1, histogram.getBucket(0));
+        assertEquals(1000f, histogram.getMaxMillis(), 0f);
+        assertEquals(1000f, histogram.percentileMillis(100), 0f);
+        assertEquals(5 + BUCKET_MS, histogram.percentileMillis(60), 1e-4f);
+    }
+
+    @Test
+    public void resetClearsEverything() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        histogram.record(20 * MS);
+        histogram.record(500 * MS);
+        histogram.reset();
+
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0f, histogram.getMaxMillis(), 0f);
+        assertEquals(0f, histogram.percentileMillis(50), 0f);
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            assertEquals(0L, histogram.getBucket(i));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.com.ranie_borges.thejungle.simulator;
+
+import io.github.com.ranie_borges.thejungle.controller.SimulationController;
+import io.github.com.ranie_borges.thejungle.controller.input.ScriptedInput;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.Jungle;
+
+import java.util.Random;
+
+/**
+ * Plays one seeded world from the first map until the character dies or the day limit is reached.
+ * <p>
+ * On each map the policy plays {@code ticksPerMap} frames (or until it walks through a door), then
+ * the character leaves through a door. Runners hold no per-run state, so one can be shared by
+ * every worker thread.
+ */
+public class PlaythroughRunner {
+    private final int maxDays;
+    private final int ticksPerMap;
+    private final float tickSeconds;
+
+    /**
+     * @param maxDays Days after which a surviving character stops
+     * @param ticksPerMap Frames played on each map before leaving it
+     * @param tickSeconds Simulated time of one frame
+     */
+    public PlaythroughRunner(int maxDays, int ticksPerMap, float tickSeconds) {
+        this.maxDays = maxDays;
+        this.ticksPerMap = ticksPerMap;
+        this.tickSeconds = tickSeconds;
+    }
+
+    public RunResult run(Profession profession, long seed) {
+        Character character = profession.create(profession.name());
+        SurvivalPolicy.Pilot pilot = profession.getPolicy()
+            .newPilot(new WorldSeed(seed).random("policy", 0, WorldSeed.Purpose.POLICY));
+        ScriptedInput input = new ScriptedInput();
+        SimulationController simulation = null;
+        int itemsCollected = 0;
+        try {
+            simulation = new SimulationController(character, new Jungle(), seed, input);
+            simulation.setAmbientChooser(pilot);
+
+            while (!simulation.isGameOver() && simulation.getDaysSurvived() < maxDays) {
+                int mapsBefore = simulation.getMapsVisited();
+                for (int t = 0; t < ticksPerMap && !simulation.isGameOver()
+                    && simulation.getMapsVisited() == mapsBefore; t++) {
+                    pilot.manageInventory(character);
+                    input.pushFrame(pilot.nextFrame(simulation));
+                    input.advance();
+
+                    int carriedBefore = carriedQuantity(character);
+                    float thirstBefore = character.getThirsty();
+                    simulation.tick(tickSeconds);
+                    itemsCollected += Math.max(0, carriedQuantity(character) - carriedBefore);
+                    if (character.getThirsty() > thirstBefore) {
+                        pilot.countDrink();
+                    }
+                }
+                if (simulation.getMapsVisited() == mapsBefore) {
+                    simulation.leaveMap();
+                }
+            }
+            return result(profession, seed, simulation, pilot, itemsCollected, null);
+        } catch (RuntimeException e) {
+            return result(profession, seed, simulation, pilot, itemsCollected,
+                e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private static RunResult result(Profession profession, long seed, SimulationController simulation,
+                                    SurvivalPolicy.Pilot pilot, int itemsCollected, String error) {
+        if (simulation == null) {
+            return new RunResult(profession, seed, 0, null, 0, 0, 0, 0, 0, 0, error);
+        }
+        return new RunResult(profession, seed, simulation.getDaysSurvived(), simulation.getCauseOfDeath(),
+            simulation.getTicks(), simulation.getMapsVisited(), itemsCollected,
+            pilot.getFoodEaten(), pilot.getDrinks(), pilot.getMedicineUsed(), error);
+    }
+
+    private static int carriedQuantity(Character character) {
+        int total = 0;
+        for (Item item : character.getInventory()) {
+            if (item != null) {
+                total += item.getQuantity();
+            }
+        }
+        return total;
+    }
+}
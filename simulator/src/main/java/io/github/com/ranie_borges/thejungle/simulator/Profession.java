@@ -0,0 +1,36 @@
+package io.github.com.ranie_borges.thejungle.simulator;
+
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Doctor;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Hunter;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Lumberjack;
+import io.github.com.ranie_borges.thejungle.model.entity.characters.Survivor;
+
+import java.util.function.Function;
+
+/**
+ * Playable professions with the scripted policy each one is simulated with
+ */
+public enum Profession {
+    // eat, drink, heal thresholds; interact and fish chance per frame; preferred ambient
+    SURVIVOR(name -> new Survivor(name, 0, 0), new SurvivalPolicy(50f, 50f, 40f, 0.05f, 0.02f, null)),
+    HUNTER(name -> new Hunter(name, 0, 0), new SurvivalPolicy(40f, 50f, 35f, 0.04f, 0.08f, "Lake River")),
+    LUMBERJACK(name -> new Lumberjack(name, 0, 0), new SurvivalPolicy(50f, 45f, 40f, 0.08f, 0.01f, "Jungle")),
+    DOCTOR(name -> new Doctor(name, 0, 0), new SurvivalPolicy(55f, 55f, 60f, 0.05f, 0.02f, "Jungle"));
+
+    private final Function<String, Character> factory;
+    private final SurvivalPolicy policy;
+
+    Profession(Function<String, Character> factory, SurvivalPolicy policy) {
+        this.factory = factory;
+        this.policy = policy;
+    }
+
+    public Character create(String name) {
+        return factory.apply(name);
+    }
+
+    public SurvivalPolicy getPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.com.ranie_borges.thejungle.simulator;
+
+import io.github.com.ranie_borges.thejungle.model.enums.DeathCause;
+
+/**
+ * Outcome of one simulated playthrough
+ *
+ * @param causeOfDeath Null if the character was alive when the day limit was reached
+ * @param error Message of the exception that aborted the run, or null
+ */
+public record RunResult(Profession profession, long seed, int daysSurvived, DeathCause causeOfDeath,
+                        long ticks, int mapsVisited, int itemsCollected, int foodEaten, int drinks,
+                        int medicineUsed, String error) {
+
+    public boolean died() {
+        return causeOfDeath != null;
+    }
+
+    public boolean failed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.com.ranie_borges.thejungle.simulator;
+
+import io.github.com.ranie_borges.thejungle.model.enums.DeathCause;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Aggregates run results per profession: days survived, causes of death and resource usage
+ */
+public class SimulationReport {
+    private final Map<Profession, List<RunResult>> results = new EnumMap<>(Profession.class);
+
+    public void add(RunResult result) {
+        results.computeIfAbsent(result.profession(), p -> new ArrayList<>()).add(result);
+    }
+
+    public void addAll(List<RunResult> runResults) {
+        for (RunResult result : runResults) {
+            add(result);
+        }
+    }
+
+    public void print(PrintStream out, long elapsedMillis) {
+        int total = results.values().stream().mapToInt(List::size).sum();
+        out.printf(Locale.ROOT, "%d runs in %.1f s (%.0f runs/s)%n", total, elapsedMillis / 1000.0,
+            elapsedMillis > 0 ? total * 1000.0 / elapsedMillis : 0);
+        for (Map.Entry<Profession, List<RunResult>> entry : results.entrySet()) {
+            printProfession(out, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void printProfession(PrintStream out, Profession profession, List<RunResult> runs) {
+        int[] days = runs.stream().filter(r -> !r.failed()).mapToInt(RunResult::daysSurvived).sorted().toArray();
+        long failed = runs.stream().filter(RunResult::failed).count();
+        Map<DeathCause, Integer> causes = new EnumMap<>(DeathCause.class);
+        int alive = 0;
+        for (RunResult run : runs) {
+            if (run.failed()) continue;
+            if (run.died()) {
+                causes.merge(run.causeOfDeath(), 1, Integer::sum);
+            } else {
+                alive++;
+            }
+        }
+
+        out.printf(Locale.ROOT, "%n== %s (%d runs) ==%n", profession, runs.size());
+        if (days.length > 0) {
+            out.printf(Locale.ROOT, "Days survived: mean %.2f, median %d, p10 %d, p90 %d, max %d%n",
+                Arrays.stream(days).average().orElse(0), percentile(days, 50), percentile(days, 10),
+                percentile(days, 90), days[days.length - 1]);
+        }
+        out.printf(Locale.ROOT, "Alive at day limit: %s%n", share(alive, days.length));
+        for (Map.Entry<DeathCause, Integer> cause : causes.entrySet()) {
+            out.printf(Locale.ROOT, "Died of %s: %s%n", cause.getKey(), share(cause.getValue(), days.length));
+        }
+        out.printf(Locale.ROOT, "Per run: %.1f maps, %.1f items collected, %.1f food, %.1f drinks, %.1f medicine%n",
+            mean(runs, RunResult::mapsVisited), mean(runs, RunResult::itemsCollected),
+            mean(runs, RunResult::foodEaten), mean(runs, RunResult::drinks), mean(runs, RunResult::medicineUsed));
+        if (failed > 0) {
+            out.printf(Locale.ROOT, "Aborted by errors: %d (first: %s)%n", failed,
+                runs.stream().filter(RunResult::failed).findFirst().map(RunResult::error).orElse(""));
+        }
+    }
+
+    private static int percentile(int[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String share(int count, int total) {
+        return String.format(Locale.ROOT, "%d (%.1f%%)", count, total > 0 ? count * 100.0 / total : 0);
+    }
+
+    private static double mean(List<RunResult> runs, ToIntFunction<RunResult> metric) {
+        return runs.stream().filter(r -> !r.failed()).mapToInt(metric).average().orElse(0);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.com.ranie_borges.thejungle.simulator;
+
+import io.github.com.ranie_borges.thejungle.model.world.WorldSeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs independent simulated playthroughs on every core and prints aggregated survival statistics.
+ * <p>
+ * Options (all optional): {@code --runs=N --profession=all|survivor|hunter|lumberjack|doctor
+ * --days=MAX --seed=S --threads=T --map-seconds=S --tick=SECONDS --csv=FILE}.
+ * Run {@code i} plays the world seeded by {@code (seed, i)} with profession {@code i mod #professions},
+ * so the same options always give the same worlds.
+ */
+public class SimulatorLauncher {
+    private static final Logger logger = LoggerFactory.getLogger(SimulatorLauncher.class);
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "1000"));
+        int maxDays = Integer.parseInt(options.getOrDefault("days", "30"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        float mapSeconds = Float.parseFloat(options.getOrDefault("map-seconds", "30"));
+        float tickSeconds = Float.parseFloat(options.getOrDefault("tick", "0.05"));
+        List<Profession> professions = parseProfessions(options.getOrDefault("profession", "all"));
+
+        PlaythroughRunner runner = new PlaythroughRunner(maxDays, Math.max(1, Math.round(mapSeconds / tickSeconds)), tickSeconds);
+        WorldSeed rootSeed = new WorldSeed(seed);
+        logger.info("Simulating {} runs of {} on {} threads (seed {}, up to {} days)", runs, professions, threads, seed, maxDays);
+
+        long start = System.nanoTime();
+        List<RunResult> results;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            results = pool.submit(() -> IntStream.range(0, runs).parallel()
+                .mapToObj(i -> runner.run(professions.get(i % professions.size()),
+                    rootSeed.derive("run", i, WorldSeed.Purpose.RUN)))
+                .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        SimulationReport report = new SimulationReport();
+        report.addAll(results);
+        report.print(System.out, elapsedMillis);
+
+        if (options.containsKey("csv")) {
+            writeCsv(Path.of(options.get("csv")), results);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static List<Profession> parseProfessions(String value) {
+        if ("all".equalsIgnoreCase(value)) {
+            return List.of(Profession.values());
+        }
+        List<Profession> professions = new ArrayList<>();
+        for (String name : value.split(",")) {
+            professions.add(Profession.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+        }
+        return professions;
+    }
+
+    private static void writeCsv(Path file, List<RunResult> results) {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("profession,seed,days,cause,ticks,maps,collected,food,drinks,medicine,error");
+            for (RunResult r : results) {
+                out.printf(Locale.ROOT, "%s,%d,%d,%s,%d,%d,%d,%d,%d,%d,%s%n", r.profession(), r.seed(), r.daysSurvived(),
+                    r.died() ? r.causeOfDeath() : "", r.ticks(), r.mapsVisited(), r.itemsCollected(),
+                    r.foodEaten(), r.drinks(), r.medicineUsed(), r.failed() ? '"' + r.error().replace('"', '\'') + '"' : "");
+            }
+            logger.info("Per-run results written to {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+}
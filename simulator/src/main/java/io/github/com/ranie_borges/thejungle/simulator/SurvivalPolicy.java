@@ -0,0 +1,321 @@
+package io.github.com.ranie_borges.thejungle.simulator;
+
+import io.github.com.ranie_borges.thejungle.controller.SimulationController;
+import io.github.com.ranie_borges.thejungle.model.entity.Character;
+import io.github.com.ranie_borges.thejungle.model.entity.Item;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Drinkable;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Food;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Material;
+import io.github.com.ranie_borges.thejungle.model.entity.itens.Medicine;
+import io.github.com.ranie_borges.thejungle.model.enums.PlayerAction;
+import io.github.com.ranie_borges.thejungle.model.world.Ambient;
+import io.github.com.ranie_borges.thejungle.model.world.ambients.LakeRiver;
+import io.github.com.ranie_borges.thejungle.view.interfaces.UI;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Scripted way of playing: wander in straight runs, press interact and fish at random, and eat,
+ * drink or heal as soon as a stat falls under its threshold.
+ * <p>
+ * Water only comes from the lakes of Lake River (no drinkable items spawn), so thirst drives the
+ * route: on a Lake River map a thirsty pilot walks to the nearest water tile and drinks until
+ * quenched, and when a cycle ends it picks, or stays in, Lake River while thirsty. A hungry pilot
+ * with no food walks to the nearest berry bush and picks it.
+ * <p>
+ * A policy only holds its settings and is shared by every run of a profession; per-run state
+ * lives in the {@link Pilot} returned by {@link #newPilot(Random)}.
+ */
+public final class SurvivalPolicy {
+    private static final PlayerAction[] DIRECTIONS = {
+        PlayerAction.MOVE_UP, PlayerAction.MOVE_DOWN, PlayerAction.MOVE_LEFT, PlayerAction.MOVE_RIGHT
+    };
+    private static final int MIN_WALK_FRAMES = 10;
+    private static final int MAX_WALK_FRAMES = 60;
+    private static final float PREFERRED_AMBIENT_CHANCE = 0.7f;
+    // Thirst at which a pilot on a Lake River map goes to drink, and at which it stops
+    private static final float LAKE_DRINK_BELOW = 80f;
+    private static final float QUENCHED = 95f;
+    // Thirst under which Lake River is picked when a cycle ends; one cycle elsewhere costs about 65
+    private static final float SEEK_WATER_BELOW = 90f;
+    private static final int DETOUR_FRAMES = 15;
+    // Hunger margin above the eat threshold at which a pilot with no food starts foraging
+    private static final float FORAGE_MARGIN = 20f;
+    // Inside the radius Character.tryCollectNearbyMaterial collects from
+    private static final float PICK_RADIUS = UI.TILE_SIZE * 0.6f;
+
+    private final float eatBelow;
+    private final float drinkBelow;
+    private final float healBelow;
+    private final float interactChance;
+    private final float fishChance;
+    private final String preferredAmbient;
+
+    /**
+     * @param preferredAmbient Ambient picked most of the time when offered, or null to choose at random
+     */
+    public SurvivalPolicy(float eatBelow, float drinkBelow, float healBelow,
+                          float interactChance, float fishChance, String preferredAmbient) {
+        this.eatBelow = eatBelow;
+        this.drinkBelow = drinkBelow;
+        this.healBelow = healBelow;
+        this.interactChance = interactChance;
+        this.fishChance = fishChance;
+        this.preferredAmbient = preferredAmbient;
+    }
+
+    public Pilot newPilot(Random random) {
+        return new Pilot(random);
+    }
+
+    /**
+     * Plays one run with this policy and counts the resources it used
+     */
+    public final class Pilot implements SimulationController.AmbientChooser {
+        private final Random random;
+        private PlayerAction direction;
+        private int walkFramesLeft;
+        private float thirst = 100f;
+        private boolean drinking;
+        private boolean interactHeld;
+        private float lastX = Float.NaN;
+        private float lastY = Float.NaN;
+        private int detourFramesLeft;
+        private final List<Material> nearby = new ArrayList<>();
+
+        private int foodEaten;
+        private int drinks;
+        private int medicineUsed;
+
+        private Pilot(Random random) {
+            this.random = random;
+        }
+
+        /**
+         * @return Actions held during the next frame
+         */
+        public Set<PlayerAction> nextFrame(SimulationController simulation) {
+            Set<PlayerAction> frame = EnumSet.noneOf(PlayerAction.class);
+            if (simulation.getSnakeEvents().isWaitingForSpace()) {
+                frame.add(PlayerAction.CONFIRM);
+                return frame;
+            }
+            Character character = simulation.getCharacter();
+            thirst = character.getThirsty();
+            boolean atLake = simulation.getAmbient() instanceof LakeRiver;
+            if (!atLake || thirst >= QUENCHED) {
+                drinking = false;
+            } else if (thirst < LAKE_DRINK_BELOW) {
+                drinking = true;
+            }
+            if (drinking && goDrink(simulation, character, frame)) {
+                return frame;
+            }
+            if (character.getHunger() < eatBelow + FORAGE_MARGIN && find(character, Food.class, null) == null
+                && goForage(simulation, character, frame)) {
+                return frame;
+            }
+            detourFramesLeft = 0; // A detour only makes sense on the way to an errand
+            if (walkFramesLeft <= 0) {
+                direction = random.nextFloat() < 0.2f ? null : DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                walkFramesLeft = MIN_WALK_FRAMES + random.nextInt(MAX_WALK_FRAMES - MIN_WALK_FRAMES + 1);
+            }
+            walkFramesLeft--;
+            if (direction != null) {
+                frame.add(direction);
+            }
+            if (random.nextFloat() < interactChance) {
+                frame.add(PlayerAction.INTERACT);
+            }
+            if (simulation.getAmbient() instanceof LakeRiver && random.nextFloat() < fishChance) {
+                frame.add(PlayerAction.FISH);
+            }
+            return frame;
+        }
+
+        /**
+         * Walk to the nearest water tile, or press interact on alternate frames once standing on one
+         *
+         * @return false if the map has no water
+         */
+        private boolean goDrink(SimulationController simulation, Character character, Set<PlayerAction> frame) {
+            int[][] map = simulation.getMap();
+            float x = character.getPosition().x;
+            float y = character.getPosition().y;
+            // Same tile the controller checks for water when interact is pressed
+            int tileX = (int) ((x + UI.TILE_SIZE / 2f) / UI.TILE_SIZE);
+            int tileY = (int) ((y + UI.TILE_SIZE / 2f) / UI.TILE_SIZE);
+            if (tileY >= 0 && tileY < map.length && tileX >= 0 && tileX < map[tileY].length
+                && map[tileY][tileX] == UI.TILE_WATER) {
+                interactHeld = !interactHeld; // Released in between, so every press counts
+                if (interactHeld) {
+                    frame.add(PlayerAction.INTERACT);
+                }
+                return true;
+            }
+            int[] water = nearestWater(map, tileX, tileY);
+            if (water == null) {
+                return false;
+            }
+            walkTowards(character, water[0] * UI.TILE_SIZE, water[1] * UI.TILE_SIZE, frame);
+            return true;
+        }
+
+        /**
+         * Walk to the nearest berry bush, or press interact on alternate frames once next to it
+         *
+         * @return false if the map has no berry bush left
+         */
+        private boolean goForage(SimulationController simulation, Character character, Set<PlayerAction> frame) {
+            int[][] map = simulation.getMap();
+            float x = character.getPosition().x;
+            float y = character.getPosition().y;
+            float mapRadius = (map.length + map[0].length) * UI.TILE_SIZE;
+            Material bush = null;
+            float bestDistance = Float.MAX_VALUE;
+            for (Material material : simulation.getEntities().queryRadius(x, y, mapRadius, Material.class, nearby)) {
+                float distance = material.getPosition().dst2(x, y);
+                if ("Berry".equalsIgnoreCase(material.getName()) && distance < bestDistance) {
+                    bush = material;
+                    bestDistance = distance;
+                }
+            }
+            nearby.clear();
+            if (bush == null) {
+                return false;
+            }
+            if (bestDistance < PICK_RADIUS * PICK_RADIUS) {
+                interactHeld = !interactHeld;
+                if (interactHeld) {
+                    frame.add(PlayerAction.INTERACT);
+                }
+                return true;
+            }
+            walkTowards(character, bush.getPosition().x, bush.getPosition().y, frame);
+            return true;
+        }
+
+        // Step along the axis with the larger gap to the target, side-stepping for a while when a wall blocks it
+        private void walkTowards(Character character, float targetX, float targetY, Set<PlayerAction> frame) {
+            float x = character.getPosition().x;
+            float y = character.getPosition().y;
+            boolean stuck = x == lastX && y == lastY;
+            lastX = x;
+            lastY = y;
+            if (stuck && detourFramesLeft <= 0) {
+                direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                detourFramesLeft = DETOUR_FRAMES;
+            }
+            if (detourFramesLeft > 0) {
+                detourFramesLeft--;
+            } else {
+                float dx = targetX - x;
+                float dy = targetY - y;
+                direction = Math.abs(dx) >= Math.abs(dy)
+                    ? (dx > 0 ? PlayerAction.MOVE_RIGHT : PlayerAction.MOVE_LEFT)
+                    : (dy > 0 ? PlayerAction.MOVE_UP : PlayerAction.MOVE_DOWN);
+            }
+            walkFramesLeft = 0; // Pick a fresh wandering run once the errand is done
+            frame.add(direction);
+        }
+
+        /**
+         * Use at most one item, for the most urgent need
+         */
+        public void manageInventory(Character character) {
+            if (character.getLife() < healBelow) {
+                Item medicine = find(character, Medicine.class, "Medicinal");
+                if (medicine != null) {
+                    character.useItem(medicine);
+                    medicineUsed++;
+                    return;
+                }
+            }
+            if (character.getThirsty() < drinkBelow) {
+                Item drinkable = find(character, Drinkable.class, null);
+                if (drinkable != null) {
+                    character.useItem(drinkable);
+                    drinks++;
+                    return;
+                }
+            }
+            if (character.getHunger() < eatBelow) {
+                Item food = find(character, Food.class, null);
+                if (food != null) {
+                    character.useItem(food);
+                    foodEaten++;
+                }
+            }
+        }
+
+        /**
+         * Count a drink that did not come from the inventory, e.g. from a lake
+         */
+        public void countDrink() {
+            drinks++;
+        }
+
+        @Override
+        public Ambient choose(Ambient cycleCompleted, List<Ambient> options, Random choiceRandom) {
+            if (thirst < SEEK_WATER_BELOW) {
+                if (cycleCompleted instanceof LakeRiver) {
+                    return null;
+                }
+                for (Ambient option : options) {
+                    if (option instanceof LakeRiver) {
+                        return option;
+                    }
+                }
+            }
+            if (preferredAmbient != null && random.nextFloat() < PREFERRED_AMBIENT_CHANCE) {
+                if (cycleCompleted != null && preferredAmbient.equals(cycleCompleted.getName())) {
+                    return null;
+                }
+                for (Ambient option : options) {
+                    if (preferredAmbient.equals(option.getName())) {
+                        return option;
+                    }
+                }
+            }
+            return SimulationController.RANDOM_CHOICE.choose(cycleCompleted, options, choiceRandom);
+        }
+
+        public int getFoodEaten() { return foodEaten; }
+        public int getDrinks() { return drinks; }
+        public int getMedicineUsed() { return medicineUsed; }
+    }
+
+    // Water tile closest to the given tile, as {x, y}, or null if there is none
+    private static int[] nearestWater(int[][] map, int fromX, int fromY) {
+        int[] best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int y = 0; y < map.length; y++) {
+            for (int x = 0; x < map[y].length; x++) {
+                if (map[y][x] != UI.TILE_WATER) {
+                    continue;
+                }
+                int distance = Math.abs(x - fromX) + Math.abs(y - fromY);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = new int[] { x, y };
+                }
+            }
+        }
+        return best;
+    }
+
+    // Items of a type, or raw materials with the given name (medicinal plants heal like medicine)
+    private static Item find(Character character, Class<? extends Item> type, String materialName) {
+        for (Item item : character.getInventory()) {
+            if (type.isInstance(item)
+                || (materialName != null && item instanceof Material && materialName.equalsIgnoreCase(item.getName()))) {
+                return item;
+            }
+        }
+        return null;
+    }
+}